@@ -0,0 +1,61 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.benchmark;
+
+import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
+import com.nhnacademy.daisobatch.entity.coupon.CouponPolicy;
+import com.nhnacademy.daisobatch.entity.coupon.UserCoupon;
+import com.nhnacademy.daisobatch.processor.coupon.BirthdayCouponProcessor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 생일 쿠폰 Processor의 UserCoupon 빌더 경로 건당 비용 (발급/만료 시각 계산 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BirthdayCouponProcessorBenchmark {
+
+    private BirthdayCouponProcessor processor;
+    private BirthdayUserDto item;
+
+    @Setup
+    public void setUp() {
+        CouponPolicy birthdayPolicy = CouponPolicy.builder()
+                .couponPolicyId(4L)
+                .couponPolicyName("생일 쿠폰")
+                .build();
+
+        processor = new BirthdayCouponProcessor(birthdayPolicy);
+        item = new BirthdayUserDto(1L);
+    }
+
+    @Benchmark
+    public UserCoupon process() {
+        return processor.process(item);
+    }
+
+}
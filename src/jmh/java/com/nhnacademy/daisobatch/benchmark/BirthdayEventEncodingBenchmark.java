@@ -0,0 +1,84 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.benchmark;
+
+import com.nhnacademy.daisobatch.client.BirthdayCouponBulkEvent;
+import com.nhnacademy.daisobatch.publisher.BirthdayCouponEventMessageConverter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+/**
+ * 생일 쿠폰 이벤트(ID 1000건) 형식별 인코딩 / 디코딩 시간
+ * 메시지 크기는 Setup에서 형식별로 한 번 출력 (json / compact / compact-deflate)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BirthdayEventEncodingBenchmark {
+
+    @Param({"json", "compact", "compact-deflate"})
+    private String format;
+
+    @Param({"1000"})
+    private int size;
+
+    private BirthdayCouponEventMessageConverter converter;
+    private BirthdayCouponBulkEvent event;
+    private Message encoded;
+
+    @Setup
+    public void setUp() {
+        converter = new BirthdayCouponEventMessageConverter(new Jackson2JsonMessageConverter(),
+                format.startsWith("compact"), format.endsWith("deflate"));
+
+        // 키셋 커서 결과처럼 정렬된 ID, 탈퇴 / 조건 미달 회원만큼 간격이 있음
+        long[] ids = new long[size];
+        long id = 1_000_000L;
+        for (int i = 0; i < size; i++) {
+            id += 1 + ThreadLocalRandom.current().nextInt(200);
+            ids[i] = id;
+        }
+        event = new BirthdayCouponBulkEvent(ids, "birthday-2025-05-01-" + ids[0]);
+        encoded = converter.toMessage(event, new MessageProperties());
+
+        System.out.printf("%n[%s] %d ids -> %d bytes%n", format, size, encoded.getBody().length);
+    }
+
+    @Benchmark
+    public Message encode() {
+        return converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decode() {
+        return converter.fromMessage(encoded);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.benchmark;
+
+import com.nhnacademy.daisobatch.cache.GradePolicy;
+import com.nhnacademy.daisobatch.cache.GradePolicy.GradeThreshold;
+import com.nhnacademy.daisobatch.dto.user.GradeCalculationDto;
+import com.nhnacademy.daisobatch.dto.user.GradeChangeDto;
+import com.nhnacademy.daisobatch.processor.user.GradeChangeProcessor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 등급 산정 Processor 건당 비용
+ * - resolveGradeId: 기준 금액 비교만
+ * - buildReason: String.format 사유 문자열 생성
+ * - processChanged / processUnchanged: 등급 변경 대상 / 변경 없음(null 반환) 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeChangeProcessorBenchmark {
+
+    private GradePolicy gradePolicy;
+    private GradeChangeProcessor processor;
+
+    private GradeCalculationDto changedItem;
+    private GradeCalculationDto unchangedItem;
+
+    @Setup
+    public void setUp() {
+        gradePolicy = new GradePolicy(List.of(
+                new GradeThreshold(4L, 300_000L),
+                new GradeThreshold(3L, 200_000L),
+                new GradeThreshold(2L, 100_000L)
+        ), 1L);
+        processor = new GradeChangeProcessor(gradePolicy);
+
+        changedItem = new GradeCalculationDto(1L, 1L, 250_000L);     // GENERAL > GOLD
+        unchangedItem = new GradeCalculationDto(2L, 1L, 50_000L);    // GENERAL 유지
+    }
+
+    @Benchmark
+    public Long resolveGradeId() {
+        return gradePolicy.resolveGradeId(changedItem.netAmount());
+    }
+
+    @Benchmark
+    public String buildReason() {
+        return GradeChangeProcessor.buildReason(changedItem.netAmount());
+    }
+
+    @Benchmark
+    public GradeChangeDto processChanged() {
+        return processor.process(changedItem);
+    }
+
+    @Benchmark
+    public GradeChangeDto processUnchanged() {
+        return processor.process(unchangedItem);
+    }
+
+}
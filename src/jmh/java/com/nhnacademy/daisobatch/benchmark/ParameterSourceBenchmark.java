@@ -0,0 +1,180 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.benchmark;
+
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import com.nhnacademy.daisobatch.dto.user.GradeChangeDto;
+import com.nhnacademy.daisobatch.entity.coupon.CouponPolicy;
+import com.nhnacademy.daisobatch.entity.coupon.UserCoupon;
+import com.nhnacademy.daisobatch.type.CouponStatus;
+import com.nhnacademy.daisobatch.writer.coupon.UserCouponPreparedStatementSetter;
+import com.nhnacademy.daisobatch.writer.user.DormantStatusPreparedStatementSetter;
+import com.nhnacademy.daisobatch.writer.user.GradeChangePreparedStatementSetter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.database.BeanPropertyItemSqlParameterSourceProvider;
+import org.springframework.batch.item.database.ItemSqlParameterSourceProvider;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+/**
+ * JdbcBatchItemWriter / BulkInsertItemWriter 파라미터 바인딩 건당 비용 (-prof gc의 gc.alloc.rate.norm으로 할당 비교)
+ * 이름 기반 경로는 Writer가 아이템마다 하는 일(파라미터 소스 생성 + 값 배열 변환 + setObject 바인딩)을 그대로 재현
+ * - gradeBeanMapped / gradePreparedStatementSetter: beanMapped() (BeanWrapper 리플렉션) vs 위치 기반
+ * - dormantMapSqlParameterSource / dormantPreparedStatementSetter: HashMap + MapSqlParameterSource vs 위치 기반
+ * - userCouponValuesArray / userCouponPreparedStatementSetter: BulkInsertItemWriter JDBC_BATCH의 Object[] vs 위치 기반
+ * 바인딩 대상은 실제 드라이버(H2)의 PreparedStatement (실행은 하지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterSourceBenchmark {
+
+    private static final String GRADE_SQL =
+            "UPDATE Users SET current_grade_id = :gradeId WHERE user_created_id = :userCreatedId";
+    private static final String DORMANT_SQL =
+            "UPDATE Accounts SET current_status_id = :statusId WHERE login_id = :loginId AND last_login_at = :lastLoginAt";
+    private static final String USER_COUPON_SQL = "INSERT INTO user_coupons (" +
+            String.join(", ", UserCouponPreparedStatementSetter.COLUMNS) + ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    private Connection connection;
+    private PreparedStatement gradeStatement;
+    private PreparedStatement dormantStatement;
+    private PreparedStatement userCouponStatement;
+
+    private ItemSqlParameterSourceProvider<GradeChangeDto> gradeProvider;
+    private GradeChangePreparedStatementSetter gradeSetter;
+    private DormantStatusPreparedStatementSetter dormantSetter;
+    private UserCouponPreparedStatementSetter userCouponSetter;
+
+    private ParsedSql gradeSql;
+    private ParsedSql dormantSql;
+
+    private GradeChangeDto gradeItem;
+    private DormantAccountDto dormantItem;
+    private UserCoupon userCouponItem;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:parameter_benchmark;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE Users (user_created_id BIGINT PRIMARY KEY, current_grade_id BIGINT)");
+            statement.execute("CREATE TABLE Accounts (login_id VARCHAR(50) PRIMARY KEY, " +
+                    "current_status_id BIGINT, last_login_at TIMESTAMP)");
+            statement.execute("CREATE TABLE user_coupons (user_created_id BIGINT, coupon_policy_id BIGINT, " +
+                    "status VARCHAR(20), issue_at TIMESTAMP, expiry_at TIMESTAMP, used_at TIMESTAMP)");
+        }
+
+        // Writer는 SQL을 한 번만 파싱 / 준비해 재사용
+        gradeSql = NamedParameterUtils.parseSqlStatement(GRADE_SQL);
+        dormantSql = NamedParameterUtils.parseSqlStatement(DORMANT_SQL);
+        gradeStatement = connection.prepareStatement(NamedParameterUtils.substituteNamedParameters(gradeSql, null));
+        dormantStatement = connection.prepareStatement(NamedParameterUtils.substituteNamedParameters(dormantSql, null));
+        userCouponStatement = connection.prepareStatement(USER_COUPON_SQL);
+
+        gradeProvider = new BeanPropertyItemSqlParameterSourceProvider<>();
+        gradeSetter = new GradeChangePreparedStatementSetter();
+        dormantSetter = new DormantStatusPreparedStatementSetter(2L);
+        userCouponSetter = new UserCouponPreparedStatementSetter();
+
+        gradeItem = new GradeChangeDto(1L, 3L, "최근 3개월 순수 구매액 250000원 기준 등급 조정");
+        dormantItem = new DormantAccountDto("user1", LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+        userCouponItem = UserCoupon.builder()
+                .couponPolicy(CouponPolicy.builder().couponPolicyId(4L).couponPolicyName("생일 쿠폰").build())
+                .userId(1L)
+                .status(CouponStatus.ISSUED)
+                .issuedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .expiryAt(LocalDateTime.of(2025, 1, 31, 23, 59, 59))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public PreparedStatement gradeBeanMapped() throws SQLException {
+        Object[] values = NamedParameterUtils.buildValueArray(
+                gradeSql, gradeProvider.createSqlParameterSource(gradeItem), null);
+        return bind(gradeStatement, values);
+    }
+
+    @Benchmark
+    public PreparedStatement gradePreparedStatementSetter() throws SQLException {
+        gradeSetter.setValues(gradeItem, gradeStatement);
+        return gradeStatement;
+    }
+
+    @Benchmark
+    public PreparedStatement dormantMapSqlParameterSource() throws SQLException {
+        // 기존 DormantStatusParameterSourceProvider와 동일한 생성 경로
+        Map<String, Object> params = new HashMap<>();
+        params.put("statusId", 2L);
+        params.put("loginId", dormantItem.loginId());
+        params.put("lastLoginAt", dormantItem.lastLoginAt());
+
+        Object[] values = NamedParameterUtils.buildValueArray(dormantSql, new MapSqlParameterSource(params), null);
+        return bind(dormantStatement, values);
+    }
+
+    @Benchmark
+    public PreparedStatement dormantPreparedStatementSetter() throws SQLException {
+        dormantSetter.setValues(dormantItem, dormantStatement);
+        return dormantStatement;
+    }
+
+    @Benchmark
+    public PreparedStatement userCouponValuesArray() throws SQLException {
+        return bind(userCouponStatement, UserCouponPreparedStatementSetter.values(userCouponItem));
+    }
+
+    @Benchmark
+    public PreparedStatement userCouponPreparedStatementSetter() throws SQLException {
+        userCouponSetter.setValues(userCouponItem, userCouponStatement);
+        return userCouponStatement;
+    }
+
+    // JdbcTemplate이 값 배열을 바인딩하는 방식 (타입 미지정 > setObject 계열)
+    private static PreparedStatement bind(PreparedStatement ps, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+        }
+        return ps;
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.benchmark;
+
+import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import com.nhnacademy.daisobatch.dto.user.GradeCalculationDto;
+import com.nhnacademy.daisobatch.mapper.coupon.BirthdayUserRowMapper;
+import com.nhnacademy.daisobatch.mapper.user.DormantAccountRowMapper;
+import com.nhnacademy.daisobatch.mapper.user.GradeCalculationRowMapper;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Reader RowMapper 건당 비용 (컬럼 조회 + 값 변환 + DTO 생성)
+ * 네트워크 비용을 빼기 위해 H2 메모리 DB 조회 결과(ResultSet)의 첫 행에 고정해 두고 반복 매핑
+ * - *ByName: 행마다 컬럼 이름으로 조회 + Timestamp > LocalDateTime 변환 (기존 방식 기준선)
+ * - 그 외: ColumnIndexRowMapper (ResultSet마다 인덱스 1회 결정 + getObject(LocalDateTime))
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    private final GradeCalculationRowMapper gradeRowMapper = new GradeCalculationRowMapper();
+    private final DormantAccountRowMapper dormantRowMapper = new DormantAccountRowMapper();
+    private final BirthdayUserRowMapper birthdayRowMapper = new BirthdayUserRowMapper();
+
+    private final RowMapper<GradeCalculationDto> gradeByNameRowMapper = (rs, rowNum) -> new GradeCalculationDto(
+            rs.getLong("user_created_id"),
+            rs.getLong("current_grade_id"),
+            rs.getLong("net_amount"));
+    private final RowMapper<DormantAccountDto> dormantByNameRowMapper = (rs, rowNum) -> new DormantAccountDto(
+            rs.getString("login_id"),
+            rs.getTimestamp("last_login_at").toLocalDateTime(),
+            rs.getLong("current_status_id"));
+    private final RowMapper<BirthdayUserDto> birthdayByNameRowMapper = (rs, rowNum) ->
+            new BirthdayUserDto(rs.getLong("user_created_id"));
+
+    private Connection connection;
+
+    private ResultSet gradeResultSet;
+    private ResultSet dormantResultSet;
+    private ResultSet birthdayResultSet;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:row_mapper_benchmark;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE Grades (user_created_id BIGINT, current_grade_id BIGINT, net_amount BIGINT)");
+            statement.execute("INSERT INTO Grades VALUES (1, 1, 250000)");
+            statement.execute("CREATE TABLE Accounts (login_id VARCHAR(50), last_login_at TIMESTAMP, " +
+                    "current_status_id BIGINT)");
+            statement.execute("INSERT INTO Accounts VALUES ('user1', TIMESTAMP '2025-01-01 00:00:00', 1)");
+        }
+
+        // ResultSet 3개를 동시에 열어두기 위해 Statement를 따로 사용
+        gradeResultSet = connection.createStatement()
+                .executeQuery("SELECT user_created_id, current_grade_id, net_amount FROM Grades");
+        gradeResultSet.next();
+
+        dormantResultSet = connection.createStatement()
+                .executeQuery("SELECT login_id, last_login_at, current_status_id FROM Accounts");
+        dormantResultSet.next();
+
+        birthdayResultSet = connection.createStatement()
+                .executeQuery("SELECT user_created_id AS user_created_id FROM Grades");
+        birthdayResultSet.next();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public GradeCalculationDto gradeCalculation() throws SQLException {
+        return gradeRowMapper.mapRow(gradeResultSet, 0);
+    }
+
+    @Benchmark
+    public DormantAccountDto dormantAccount() throws SQLException {
+        return dormantRowMapper.mapRow(dormantResultSet, 0);
+    }
+
+    @Benchmark
+    public BirthdayUserDto birthdayUser() throws SQLException {
+        return birthdayRowMapper.mapRow(birthdayResultSet, 0);
+    }
+
+    @Benchmark
+    public GradeCalculationDto gradeCalculationByName() throws SQLException {
+        return gradeByNameRowMapper.mapRow(gradeResultSet, 0);
+    }
+
+    @Benchmark
+    public DormantAccountDto dormantAccountByName() throws SQLException {
+        return dormantByNameRowMapper.mapRow(dormantResultSet, 0);
+    }
+
+    @Benchmark
+    public BirthdayUserDto birthdayUserByName() throws SQLException {
+        return birthdayByNameRowMapper.mapRow(birthdayResultSet, 0);
+    }
+
+}
@@ -1,30 +1,56 @@
 package com.nhnacademy.daisobatch.batch.coupon;
 
+import com.nhnacademy.daisobatch.cache.IssuedCouponBitmapCache;
+import com.nhnacademy.daisobatch.cache.ReferenceDataCache;
+import com.nhnacademy.daisobatch.cache.UserIdBitmap;
 import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
 import com.nhnacademy.daisobatch.entity.coupon.CouponPolicy;
 import com.nhnacademy.daisobatch.entity.coupon.UserCoupon;
+import com.nhnacademy.daisobatch.listener.BatchMetricsListener;
 import com.nhnacademy.daisobatch.listener.JobFailureNotificationListener;
+import com.nhnacademy.daisobatch.listener.ReferenceDataRefreshListener;
 import com.nhnacademy.daisobatch.listener.coupon.BirthdayChunkListener;
 import com.nhnacademy.daisobatch.listener.coupon.BirthdaySkipListener;
-import com.nhnacademy.daisobatch.repository.coupon.CouponPolicyJdbcRepository;
+import com.nhnacademy.daisobatch.mapper.coupon.BirthdayUserRowMapper;
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import com.nhnacademy.daisobatch.partitioner.KeyRangePartitioner;
+import com.nhnacademy.daisobatch.partitioner.RemotePartitionHandlerFactory;
+import com.nhnacademy.daisobatch.policy.AdaptiveChunkSizePolicy;
+import com.nhnacademy.daisobatch.policy.AdaptiveChunkSizePolicyFactory;
+import com.nhnacademy.daisobatch.policy.BirthdayIssueWindow;
+import com.nhnacademy.daisobatch.processor.coupon.BirthdayCouponProcessor;
+import com.nhnacademy.daisobatch.reader.JdbcLongIdBlockReader;
+import com.nhnacademy.daisobatch.reader.KeysetCheckpointItemReader;
+import com.nhnacademy.daisobatch.reader.MeteredJdbcPagingItemReader;
+import com.nhnacademy.daisobatch.reader.PrefetchingItemReader;
+import com.nhnacademy.daisobatch.repository.coupon.IssuedCouponJdbcRepository;
+import com.nhnacademy.daisobatch.type.BirthdayIssueMode;
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
 import com.nhnacademy.daisobatch.type.CouponStatus;
+import com.nhnacademy.daisobatch.type.user.Status;
+import com.nhnacademy.daisobatch.writer.BulkInsertItemWriter;
+import com.nhnacademy.daisobatch.writer.LongIdInsertItemWriter;
+import com.nhnacademy.daisobatch.writer.coupon.UserCouponPreparedStatementSetter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.database.JdbcBatchItemWriter;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.Order;
-import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,11 +59,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.TransientDataAccessException;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class BirthdayCouponBatchDB {
@@ -46,34 +74,153 @@ public class BirthdayCouponBatchDB {
 
     private final BirthdayChunkListener birthdayChunkListener;
     private final BirthdaySkipListener birthdaySkipListener;
-    private final CouponPolicyJdbcRepository couponPolicyJdbcRepository;
+    private final BatchMetricsListener batchMetricsListener;
+    private final ReferenceDataCache referenceDataCache;
+    private final IssuedCouponBitmapCache issuedCouponBitmapCache;
+    private final IssuedCouponJdbcRepository issuedCouponJdbcRepository;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
-
-    // Processor에서 재사용할 쿠폰 쟁책 캐시
-    private CouponPolicy birthdayPolicy;
+    private final MeterRegistry meterRegistry;
+    private final RemotePartitionHandlerFactory remotePartitionHandlerFactory;
+    private final AdaptiveChunkSizePolicyFactory adaptiveChunkSizePolicyFactory;
 
     private final JobFailureNotificationListener jobFailureNotificationListener;
+    private final ReferenceDataRefreshListener referenceDataRefreshListener;
+
+    @Value("${batch.birthday.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch.prefetch.enabled:false}")
+    private boolean prefetchEnabled;
+
+    @Value("${batch.prefetch.buffer-size:1000}")
+    private int prefetchBufferSize;
+
+    @Value("${batch.birthday.id-pipeline.enabled:false}")
+    private boolean idPipelineEnabled;
+
+    @Value("${batch.birthday.birth-month-index.enabled:false}")
+    private boolean birthMonthIndexEnabled;
+
+    @Value("${batch.birthday.issue-mode:MONTHLY}")
+    private BirthdayIssueMode defaultIssueMode;
+
+    @Value("${batch.birthday.daily.window-days:7}")
+    private int windowDays;
+
+    @Value("${batch.birthday.issued-bitmap.enabled:false}")
+    private boolean issuedBitmapEnabled;
+
+    @Value("${batch.birthday.partition.enabled:false}")
+    private boolean partitionEnabled;
+
+    @Value("${batch.birthday.partition.grid-size:4}")
+    private int gridSize;
+
+    @Value("${batch.birthday.partition.thread-count:4}")
+    private int threadCount;
+
+    @Value("${batch.bulk-insert.mode:JDBC_BATCH}")
+    private BulkInsertMode bulkInsertMode;
+
+    @Value("${batch.bulk-insert.rows-per-statement:500}")
+    private int rowsPerStatement;
 
     // 1. Job 정의
     @Bean(name = "birthdayCouponJobDB")
-    public Job birthdayCouponJobDB(@Qualifier("birthdayCouponStepDB") Step step) {
+    public Job birthdayCouponJobDB(@Qualifier("birthdayCouponStepDB") Step step,
+                                   @Qualifier("birthdayCouponIdStepDB") Step idStep,
+                                   @Qualifier("birthdayCouponPartitionStepDB") Step partitionStep) {
+        Step singleStep = idPipelineEnabled ? idStep : step;   // ID 전용 모드면 페이지 단위 long[] Step
+
         return new JobBuilder("birthdayCouponJobDB", jobRepository)
-                .start(step)
+                .start(partitionEnabled ? partitionStep : singleStep)   // 파티션 모드면 Manager Step으로 시작
                 .listener(jobFailureNotificationListener)
+                .listener(referenceDataRefreshListener) // 실행마다 쿠폰 정책 / 상태 새로 로딩
                 .build();
     }
 
     // 2. Step 정의
     @Bean(name = "birthdayCouponStepDB")
     public Step birthdayCouponStepDB(
-            @Qualifier("birthdayUserReaderDB") JdbcPagingItemReader<BirthdayUserDto> reader,
+            @Qualifier("birthdayUserReaderDB") ItemStreamReader<BirthdayUserDto> reader,
             @Qualifier("birthdayUserProcessorDB") ItemProcessor<BirthdayUserDto, UserCoupon> processor,
-            @Qualifier("birthdayUserJdbcWriterDB") JdbcBatchItemWriter<UserCoupon> writer
+            @Qualifier("birthdayUserJdbcWriterDB") ItemWriter<UserCoupon> writer
+    ) {
+        return buildBirthdayCouponStepDB("birthdayCouponStepDB", reader, processor, writer);
+    }
+
+    // 2-1. Step (ID 전용): 아이템 1건 = 조회 페이지 1개, Processor 없이 ID 배열을 바로 INSERT
+    @Bean(name = "birthdayCouponIdStepDB")
+    public Step birthdayCouponIdStepDB(
+            @Qualifier("birthdayUserIdReaderDB") ItemStreamReader<LongIdBlock> reader,
+            @Qualifier("birthdayUserIdFilterDB") ItemProcessor<LongIdBlock, LongIdBlock> filter,
+            @Qualifier("birthdayUserIdWriterDB") ItemWriter<LongIdBlock> writer
     ) {
-        return new StepBuilder("birthdayCouponStepDB", jobRepository)
-                .<BirthdayUserDto, UserCoupon>chunk(1000, transactionManager)
+        return buildBirthdayCouponIdStepDB("birthdayCouponIdStepDB", reader, filter, writer);
+    }
+
+    // 2-2. Manager Step (파티션 모드): Users의 user_created_id 범위로 분할해 Worker Step 병렬 / 원격 실행
+    @Bean(name = "birthdayCouponPartitionStepDB")
+    public Step birthdayCouponPartitionStepDB(@Qualifier("birthdayCouponWorkerStepDB") Step workerStep) {
+        PartitionStepBuilder builder = new StepBuilder("birthdayCouponPartitionStepDB", jobRepository)
+                .partitioner("birthdayCouponWorkerStepDB", birthdayCouponPartitionerDB());
+
+        if (remotePartitionHandlerFactory.isEnabled()) {
+            // 파티션 요청을 큐로 보내고 모든 인스턴스의 Worker가 나눠 처리, 결과는 JobRepository에서 수집
+            return builder
+                    .partitionHandler(remotePartitionHandlerFactory.create("birthdayCouponWorkerStepDB", gridSize))
+                    .build();
+        }
+
+        return builder
+                .step(workerStep)
+                .gridSize(gridSize)
+                .taskExecutor(birthdayCouponTaskExecutorDB())   // 파티션별 Worker Step 병렬 실행
+                .build();
+    }
+
+    // Worker Step: 파티션 범위(minId / maxId)는 StepScope Reader가 stepExecutionContext에서 읽음
+    @Bean(name = "birthdayCouponWorkerStepDB")
+    public Step birthdayCouponWorkerStepDB(
+            @Qualifier("birthdayUserReaderDB") ItemStreamReader<BirthdayUserDto> reader,
+            @Qualifier("birthdayUserProcessorDB") ItemProcessor<BirthdayUserDto, UserCoupon> processor,
+            @Qualifier("birthdayUserJdbcWriterDB") ItemWriter<UserCoupon> writer,
+            @Qualifier("birthdayUserIdReaderDB") ItemStreamReader<LongIdBlock> idReader,
+            @Qualifier("birthdayUserIdFilterDB") ItemProcessor<LongIdBlock, LongIdBlock> idFilter,
+            @Qualifier("birthdayUserIdWriterDB") ItemWriter<LongIdBlock> idWriter
+    ) {
+        if (idPipelineEnabled) {
+            return buildBirthdayCouponIdStepDB("birthdayCouponWorkerStepDB", idReader, idFilter, idWriter);
+        }
+        return buildBirthdayCouponStepDB("birthdayCouponWorkerStepDB", reader, processor, writer);
+    }
+
+    @Bean(name = "birthdayCouponPartitionerDB")
+    public Partitioner birthdayCouponPartitionerDB() {
+        return new KeyRangePartitioner(new JdbcTemplate(dataSource), "Users", "user_created_id");
+    }
+
+    @Bean(name = "birthdayCouponTaskExecutorDB")
+    public ThreadPoolTaskExecutor birthdayCouponTaskExecutorDB() {
+        // 스레드 수와 대기열을 제한해 커넥션 풀 고갈 방지
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setQueueCapacity(gridSize);
+        executor.setThreadNamePrefix("birthday-partition-");
+        return executor;
+    }
+
+    private Step buildBirthdayCouponStepDB(String stepName,
+                                           ItemStreamReader<BirthdayUserDto> reader,
+                                           ItemProcessor<BirthdayUserDto, UserCoupon> processor,
+                                           ItemWriter<UserCoupon> writer) {
+        AdaptiveChunkSizePolicy chunkSizePolicy = adaptiveChunkSizePolicyFactory.create(chunkSize);
+
+        return new StepBuilder(stepName, jobRepository)
+                .<BirthdayUserDto, UserCoupon>chunk(chunkSizePolicy, transactionManager)
                 .reader(reader)
                 .processor(processor)
                 .writer(writer)
@@ -92,108 +239,300 @@ public class BirthdayCouponBatchDB {
 
                 .listener(birthdayChunkListener) // 생일 쿠폰 배치에서 chunk 단위로 성공/실패/진행 상황을 알려주는 로그 감시자
                 .listener(birthdaySkipListener)
+                .listener(chunkSizePolicy) // 커밋 시간에 맞춰 Chunk 크기 조절 (락 대기 / 재시도 실패 시 축소)
+                .listener(batchMetricsListener) // 처리 건수 / Chunk 소요 시간 지표
+                .build();
+    }
+
+    private Step buildBirthdayCouponIdStepDB(String stepName,
+                                             ItemStreamReader<LongIdBlock> reader,
+                                             ItemProcessor<LongIdBlock, LongIdBlock> filter,
+                                             ItemWriter<LongIdBlock> writer) {
+        return new StepBuilder(stepName, jobRepository)
+                .<LongIdBlock, LongIdBlock>chunk(1, transactionManager)
+                .reader(reader)
+                .processor(filter)  // 발급 비트맵 모드가 아니면 그대로 통과
+                .writer(writer)
+
+                // 중복 발급은 INSERT IGNORE로 걸러지므로 Skip 없이 일시적 DB 오류만 재시도
+                .faultTolerant()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(3)
+
+                .listener(batchMetricsListener) // 처리 건수(페이지 단위) / Chunk 소요 시간 지표
                 .build();
     }
 
     // 3. Reader (DB 직접 조회 + 페이징)
     @Bean(name = "birthdayUserReaderDB")
     @StepScope
-    public JdbcPagingItemReader<BirthdayUserDto> birthdayUserReaderDB(
-            @Value("#{jobParameters['currentMonth']}") Integer currentMonth
+    public ItemStreamReader<BirthdayUserDto> birthdayUserReaderDB(
+            @Value("#{jobParameters['currentMonth']}") Integer currentMonth,
+            @Value("#{jobParameters['issueMode']}") String issueMode,
+            @Value("#{jobParameters['baseDate']}") String baseDate,
+            @Value("#{stepExecutionContext['minId']}") Long minId,      // 파티션 모드일 때만 존재
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
     ) {
         int month = (currentMonth != null)
                 ? currentMonth
                 : LocalDate.now().getMonthValue();
+        BirthdayIssueWindow window = issueWindow(issueMode, baseDate);   // MONTHLY면 null
+        boolean issuedBitmap = issuedBitmapActive();    // Processor와 같은 판단 (유니크 키가 없으면 NOT EXISTS 유지)
+
+        boolean partitioned = (minId != null && maxId != null);
+
+        // 커밋된 마지막 user_created_id를 저장 > 재시작 시 그 다음 회원부터 조회 (PrefetchingItemReader는 위치를 저장하지 않음)
+        return new KeysetCheckpointItemReader<>("birthdayUserReaderDB", BirthdayUserDto::getUserCreatedId, lastId -> {
+            MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+            queryProvider.setSelectClause("SELECT DISTINCT u.user_created_id AS user_created_id");
+
+            queryProvider.setFromClause("""
+                FROM Users u
+                INNER JOIN Accounts a
+                    ON a.user_created_id = u.user_created_id
+            """);
+            queryProvider.setWhereClause("""
+                WHERE %s
+                  AND a.current_status_id = :statusId
+                  %s
+            """.formatted(birthdayCondition(window, ":month", ":fromMonthDay", ":toMonthDay"),
+                    notIssuedCondition(issuedBitmap, ":policyId"))
+                    + (partitioned ? " AND u.user_created_id BETWEEN :minId AND :maxId" : "")   // 파티션 범위 제한
+                    + (lastId != null ? " AND u.user_created_id > :lastUserCreatedId" : "")); // 재시작 시 마지막 키 다음부터
 
-        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
-        queryProvider.setSelectClause("SELECT DISTINCT u.user_created_id AS user_created_id");
-
-        queryProvider.setFromClause("""
-            FROM Users u
-            INNER JOIN Accounts a
-                ON a.user_created_id = u.user_created_id
-        """);
-        queryProvider.setWhereClause("""
-            WHERE u.birth IS NOT NULL
-              AND MONTH(u.birth) = :month
-              AND a.current_status_id = :statusId
-              AND NOT EXISTS (
-                  SELECT 1
-                  FROM user_coupons uc
-                  WHERE uc.user_created_id = u.user_created_id
-                    AND uc.coupon_policy_id = :policyId
-              )
-        """);
-
-        Map<String, Order> sortKeys = new LinkedHashMap<>();
-        sortKeys.put("u.user_created_id", Order.ASCENDING);
-        queryProvider.setSortKeys(sortKeys);
-
-        Map<String, Object> params = new HashMap<>();
-        params.put("month", month);
-        params.put("statusId", 1); // ACTIVE
-        params.put("policyId", BIRTHDAY_POLICY_ID);
-
-        return new JdbcPagingItemReaderBuilder<BirthdayUserDto>()
-                .name("birthdayUserReaderDB")
+            Map<String, Order> sortKeys = new LinkedHashMap<>();
+            sortKeys.put("u.user_created_id", Order.ASCENDING);
+            queryProvider.setSortKeys(sortKeys);
+
+            Map<String, Object> params = new HashMap<>();
+            if (window != null) {
+                params.put("fromMonthDay", window.fromMonthDay());
+                params.put("toMonthDay", window.toMonthDay());
+            } else {
+                params.put("month", month);
+            }
+            params.put("statusId", referenceDataCache.getStatusId(Status.ACTIVE));
+            if (!issuedBitmap) {
+                params.put("policyId", BIRTHDAY_POLICY_ID);
+            }
+            if (partitioned) {
+                params.put("minId", minId);
+                params.put("maxId", maxId);
+            }
+            if (lastId != null) {
+                params.put("lastUserCreatedId", lastId);
+            }
+
+            // 페이지 조회 시간을 지표로 남기는 페이징 Reader
+            MeteredJdbcPagingItemReader<BirthdayUserDto> reader = new MeteredJdbcPagingItemReader<>(meterRegistry);
+            reader.setName("birthdayUserReaderDB");
+            reader.setDataSource(dataSource);
+            reader.setQueryProvider(queryProvider);
+            reader.setParameterValues(params);
+            reader.setPageSize(5000);
+            reader.setFetchSize(5000);
+            reader.setSaveState(false);     // 재시작 위치는 페이지 번호가 아닌 마지막 키로 관리 (KeysetCheckpointItemReader)
+            reader.setRowMapper(new BirthdayUserRowMapper());
+
+            // 다음 페이지를 현재 Chunk 쓰기와 겹쳐서 미리 조회
+            return prefetchEnabled ? new PrefetchingItemReader<>(reader, "birthdayUserReaderDB", prefetchBufferSize) : reader;
+        });
+    }
+
+    // 3-1. Reader (ID 전용): user_created_id 키셋 페이징으로 ID만 long[]에 바로 읽음
+    @Bean(name = "birthdayUserIdReaderDB")
+    @StepScope
+    public JdbcLongIdBlockReader birthdayUserIdReaderDB(
+            @Value("#{jobParameters['currentMonth']}") Integer currentMonth,
+            @Value("#{jobParameters['issueMode']}") String issueMode,
+            @Value("#{jobParameters['baseDate']}") String baseDate,
+            @Value("#{stepExecutionContext['minId']}") Long minId,      // 파티션 모드일 때만 존재
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
+        int month = (currentMonth != null)
+                ? currentMonth
+                : LocalDate.now().getMonthValue();
+        BirthdayIssueWindow window = issueWindow(issueMode, baseDate);   // MONTHLY면 null
+        boolean issuedBitmap = issuedBitmapActive();
+
+        // 파티션 범위가 없으면 전체 범위
+        long lowerId = (minId != null) ? minId : Long.MIN_VALUE;
+        long upperId = (maxId != null) ? maxId : Long.MAX_VALUE;
+
+        // 생일 조건 파라미터가 SQL 맨 앞 > MONTHLY: month / DAILY: from, to
+        List<Object> parameters = new ArrayList<>();
+        if (window != null) {
+            parameters.add(window.fromMonthDay());
+            parameters.add(window.toMonthDay());
+        } else {
+            parameters.add(month);
+        }
+        parameters.add(referenceDataCache.getStatusId(Status.ACTIVE));
+        if (!issuedBitmap) {
+            parameters.add(BIRTHDAY_POLICY_ID);
+        }
+        parameters.addAll(List.of(lowerId, upperId));
+
+        return JdbcLongIdBlockReader.builder()
                 .dataSource(dataSource)
-                .queryProvider(queryProvider)
-                .parameterValues(params)
+                .name("birthdayUserIdReaderDB")
+                .sql("""
+                    SELECT DISTINCT u.user_created_id
+                    FROM Users u
+                    INNER JOIN Accounts a
+                        ON a.user_created_id = u.user_created_id
+                    WHERE %s
+                      AND a.current_status_id = ?
+                      %s
+                      AND u.user_created_id BETWEEN ? AND ?
+                      AND u.user_created_id > ?
+                    ORDER BY u.user_created_id
+                    LIMIT ?
+                """.formatted(birthdayCondition(window, "?", "?", "?"), notIssuedCondition(issuedBitmap, "?")))
+                .parameters(parameters)
                 .pageSize(5000)
-                .fetchSize(5000)
-                .rowMapper((rs, rowNum) ->
-                        new BirthdayUserDto(rs.getLong("user_created_id"))
-                )
+                .pageTimer(BatchMetrics.readerPageTimer(meterRegistry,
+                        BatchMetrics.currentJobName(), BatchMetrics.currentStepName(), "birthdayUserIdReaderDB"))
                 .build();
     }
 
-    // 4. Processor: DTO -> Entity 변환 (중복 발급 장지 + 정책 캐싱)
+    // 4. Processor: DTO -> Entity 변환 (정책은 기준 데이터 캐시에서 Step마다 1회 조회)
     @Bean(name = "birthdayUserProcessorDB")
     @StepScope
-    public ItemProcessor<BirthdayUserDto, UserCoupon> birthdayUserProcessorDB() {
-        if (birthdayPolicy == null) {
-            birthdayPolicy = couponPolicyJdbcRepository.findById(BIRTHDAY_POLICY_ID);
+    public ItemProcessor<BirthdayUserDto, UserCoupon> birthdayUserProcessorDB(
+            @Value("#{jobParameters['issueMode']}") String issueMode,
+            @Value("#{jobParameters['baseDate']}") String baseDate
+    ) {
+        BirthdayCouponProcessor processor = new BirthdayCouponProcessor(
+                referenceDataCache.getCouponPolicy(BIRTHDAY_POLICY_ID), expiryBaseDate(issueWindow(issueMode, baseDate)));
+        if (!issuedBitmapActive()) {
+            return processor;
         }
 
-        return item -> {
-            Long userId = item.getUserCreatedId();
+        // 이미 발급된 회원은 Step 시작 시 갱신한 발급 비트맵으로 걸러냄 (Reader의 NOT EXISTS 대신)
+        UserIdBitmap issued = issuedCouponBitmapCache.refresh(BIRTHDAY_POLICY_ID);
+        return item -> issued.contains(item.getUserCreatedId()) ? null : processor.process(item);
+    }
 
-            LocalDate now = LocalDate.now();
-            LocalDateTime issuedAt = LocalDateTime.now();
-            LocalDateTime expiryAt = now.withDayOfMonth(now.lengthOfMonth()).atTime(23, 59, 59);
+    // 4-1. Processor (ID 전용): 발급 비트맵 모드면 페이지에서 이미 발급된 회원 ID를 뺌 (모두 빠지면 페이지 skip)
+    @Bean(name = "birthdayUserIdFilterDB")
+    @StepScope
+    public ItemProcessor<LongIdBlock, LongIdBlock> birthdayUserIdFilterDB() {
+        if (!issuedBitmapActive()) {
+            return ids -> ids;
+        }
 
-            return UserCoupon.builder()
-                    .couponPolicy(birthdayPolicy)
-                    .userId(userId)
-                    .status(CouponStatus.ISSUED)
-                    .issuedAt(issuedAt)
-                    .expiryAt(expiryAt)
-                    .usedAt(null)
-                    .build();
+        UserIdBitmap issued = issuedCouponBitmapCache.refresh(BIRTHDAY_POLICY_ID);
+        return ids -> {
+            LongIdBlock notIssued = ids.filter(id -> !issued.contains(id));
+            return notIssued.isEmpty() ? null : notIssued;
         };
     }
 
-    // 5. Writer: DB에 저장 (null 제거 후 저장)
+    // 5. Writer: DB에 저장 (INSERT IGNORE로 이미 발급된 쿠폰은 건너뜀, 설정에 따라 다중 행 VALUES / LOAD DATA)
     @Bean(name = "birthdayUserJdbcWriterDB")
-    public JdbcBatchItemWriter<UserCoupon> birthdayUserJdbcWriterDB() {
-        return new JdbcBatchItemWriterBuilder<UserCoupon>()
+    public BulkInsertItemWriter<UserCoupon> birthdayUserJdbcWriterDB() {
+        return BulkInsertItemWriter.<UserCoupon>builder()
                 .dataSource(dataSource)
-                .sql("""
-                    INSERT IGNORE INTO user_coupons
-                      (user_created_id, coupon_policy_id, status, issue_at, expiry_at, used_at)
-                    VALUES
-                      (:userId, :couponPolicyId, :status, :issuedAt, :expiryAt, :usedAt)
-                """)
-                .itemSqlParameterSourceProvider(item -> {
-                    MapSqlParameterSource ps = new MapSqlParameterSource();
-                    ps.addValue("userId", item.getUserId());
-                    ps.addValue("couponPolicyId", item.getCouponPolicy().getCouponPolicyId());
-                    ps.addValue("status", item.getStatus().name());
-                    ps.addValue("issuedAt", item.getIssuedAt());
-                    ps.addValue("expiryAt", item.getExpiryAt());
-                    ps.addValue("usedAt", item.getUsedAt());
-                    return ps;
-                })
+                .table("user_coupons")
+                .columns(UserCouponPreparedStatementSetter.COLUMNS)
+                .valuesMapper(UserCouponPreparedStatementSetter::values)
+                .statementSetter(new UserCouponPreparedStatementSetter())   // JDBC_BATCH 모드: 값 배열 없이 바로 바인딩
+                .ignore(true)
+                .mode(bulkInsertMode)
+                .rowsPerStatement(rowsPerStatement)
+                .build();
+    }
+
+    // 5-1. Writer (ID 전용): 정책 / 발급일 / 만료일은 Step마다 1회 계산해 모든 행에 같은 값으로 바인딩
+    @Bean(name = "birthdayUserIdWriterDB")
+    @StepScope
+    public LongIdInsertItemWriter birthdayUserIdWriterDB(
+            @Value("#{jobParameters['issueMode']}") String issueMode,
+            @Value("#{jobParameters['baseDate']}") String baseDate
+    ) {
+        CouponPolicy policy = referenceDataCache.getCouponPolicy(BIRTHDAY_POLICY_ID);
+        LocalDateTime issuedAt = LocalDateTime.now();
+        LocalDate expiryBaseDate = expiryBaseDate(issueWindow(issueMode, baseDate));
+
+        Map<String, Object> constants = new LinkedHashMap<>();
+        constants.put("coupon_policy_id", policy.getCouponPolicyId());
+        constants.put("status", CouponStatus.ISSUED.name());
+        constants.put("issue_at", issuedAt);
+        constants.put("expiry_at", BirthdayCouponProcessor.expiryAt(
+                (expiryBaseDate != null) ? expiryBaseDate : issuedAt.toLocalDate()));
+
+        return LongIdInsertItemWriter.builder()
+                .dataSource(dataSource)
+                .table("user_coupons")
+                .idColumn("user_created_id")
+                .constants(constants)
+                .ignore(true)
+                .rowsPerStatement(rowsPerStatement)
                 .build();
     }
+
+    // DAILY 모드면 baseDate(기본 오늘)부터 window-days일 구간, MONTHLY 모드면 null (Job 파라미터 issueMode > 설정 순)
+    private BirthdayIssueWindow issueWindow(String issueMode, String baseDate) {
+        BirthdayIssueMode mode = (issueMode != null) ? BirthdayIssueMode.valueOf(issueMode) : defaultIssueMode;
+        if (mode != BirthdayIssueMode.DAILY) {
+            return null;
+        }
+
+        LocalDate date = (baseDate != null) ? LocalDate.parse(baseDate) : LocalDate.now();
+        return BirthdayIssueWindow.of(date, windowDays);
+    }
+
+    // DAILY 모드는 다음 달 초 생일자도 미리 받으므로 만료일을 구간 마지막 날이 속한 달의 말일로
+    private static LocalDate expiryBaseDate(BirthdayIssueWindow window) {
+        return (window != null) ? window.lastDate() : null;
+    }
+
+    // 생일 조건: DAILY면 생일 월일(MMDD)이 구간 안, MONTHLY면 생일 월이 month
+    private String birthdayCondition(BirthdayIssueWindow window, String monthParameter,
+                                     String fromParameter, String toParameter) {
+        if (window == null) {
+            return birthMonthCondition(monthParameter);
+        }
+
+        // 인덱스 모드면 생성 컬럼 birth_month_day로 (birth_month_day, user_created_id) 인덱스 범위 조회
+        String monthDay = birthMonthIndexEnabled
+                ? "u.birth_month_day"
+                : "(MONTH(u.birth) * 100 + DAYOFMONTH(u.birth))";
+        return (birthMonthIndexEnabled ? "" : "u.birth IS NOT NULL AND ")
+                + window.condition(monthDay, fromParameter, toParameter);
+    }
+
+    // 발급 비트맵 모드 사용 여부: 설정이 켜져 있고 user_coupons에 (user_created_id, coupon_policy_id) 유니크 키가 있을 때만
+    // 비트맵은 추가 전용이라 늦게 커밋된 작은 user_coupon_id / 삭제된 행을 못 봄 > 중복 발급 최종 방어인 유니크 키가 없으면 NOT EXISTS 유지
+    private boolean issuedBitmapActive() {
+        if (!issuedBitmapEnabled) {
+            return false;
+        }
+        if (issuedCouponJdbcRepository.hasUserPolicyUniqueKey()) {
+            return true;
+        }
+        log.warn("[BirthdayCouponBatchDB] user_coupons (user_created_id, coupon_policy_id) 유니크 키 없음 > 발급 비트맵 대신 NOT EXISTS 사용 " +
+                "(sql/coupon/user-coupon-unique-key-schema.sql 적용 필요)");
+        return false;
+    }
+
+    // 이미 발급된 회원 제외 조건: 발급 비트맵 모드면 Processor에서 거르므로 후보 행마다 도는 서브쿼리 생략
+    private String notIssuedCondition(boolean issuedBitmap, String policyParameter) {
+        return issuedBitmap ? "" : """
+                AND NOT EXISTS (
+                          SELECT 1
+                          FROM user_coupons uc
+                          WHERE uc.user_created_id = u.user_created_id
+                            AND uc.coupon_policy_id = %s
+                      )""".formatted(policyParameter);
+    }
+
+    // 생일 월 조건: 인덱스 모드면 생성 컬럼 birth_month로 (birth_month, user_created_id) 인덱스 범위 조회
+    // 아니면 MONTH(birth)를 행마다 계산 > Users 전체 스캔
+    private String birthMonthCondition(String monthParameter) {
+        return birthMonthIndexEnabled
+                ? "u.birth_month = " + monthParameter
+                : "u.birth IS NOT NULL AND MONTH(u.birth) = " + monthParameter;
+    }
 }
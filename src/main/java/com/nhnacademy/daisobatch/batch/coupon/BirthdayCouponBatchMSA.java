@@ -3,22 +3,34 @@ package com.nhnacademy.daisobatch.batch.coupon;
 import com.nhnacademy.daisobatch.client.BirthdayCouponBulkEvent;
 import com.nhnacademy.daisobatch.client.UserServiceClient;
 import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
-import com.nhnacademy.daisobatch.exception.RabbitPublishFailedException;
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
 import com.nhnacademy.daisobatch.exception.UserServicePagingFailedException;
+import com.nhnacademy.daisobatch.listener.BatchMetricsListener;
 import com.nhnacademy.daisobatch.listener.JobFailureNotificationListener;
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import com.nhnacademy.daisobatch.publisher.PipelinedRabbitPublisher;
+import com.nhnacademy.daisobatch.reader.KeysetCheckpointItemReader;
+import com.nhnacademy.daisobatch.reader.PrefetchingItemReader;
 import feign.FeignException;
 import feign.RetryableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameter;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,8 +38,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @Configuration
@@ -38,8 +55,10 @@ public class BirthdayCouponBatchMSA {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
 
     private final JobFailureNotificationListener jobFailureNotificationListener;
+    private final BatchMetricsListener batchMetricsListener;
 
     @Value("${rabbitmq.birthday.exchange}")
     private String birthdayExchange;
@@ -47,11 +66,33 @@ public class BirthdayCouponBatchMSA {
     @Value("${rabbitmq.birthday.routing-key}")
     private String birthdayRoutingKey;
 
+    @Value("${batch.birthday.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch.prefetch.enabled:false}")
+    private boolean prefetchEnabled;
+
+    @Value("${batch.prefetch.buffer-size:1000}")
+    private int prefetchBufferSize;
+
+    @Value("${batch.birthday.id-pipeline.enabled:false}")
+    private boolean idPipelineEnabled;
+
+    @Value("${rabbitmq.birthday.publish.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${rabbitmq.birthday.publish.confirm-timeout-seconds:5}")
+    private long confirmTimeoutSeconds;
+
+    @Value("${rabbitmq.birthday.publish.max-attempts:3}")
+    private int maxAttempts;
+
     // ===== 1) Job (MSA) =====
     @Bean(name = "birthdayCouponJobMSA")
-    public Job birthdayCouponJobMSA(@Qualifier("birthdayCouponStepMSA") Step step) {
+    public Job birthdayCouponJobMSA(@Qualifier("birthdayCouponStepMSA") Step step,
+                                    @Qualifier("birthdayCouponIdStepMSA") Step idStep) {
         return new JobBuilder("birthdayCouponJobMSA", jobRepository)
-                .start(step)
+                .start(idPipelineEnabled ? idStep : step)   // ID 전용 모드면 페이지 단위 long[] Step
                 .listener(jobFailureNotificationListener)
                 .build();
     }
@@ -62,27 +103,93 @@ public class BirthdayCouponBatchMSA {
             @Qualifier("birthdayUserReaderMSA") ItemReader<BirthdayUserDto> reader,
             @Qualifier("birthdayUserWriterMSA") ItemWriter<BirthdayUserDto> writer
     ) {
+        // Chunk 1개 = 이벤트 1건이므로 크기 고정 (Chunk 크기가 바뀌면 재발행 이벤트의 회원 구성이 달라져 소비 측 중복 처리가 어긋남)
         return new StepBuilder("birthdayCouponStepMSA", jobRepository)
-                .<BirthdayUserDto, BirthdayUserDto>chunk(1000, transactionManager)
+                .<BirthdayUserDto, BirthdayUserDto>chunk(chunkSize, transactionManager)
+                .reader(reader)
+                .writer(writer)
+                .listener(batchMetricsListener) // 처리 건수 / Chunk 소요 시간 지표
+                .build();
+    }
+
+    // ===== 2-1) Step (MSA, ID 전용): 아이템 1건 = 조회 페이지 1개 = 이벤트 1건 =====
+    @Bean(name = "birthdayCouponIdStepMSA")
+    public Step birthdayCouponIdStepMSA(
+            @Qualifier("birthdayUserIdReaderMSA") ItemReader<LongIdBlock> reader,
+            @Qualifier("birthdayUserIdWriterMSA") ItemWriter<LongIdBlock> writer
+    ) {
+        return new StepBuilder("birthdayCouponIdStepMSA", jobRepository)
+                .<LongIdBlock, LongIdBlock>chunk(1, transactionManager)
                 .reader(reader)
                 .writer(writer)
+                .listener(batchMetricsListener) // 처리 건수(페이지 단위) / Chunk 소요 시간 지표
                 .build();
     }
 
     // ===== 3) Reader (MSA): Feign 페이징 조회 =====
     @Bean(name = "birthdayUserReaderMSA")
     @StepScope
-    public ItemReader<BirthdayUserDto> birthdayUserReaderMSA() {
+    public ItemStreamReader<BirthdayUserDto> birthdayUserReaderMSA(
+            @Qualifier("birthdayCouponPublisherMSA") PipelinedRabbitPublisher publisher,
+            @Value("#{stepExecution.jobExecution}") JobExecution jobExecution
+    ) {
+        int month = runDate(jobExecution).getMonthValue();
+
+        // User 서버 페이지 조회 시간 (Feign 호출 자체는 http.client.requests 지표로 따로 기록)
+        Timer pageTimer = BatchMetrics.readerPageTimer(meterRegistry,
+                BatchMetrics.currentJobName(), BatchMetrics.currentStepName(), "birthdayUserReaderMSA");
+
+        // ACK까지 확인된 마지막 회원 ID를 저장 > 재시작 시 그 다음 회원부터 User 서버에 요청
+        KeysetCheckpointItemReader<BirthdayUserDto, Long> reader = new KeysetCheckpointItemReader<>(
+                "birthdayUserReaderMSA", BirthdayUserDto::getUserCreatedId, lastId -> {
+                    ItemReader<BirthdayUserDto> pageReader =
+                            birthdayUserPageReader(month, (lastId != null) ? lastId : 0L, pageTimer);
+
+                    // 다음 페이지를 User 서버에서 미리 받아두고, 현재 Chunk는 그동안 발행
+                    return prefetchEnabled
+                            ? new PrefetchingItemReader<>(pageReader, "birthdayUserReaderMSA", prefetchBufferSize)
+                            : pageReader;
+                });
+        reader.setCheckpointBarrier(publisher::publishedSequence, publisher::confirmedSequence);
+
+        // 입력 끝 표시는 Step 스레드에서 (StepScope Publisher는 미리 읽기 스레드에서 사용 불가)
+        return new ItemStreamReader<>() {
+            @Override
+            public BirthdayUserDto read() throws Exception {
+                BirthdayUserDto user = reader.read();
+                if (user == null) {
+                    publisher.markEndOfInput(); // 마지막 Chunk 커밋 전에 남은 Confirm 확인
+                }
+                return user;
+            }
+
+            @Override
+            public void open(ExecutionContext executionContext) {
+                reader.open(executionContext);
+            }
+
+            @Override
+            public void update(ExecutionContext executionContext) {
+                reader.update(executionContext);
+            }
+
+            @Override
+            public void close() {
+                reader.close();
+            }
+        };
+    }
+
+    // lastSeenId 다음 회원부터 페이지 단위로 User 서버에 요청해 1건씩 반환
+    private ItemReader<BirthdayUserDto> birthdayUserPageReader(int month, long startAfterId, Timer pageTimer) {
         return new ItemReader<>() {
             private List<BirthdayUserDto> users = null;
             private int index = 0;
 
-            private long lastSeenId = 0L; // 커서
+            private long lastSeenId = startAfterId; // 커서
             private final int size = 1000;
             private boolean finished = false;
 
-            private final int month = LocalDate.now().getMonthValue();
-
             @Override
             public BirthdayUserDto read() {
                 if (finished) return null; // 이미 끝났으면 null
@@ -90,7 +197,8 @@ public class BirthdayCouponBatchMSA {
                 if (users == null || index >= users.size()) {
                     log.info("User 서버에서 {}월 생일자 조회(커서) - lastSeenId={}, size={}",
                             month, lastSeenId, size);
-                    users = fetchWithRetry(month, lastSeenId, size);
+                    users = pageTimer.record(() -> fetchWithRetry(month, lastSeenId, size,
+                            () -> userServiceClient.getBirthdayUsers(month, lastSeenId, size)));
                     index = 0;
                     // 더 이상 없으면 종료
                     if (users == null || users.isEmpty()) {
@@ -107,71 +215,186 @@ public class BirthdayCouponBatchMSA {
 
                 return users.get(index++);
             }
+        };
+    }
 
-            private List<BirthdayUserDto> fetchWithRetry(int month, long lastSeenId, int size) {
-                for (int attempt = 1; attempt <= 3; attempt++) {
-                    try {
-                        return userServiceClient.getBirthdayUsers(month, lastSeenId, size);
-                    } catch (RetryableException e) {
-                        if (attempt == 3){
-                            throw new UserServicePagingFailedException(
-                                    "User 서버 생일자 커서 조회 실패 (Retryable) " +
-                                            "(month=" + month + ", lastSeenId=" + lastSeenId + ", size=" + size + ")", e);
-                        }
-                        log.warn("User 서버 커서 조회 재시도(Retryable) - attempt={}/3, month={}, lastSeenId={}",
-                                attempt, month, lastSeenId);
-                        sleep();
-                    } catch (FeignException e) {
-                        if (e.status() >= 400 && e.status() < 500) {
-                            throw new UserServicePagingFailedException(
-                                    "User 서버 생일자 커서 조회 실패 (4xx) (month=" + month +
-                                            ", lastSeenId=" + lastSeenId + ", status=" + e.status() + ")", e);
-                        }
-                        if (attempt == 3) {
-                            throw new UserServicePagingFailedException(
-                                    "User 서버 생일자 커서 조회 실패 (5xx) (month=" + month +
-                                            ", lastSeenId=" + lastSeenId + ", status=" + e.status() + ")", e);
+    // ===== 3-1) Reader (MSA, ID 전용): 응답을 회원 DTO 없이 long[] 페이지로 바로 역직렬화 =====
+    @Bean(name = "birthdayUserIdReaderMSA")
+    @StepScope
+    public ItemStreamReader<LongIdBlock> birthdayUserIdReaderMSA(
+            @Qualifier("birthdayCouponPublisherMSA") PipelinedRabbitPublisher publisher,
+            @Value("#{stepExecution.jobExecution}") JobExecution jobExecution
+    ) {
+        Timer pageTimer = BatchMetrics.readerPageTimer(meterRegistry,
+                BatchMetrics.currentJobName(), BatchMetrics.currentStepName(), "birthdayUserIdReaderMSA");
+
+        int month = runDate(jobExecution).getMonthValue();
+        int size = 1000;
+
+        // ACK까지 확인된 마지막 페이지의 끝 ID를 저장 > 재시작 시 그 다음 회원부터 요청
+        KeysetCheckpointItemReader<LongIdBlock, Long> reader = new KeysetCheckpointItemReader<>("birthdayUserIdReaderMSA",
+                LongIdBlock::last,
+                lastId -> new ItemReader<LongIdBlock>() {
+                    private long lastSeenId = (lastId != null) ? lastId : 0L; // 커서
+                    private boolean finished = false;
+
+                    @Override
+                    public LongIdBlock read() {
+                        if (finished) return null;
+
+                        long cursor = lastSeenId;
+                        LongIdBlock ids = pageTimer.record(() -> fetchWithRetry(month, cursor, size,
+                                () -> userServiceClient.getBirthdayUserIds(month, cursor, size)));
+
+                        if (ids == null || ids.isEmpty()) {
+                            log.info("{}월 생일자 더 없음(빈 결과) - 종료 (lastSeenId={})", month, lastSeenId);
+                            finished = true;
+                            publisher.markEndOfInput(); // 마지막 Chunk 커밋 전에 남은 Confirm 확인
+                            return null;
                         }
-                        sleep();
+
+                        lastSeenId = ids.last();
+                        log.info("{}월 생일자 조회 {}명 (cursor {} -> {})", month, ids.size(), cursor, lastSeenId);
+
+                        return ids;
                     }
-                }
-                throw new IllegalStateException("User 서버 조회 실패");
+                });
+        reader.setCheckpointBarrier(publisher::publishedSequence, publisher::confirmedSequence);
+
+        return reader;
+    }
+
+    // ===== 4) Publisher (MSA): Confirm을 최대 max-in-flight 건까지 겹쳐서 대기 =====
+    @Bean(name = "birthdayCouponPublisherMSA")
+    @StepScope
+    public PipelinedRabbitPublisher birthdayCouponPublisherMSA() {
+        return new PipelinedRabbitPublisher(rabbitTemplate, birthdayExchange, birthdayRoutingKey,
+                maxInFlight, Duration.ofSeconds(confirmTimeoutSeconds), maxAttempts,
+                BatchMetrics.rabbitConfirmTimer(meterRegistry,
+                        BatchMetrics.currentJobName(), BatchMetrics.currentStepName()));
+    }
+
+    // ===== 5) Writer (MSA): RabbitMQ publish =====
+    @Bean(name = "birthdayUserWriterMSA")
+    @StepScope
+    public ItemStreamWriter<BirthdayUserDto> birthdayUserWriterMSA(
+            @Qualifier("birthdayCouponPublisherMSA") PipelinedRabbitPublisher publisher,
+            @Value("#{stepExecution.jobExecution}") JobExecution jobExecution
+    ) {
+        // 재시작이 자정을 넘겨도 같은 batchId가 나오도록 실행 기준일 사용
+        String today = runDate(jobExecution).toString();
+
+        return new ItemStreamWriter<>() {
+            @Override
+            public void write(Chunk<? extends BirthdayUserDto> chunk) {
+                if (chunk.isEmpty()) return;
+
+                long[] userIds = chunk.getItems().stream()
+                        .mapToLong(BirthdayUserDto::getUserCreatedId)
+                        .toArray();
+
+                // Chunk마다 고유한 batchId (재발행 시에도 동일 > 소비 측 중복 처리 기준)
+                String batchId = batchId(today, userIds[0], userIds[userIds.length - 1], userIds.length);
+
+                // 대기 창이 가득 찼을 때만 블로킹, NACK/Return/타임아웃은 해당 batchId만 재발행
+                publisher.publish(batchId, new BirthdayCouponBulkEvent(userIds, batchId));
             }
 
-            private void sleep() {
-                try {
-                    Thread.sleep(300); } catch (InterruptedException ignored) {}
+            @Override
+            public void update(ExecutionContext executionContext) {
+                // 마지막 Chunk 커밋 전에 남은 Confirm을 모두 확인 > 실패 시 Step 실패
+                if (publisher.isEndOfInput()) {
+                    publisher.awaitAll();
+                }
             }
         };
     }
 
-    // ===== 4) Writer (MSA): RabbitMQ publish =====
-    @Bean(name = "birthdayUserWriterMSA")
-    public ItemWriter<BirthdayUserDto> birthdayUserWriterMSA() {
-        return chunk -> {
-            List<Long> userIds = chunk.getItems().stream()
-                    .map(BirthdayUserDto::getUserCreatedId)
-                    .toList();
+    // ===== 5-1) Writer (MSA, ID 전용): 페이지 하나를 이벤트 하나로 발행 =====
+    @Bean(name = "birthdayUserIdWriterMSA")
+    @StepScope
+    public ItemStreamWriter<LongIdBlock> birthdayUserIdWriterMSA(
+            @Qualifier("birthdayCouponPublisherMSA") PipelinedRabbitPublisher publisher,
+            @Value("#{stepExecution.jobExecution}") JobExecution jobExecution
+    ) {
+        // 재시작이 자정을 넘겨도 같은 batchId가 나오도록 실행 기준일 사용
+        String today = runDate(jobExecution).toString();
 
-            String batchKey = "birthday-" + LocalDate.now();
+        return new ItemStreamWriter<>() {
+            @Override
+            public void write(Chunk<? extends LongIdBlock> chunk) {
+                for (LongIdBlock ids : chunk) {
+                    if (ids.isEmpty()) continue;
 
-            BirthdayCouponBulkEvent event =
-                    new BirthdayCouponBulkEvent(userIds, batchKey);
+                    // batchId 규칙은 DTO Step과 동일 (페이지 첫 / 마지막 회원 ID + 건수)
+                    String batchId = batchId(today, ids.first(), ids.last(), ids.size());
+                    publisher.publish(batchId, new BirthdayCouponBulkEvent(ids.toArray(), batchId));
+                }
+            }
 
-            CorrelationData cd = new CorrelationData(event.batchId());
+            @Override
+            public void update(ExecutionContext executionContext) {
+                if (publisher.isEndOfInput()) {
+                    publisher.awaitAll();
+                }
+            }
+        };
+    }
 
-            rabbitTemplate.convertAndSend(birthdayExchange, birthdayRoutingKey, event, message -> {
-                message.getMessageProperties().setCorrelationId(event.batchId());
-                return message;
-            }, cd);
+    // 첫 회원 ID만 쓰면 같은 ID로 시작하는 다른 구성의 이벤트가 중복으로 버려질 수 있으므로 구성 전체를 반영
+    private static String batchId(String today, long firstId, long lastId, int count) {
+        return "birthday-" + today + "-" + firstId + "-" + lastId + "-" + count;
+    }
 
-            CorrelationData.Confirm confirm = cd.getFuture().get(5, java.util.concurrent.TimeUnit.SECONDS);
-            if (!confirm.isAck()) {
-                throw new RabbitPublishFailedException(
-                        "Rabbit publish NACK.(메시지 큐 접근 실패) batchId=" + event.batchId() + ", cause=" + confirm.getReason()
-                );
+    // 실행 기준일: runDate 파라미터(재시작해도 같은 JobInstance 값) 우선, 없으면 Job 시작 시각
+    private static LocalDate runDate(JobExecution jobExecution) {
+        JobParameter<?> runDate = jobExecution.getJobParameters().getParameter("runDate");
+        if (runDate != null) {
+            Object value = runDate.getValue();
+            if (value instanceof LocalDateTime dateTime) return dateTime.toLocalDate();
+            if (value instanceof LocalDate date) return date;
+            if (value instanceof Long epochMillis) {   // 수동 실행(JobController)은 System.currentTimeMillis()
+                return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate();
             }
-        };
+        }
+        LocalDateTime startTime = jobExecution.getStartTime();
+        return (startTime != null) ? startTime.toLocalDate() : LocalDate.now();
+    }
+
+    // User 서버 커서 조회 재시도 (Retryable / 5xx만 최대 3회, 4xx는 즉시 실패)
+    private <T> T fetchWithRetry(int month, long lastSeenId, int size, Supplier<T> call) {
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            try {
+                return call.get();
+            } catch (RetryableException e) {
+                if (attempt == 3){
+                    throw new UserServicePagingFailedException(
+                            "User 서버 생일자 커서 조회 실패 (Retryable) " +
+                                    "(month=" + month + ", lastSeenId=" + lastSeenId + ", size=" + size + ")", e);
+                }
+                log.warn("User 서버 커서 조회 재시도(Retryable) - attempt={}/3, month={}, lastSeenId={}",
+                        attempt, month, lastSeenId);
+                sleep();
+            } catch (FeignException e) {
+                if (e.status() >= 400 && e.status() < 500) {
+                    throw new UserServicePagingFailedException(
+                            "User 서버 생일자 커서 조회 실패 (4xx) (month=" + month +
+                                    ", lastSeenId=" + lastSeenId + ", status=" + e.status() + ")", e);
+                }
+                if (attempt == 3) {
+                    throw new UserServicePagingFailedException(
+                            "User 서버 생일자 커서 조회 실패 (5xx) (month=" + month +
+                                    ", lastSeenId=" + lastSeenId + ", status=" + e.status() + ")", e);
+                }
+                sleep();
+            }
+        }
+        throw new IllegalStateException("User 서버 조회 실패");
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(300); } catch (InterruptedException ignored) {}
     }
 
 }
@@ -0,0 +1,136 @@
+package com.nhnacademy.daisobatch.batch.coupon;
+
+import com.nhnacademy.daisobatch.listener.BatchMetricsListener;
+import com.nhnacademy.daisobatch.listener.JobFailureNotificationListener;
+import com.nhnacademy.daisobatch.metrics.StepCounts;
+import com.nhnacademy.daisobatch.repository.coupon.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 만료일이 지난 ISSUED 쿠폰을 EXPIRED로 변경하는 배치
+ * 테이블 전체를 UPDATE 한 번으로 처리하지 않고, 만료 대상 range-size 건을 덮는 user_coupon_id 구간 단위로 커밋
+ * - 구간 하나 = 트랜잭션 하나 > 한 번에 잡는 행 잠금 수와 시간이 range-size로 제한됨
+ * - 마지막으로 커밋된 구간 상한 / 정책별 만료 건수를 ExecutionContext에 저장 > 같은 baseDate로 재시작 시 다음 구간부터 이어서 처리
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class CouponExpiryBatch {
+
+    public static final String LAST_USER_COUPON_ID = "expiryLastUserCouponId";
+    public static final String EXPIRED_BY_POLICY = "expiredCountsByPolicy";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final UserCouponRepository userCouponRepository;
+
+    private final JobFailureNotificationListener jobFailureNotificationListener;
+    private final BatchMetricsListener batchMetricsListener;
+
+    @Value("${batch.coupon-expiry.range-size:1000}")
+    private int rangeSize;
+
+    // ===== 1) Job =====
+    @Bean(name = "couponExpiryJob")
+    public Job couponExpiryJob(@Qualifier("couponExpiryStep") Step step) {
+        return new JobBuilder("couponExpiryJob", jobRepository)
+                .start(step)
+                .listener(jobFailureNotificationListener)
+                .build();
+    }
+
+    // ===== 2) Step: 구간 1개 처리 후 CONTINUABLE 반환 > 구간마다 커밋 =====
+    @Bean(name = "couponExpiryStep")
+    public Step couponExpiryStep(@Qualifier("couponExpiryTasklet") Tasklet tasklet) {
+        return new StepBuilder("couponExpiryStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .listener(batchMetricsListener) // 처리 건수 / 구간 소요 시간 지표
+                .listener(couponExpiryReportListener())
+                .build();
+    }
+
+    // ===== 3) Tasklet: (lowerId, upperId] 구간의 만료 대상을 정책별로 만료 처리 =====
+    @Bean(name = "couponExpiryTasklet")
+    @StepScope
+    public Tasklet couponExpiryTasklet(@Value("#{jobParameters['baseDate']}") String baseDateStr) {
+        LocalDateTime now = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+
+        return (contribution, chunkContext) -> {
+            ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lowerId = executionContext.getLong(LAST_USER_COUPON_ID, 0L);
+
+            // 1. 만료 대상 rangeSize 건을 덮는 구간 상한 결정
+            List<Long> targetIds = userCouponRepository.findExpiryTargetIds(now, lowerId, Limit.of(rangeSize));
+            if (targetIds.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+            long upperId = targetIds.get(targetIds.size() - 1);
+
+            // 2. 정책별로 구간 내 만료 처리 (정책별 건수 집계)
+            Map<Long, Long> expiredByPolicy = expiredCounts(executionContext);
+            int expired = 0;
+            for (Long policyId : userCouponRepository.findExpiryPolicyIds(now, lowerId, upperId)) {
+                int count = userCouponRepository.bulkExpireCouponsInRange(now, policyId, lowerId, upperId);
+                expiredByPolicy.merge(policyId, (long) count, Long::sum);
+                expired += count;
+            }
+
+            StepCounts.add(contribution, targetIds.size(), expired);
+
+            // 구간 처리와 같은 트랜잭션에서 커밋 > 재시작 시 다음 구간부터
+            executionContext.putLong(LAST_USER_COUPON_ID, upperId);
+            executionContext.put(EXPIRED_BY_POLICY, expiredByPolicy);
+
+            log.info("[CouponExpiryBatch] 쿠폰 만료 - 구간 ({}, {}] {}건", lowerId, upperId, expired);
+
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    // ===== 4) Step 종료 시 정책별 만료 건수 보고 =====
+    private StepExecutionListener couponExpiryReportListener() {
+        return new StepExecutionListener() {
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                Map<Long, Long> expiredByPolicy = expiredCounts(stepExecution.getExecutionContext());
+
+                expiredByPolicy.forEach((policyId, count) ->
+                        log.info("[CouponExpiryBatch] 정책별 만료 건수 - policyId={}, expired={}", policyId, count));
+                log.info("[CouponExpiryBatch] 쿠폰 만료 완료 - 총 {}건 (status={})",
+                        stepExecution.getWriteCount(), stepExecution.getStatus());
+
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Long> expiredCounts(ExecutionContext executionContext) {
+        Map<Long, Long> counts = (Map<Long, Long>) executionContext.get(EXPIRED_BY_POLICY);
+        return (counts != null) ? new HashMap<>(counts) : new HashMap<>();
+    }
+}
@@ -12,49 +12,104 @@
 
 package com.nhnacademy.daisobatch.batch.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.daisobatch.cache.ReferenceDataCache;
 import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import com.nhnacademy.daisobatch.listener.BatchMetricsListener;
 import com.nhnacademy.daisobatch.listener.JobFailureNotificationListener;
+import com.nhnacademy.daisobatch.listener.ReferenceDataRefreshListener;
 import com.nhnacademy.daisobatch.listener.user.DormantChunkListener;
 import com.nhnacademy.daisobatch.listener.user.DormantSkipListener;
+import com.nhnacademy.daisobatch.mapper.user.DormantAccountRowMapper;
+import com.nhnacademy.daisobatch.metrics.StepCounts;
+import com.nhnacademy.daisobatch.partitioner.KeyRangePartitioner;
+import com.nhnacademy.daisobatch.partitioner.RemotePartitionHandlerFactory;
+import com.nhnacademy.daisobatch.policy.AdaptiveChunkSizePolicy;
+import com.nhnacademy.daisobatch.policy.AdaptiveChunkSizePolicyFactory;
+import com.nhnacademy.daisobatch.reader.KeysetCheckpointItemReader;
+import com.nhnacademy.daisobatch.reader.MeteredJdbcPagingItemReader;
+import com.nhnacademy.daisobatch.reader.PrefetchingItemReader;
+import com.nhnacademy.daisobatch.repository.HistoryOutboxJdbcRepository;
+import com.nhnacademy.daisobatch.repository.user.DormantAccountJdbcRepository;
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
 import com.nhnacademy.daisobatch.type.user.Status;
+import com.nhnacademy.daisobatch.writer.BulkInsertItemWriter;
+import com.nhnacademy.daisobatch.writer.HistoryOutboxFlusher;
+import com.nhnacademy.daisobatch.writer.HistoryOutboxItemWriter;
+import com.nhnacademy.daisobatch.writer.StagingMergeItemWriter;
+import com.nhnacademy.daisobatch.writer.user.DormantStatusPreparedStatementSetter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
-import org.springframework.batch.item.support.CompositeItemWriter;
 import org.springframework.batch.item.support.builder.CompositeItemWriterBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+@Slf4j
 @RequiredArgsConstructor
 @Configuration
 public class DormantAccountBatch {
 
+    private static final String BULK_LAST_ID = "bulkLastUserCreatedId";
+    private static final String DORMANT_HISTORY_SINK = "AccountStatusHistories";
+
+    // 임시 테이블 중 실제로 휴면 전환된 계정 (UPDATE와 같은 조건 + 현재 상태 DORMANT)
+    private static final String DORMANT_STAGING_APPLIED = "FROM tmp_dormant_account t " +
+            "JOIN Accounts a ON a.login_id = t.login_id AND a.last_login_at = t.last_login_at " +
+            "AND a.current_status_id = :statusId";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final DataSource dataSource;
 
     private final JobFailureNotificationListener jobFailureNotificationListener;
+    private final ReferenceDataRefreshListener referenceDataRefreshListener;
+    private final BatchMetricsListener batchMetricsListener;
+
+    private final ReferenceDataCache referenceDataCache;
+    private final MeterRegistry meterRegistry;
+    private final RemotePartitionHandlerFactory remotePartitionHandlerFactory;
+    private final AdaptiveChunkSizePolicyFactory adaptiveChunkSizePolicyFactory;
+
+    private final DormantAccountJdbcRepository dormantAccountJdbcRepository;
+    private final HistoryOutboxJdbcRepository historyOutboxJdbcRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${batch.dormant.chunk-size:1000}")
     private int chunkSize;
@@ -62,21 +117,162 @@ public class DormantAccountBatch {
     @Value("${batch.dormant.days:90}")
     private int days;
 
+    @Value("${batch.dormant.partition.enabled:false}")
+    private boolean partitionEnabled;
+
+    @Value("${batch.dormant.partition.grid-size:4}")
+    private int gridSize;
+
+    @Value("${batch.dormant.partition.thread-count:4}")
+    private int threadCount;
+
+    @Value("${batch.dormant.bulk.enabled:false}")
+    private boolean bulkEnabled;
+
+    @Value("${batch.prefetch.enabled:false}")
+    private boolean prefetchEnabled;
+
+    @Value("${batch.prefetch.buffer-size:1000}")
+    private int prefetchBufferSize;
+
+    @Value("${batch.bulk-insert.mode:JDBC_BATCH}")
+    private BulkInsertMode bulkInsertMode;
+
+    @Value("${batch.bulk-insert.rows-per-statement:500}")
+    private int rowsPerStatement;
+
+    @Value("${batch.staging-merge.enabled:false}")
+    private boolean stagingMergeEnabled;
+
+    @Value("${batch.history.write-behind.enabled:false}")
+    private boolean historyWriteBehindEnabled;
+
+    @Value("${batch.history.write-behind.flush-entries:10}")
+    private int historyFlushEntries;
+
     @Bean
-    public Job dormantAccountJob(Step dormantAccountStep) {
-        return new JobBuilder("dormantAccountJob", jobRepository)
-                .start(dormantAccountStep)
+    public Job dormantAccountJob(Step dormantAccountStep, Step dormantAccountBulkStep, Step dormantAccountPartitionStep,
+                                 Step dormantHistoryFlushStep) {
+        Step singleStep = bulkEnabled ? dormantAccountBulkStep : dormantAccountStep;   // 일괄 모드면 구간 단위 SQL Step
+
+        SimpleJobBuilder jobBuilder = new JobBuilder("dormantAccountJob", jobRepository)
+                .start(partitionEnabled ? dormantAccountPartitionStep : singleStep);  // 파티션 모드면 Manager Step으로 시작
+
+        if (historyWriteBehindEnabled) {
+            jobBuilder.next(dormantHistoryFlushStep);   // HistoryOutbox에 쌓인 이력을 이력 테이블로 적재
+        }
+
+        return jobBuilder
                 .listener(jobFailureNotificationListener)
+                .listener(referenceDataRefreshListener)     // 실행마다 상태 기준 데이터 새로 로딩
                 .build();
     }
 
     @Bean
     @JobScope   // Job이 실행될 때 빈 생성, 끝나면 사라짐
-    public Step dormantAccountStep(JdbcPagingItemReader<DormantAccountDto> dormantAccountReader,
+    public Step dormantAccountStep(ItemStreamReader<DormantAccountDto> dormantAccountReader,
                                    ItemProcessor<DormantAccountDto, DormantAccountDto> dormantAccountProcessor,
-                                   CompositeItemWriter<DormantAccountDto> dormantAccountWriter) {
-        return new StepBuilder("dormantAccountStep", jobRepository)
-                .<DormantAccountDto, DormantAccountDto>chunk(chunkSize, platformTransactionManager)
+                                   ItemWriter<DormantAccountDto> dormantAccountWriter) {
+        return buildDormantAccountStep("dormantAccountStep",
+                dormantAccountReader, dormantAccountProcessor, dormantAccountWriter);
+    }
+
+    @Bean
+    public Step dormantAccountPartitionStep(Step dormantAccountWorkerStep) {
+        PartitionStepBuilder builder = new StepBuilder("dormantAccountPartitionStep", jobRepository)
+                .partitioner("dormantAccountWorkerStep", dormantAccountPartitioner());  // 계정의 user_created_id 범위 분할
+
+        if (remotePartitionHandlerFactory.isEnabled()) {
+            // 파티션 요청을 큐로 보내고 모든 인스턴스의 Worker가 나눠 처리, 결과는 JobRepository에서 수집
+            return builder
+                    .partitionHandler(remotePartitionHandlerFactory.create("dormantAccountWorkerStep", gridSize))
+                    .build();
+        }
+
+        return builder
+                .step(dormantAccountWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(dormantAccountTaskExecutor())   // 파티션별 Worker Step 병렬 실행
+                .build();
+    }
+
+    // Worker Step은 파티션 스레드에서 실행되므로 JobScope 없이 싱글톤으로 두고, Reader/Writer는 StepScope로 파티션마다 생성
+    @Bean
+    public Step dormantAccountWorkerStep(ItemStreamReader<DormantAccountDto> dormantAccountReader,
+                                         ItemProcessor<DormantAccountDto, DormantAccountDto> dormantAccountProcessor,
+                                         ItemWriter<DormantAccountDto> dormantAccountWriter,
+                                         Tasklet dormantAccountBulkTasklet) {
+        if (bulkEnabled) {
+            return buildDormantAccountBulkStep("dormantAccountWorkerStep", dormantAccountBulkTasklet);
+        }
+
+        return buildDormantAccountStep("dormantAccountWorkerStep",
+                dormantAccountReader, dormantAccountProcessor, dormantAccountWriter);
+    }
+
+    @Bean
+    public Step dormantHistoryFlushStep(Tasklet dormantHistoryFlushTasklet) {
+        return new StepBuilder("dormantHistoryFlushStep", jobRepository)
+                .tasklet(dormantHistoryFlushTasklet, platformTransactionManager)
+                .listener(batchMetricsListener)     // 적재 건수 / 소요 시간 지표
+                .build();
+    }
+
+    // 묶음 flush-entries개 = 트랜잭션 1개, 이전 실행에서 남은 묶음까지 모두 적재할 때까지 반복
+    @Bean
+    @StepScope
+    public Tasklet dormantHistoryFlushTasklet() {
+        Long dormantStatusId = referenceDataCache.getStatusId(Status.DORMANT);
+
+        HistoryOutboxFlusher<DormantAccountDto> flusher = new HistoryOutboxFlusher<>(
+                historyOutboxJdbcRepository, objectMapper, DORMANT_HISTORY_SINK, DormantAccountDto.class,
+                (item, changedAt) -> new Object[]{item.loginId(), dormantStatusId, changedAt},
+                BulkInsertItemWriter.<Object[]>builder()
+                        .dataSource(dataSource)
+                        .table("AccountStatusHistories")
+                        .columns(List.of("login_id", "status_id", "changed_at"))
+                        .valuesMapper(row -> row)
+                        .mode(bulkInsertMode)
+                        .rowsPerStatement(rowsPerStatement)
+                        .build());
+
+        return (contribution, chunkContext) -> {
+            int flushed = flusher.flush(historyFlushEntries);
+            contribution.incrementWriteCount(flushed);
+
+            return (flushed > 0) ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public Step dormantAccountBulkStep(Tasklet dormantAccountBulkTasklet) {
+        return buildDormantAccountBulkStep("dormantAccountBulkStep", dormantAccountBulkTasklet);
+    }
+
+    @Bean
+    public Partitioner dormantAccountPartitioner() {
+        return new KeyRangePartitioner(new JdbcTemplate(dataSource), "Accounts", "user_created_id");
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor dormantAccountTaskExecutor() {
+        // 스레드 수와 대기열을 제한해 커넥션 풀 고갈 방지
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setQueueCapacity(gridSize);
+        executor.setThreadNamePrefix("dormant-partition-");
+        return executor;
+    }
+
+    private Step buildDormantAccountStep(String stepName,
+                                         ItemStreamReader<DormantAccountDto> dormantAccountReader,
+                                         ItemProcessor<DormantAccountDto, DormantAccountDto> dormantAccountProcessor,
+                                         ItemWriter<DormantAccountDto> dormantAccountWriter) {
+        AdaptiveChunkSizePolicy chunkSizePolicy = adaptiveChunkSizePolicyFactory.create(chunkSize);
+
+        return new StepBuilder(stepName, jobRepository)
+                .<DormantAccountDto, DormantAccountDto>chunk(chunkSizePolicy, platformTransactionManager)
                 .reader(dormantAccountReader)       // 휴면 대상 계정 조회
                 .processor(dormantAccountProcessor) // 휴면 대상 계정 상태 확인
                 .writer(dormantAccountWriter)       // 상태 변경 + 이력 저장
@@ -85,45 +281,110 @@ public class DormantAccountBatch {
                 .skipLimit(100)         // 최대 100건까지 오류 허용
                 .listener(new DormantChunkListener())    // Chunk 단위 성공/실패 로깅
                 .listener(new DormantSkipListener())
+                .listener(chunkSizePolicy)          // 커밋 시간에 맞춰 Chunk 크기 조절
+                .listener(batchMetricsListener)     // 처리 건수 / Chunk 소요 시간 지표
+                .build();
+    }
+
+    private Step buildDormantAccountBulkStep(String stepName, Tasklet dormantAccountBulkTasklet) {
+        return new StepBuilder(stepName, jobRepository)
+                .tasklet(dormantAccountBulkTasklet, platformTransactionManager)  // 구간 1개 = 트랜잭션 1개
+                .listener(batchMetricsListener)     // 처리 건수 / 구간 소요 시간 지표
                 .build();
     }
 
     @Bean
     @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
-    public JdbcPagingItemReader<DormantAccountDto> dormantAccountReader(
-            @Value("#{jobParameters['baseDate']}") String baseDateStr) {
+    public Tasklet dormantAccountBulkTasklet(
+            @Value("#{jobParameters['baseDate']}") String baseDateStr,
+            @Value("#{stepExecutionContext['minId']}") Long minId,      // 파티션 모드일 때만 존재
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
         LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+        LocalDateTime lastLoginAtBefore = baseDate.minusDays(days);
+        long upperLimit = (maxId != null) ? maxId : Long.MAX_VALUE;
+        Long activeStatusId = referenceDataCache.getStatusId(Status.ACTIVE);
+        Long dormantStatusId = referenceDataCache.getStatusId(Status.DORMANT);
 
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("lastLoginAtBefore", baseDate.minusDays(days));
+        return (contribution, chunkContext) -> {
+            // 직전 구간의 상한을 ExecutionContext에 남겨 재시작 시 이어서 처리
+            ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lowerId = executionContext.getLong(BULK_LAST_ID, (minId != null) ? minId - 1 : 0L);
 
-        return new JdbcPagingItemReaderBuilder<DormantAccountDto>()
-                .dataSource(dataSource)
-                .queryProvider(dormantQueryProvider())  // 페이징 쿼리 제공
-                .parameterValues(parameters)
-                .pageSize(chunkSize)   // 페이지 크기 = Chunk 크기
-                .name("dormantAccountReader")
-                .saveState(false)   // 페이징 꼬임 방지: 재시작 시 항상 0페이지부터 읽기
-                .rowMapper((rs, rowNum) -> new DormantAccountDto(   // 결과 > DTO 매핑
-                        rs.getString("login_id"),
-                        rs.getTimestamp("last_login_at").toLocalDateTime(),
-                        rs.getLong("current_status_id")
-                ))
-                .build();
+            // 1. ACTIVE + 장기 미접속 계정 chunkSize 건을 덮는 user_created_id 구간 결정
+            Long upperId = dormantAccountJdbcRepository.findWindowUpperId(
+                    activeStatusId, lowerId, upperLimit, lastLoginAtBefore, chunkSize);
+            if (upperId == null) {
+                return RepeatStatus.FINISHED;
+            }
+
+            // 2. 구간 단위로 이력 저장 + 상태 변경 (상태 변경 전에 이력부터 적재해야 대상이 동일)
+            int inserted = dormantAccountJdbcRepository.insertDormantHistories(
+                    activeStatusId, dormantStatusId, lowerId, upperId, lastLoginAtBefore, baseDate);
+            int updated = dormantAccountJdbcRepository.updateToDormant(
+                    activeStatusId, dormantStatusId, lowerId, upperId, lastLoginAtBefore);
+
+            StepCounts.add(contribution, inserted, updated);
+            executionContext.putLong(BULK_LAST_ID, upperId);
+
+            log.info("[DormantAccountBatch] 휴면 일괄 전환 - 구간 ({}, {}] {}건", lowerId, upperId, updated);
+
+            return RepeatStatus.CONTINUABLE;
+        };
     }
 
     @Bean
-    public PagingQueryProvider dormantQueryProvider() {
+    @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
+    public ItemStreamReader<DormantAccountDto> dormantAccountReader(
+            @Value("#{jobParameters['baseDate']}") String baseDateStr,
+            @Value("#{stepExecutionContext['minId']}") Long minId,      // 파티션 모드일 때만 존재
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+        boolean partitioned = (minId != null && maxId != null);
+
+        // 커밋된 마지막 login_id를 저장 > 재시작 시 그 다음 계정부터 조회 (휴면 전환된 계정이 조건에서 빠져도 위치 유지)
+        return new KeysetCheckpointItemReader<>("dormantAccountReader", DormantAccountDto::loginId, lastLoginId -> {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("lastLoginAtBefore", baseDate.minusDays(days));
+            parameters.put("activeStatusId", referenceDataCache.getStatusId(Status.ACTIVE));
+            if (partitioned) {
+                parameters.put("minId", minId);
+                parameters.put("maxId", maxId);
+            }
+            if (lastLoginId != null) {
+                parameters.put("lastLoginId", lastLoginId);
+            }
+
+            // 페이지 조회 시간을 지표로 남기는 페이징 Reader
+            MeteredJdbcPagingItemReader<DormantAccountDto> reader = new MeteredJdbcPagingItemReader<>(meterRegistry);
+            reader.setDataSource(dataSource);
+            reader.setQueryProvider(dormantQueryProvider(parameters));   // 페이징 쿼리 제공
+            reader.setParameterValues(parameters);
+            reader.setPageSize(chunkSize);      // 페이지 크기 = Chunk 크기
+            reader.setName("dormantAccountReader");
+            reader.setSaveState(false);     // 재시작 위치는 페이지 번호가 아닌 마지막 키로 관리 (KeysetCheckpointItemReader)
+            reader.setRowMapper(new DormantAccountRowMapper());     // 결과 > DTO 매핑
+
+            // 다음 페이지를 현재 Chunk 처리와 겹쳐서 미리 조회
+            return prefetchEnabled
+                    ? new PrefetchingItemReader<>(reader, "dormantAccountReader", prefetchBufferSize)
+                    : reader;
+        });
+    }
+
+    private PagingQueryProvider dormantQueryProvider(Map<String, Object> parameters) {
         SqlPagingQueryProviderFactoryBean factoryBean = new SqlPagingQueryProviderFactoryBean();
         factoryBean.setDataSource(dataSource);
 
         Map<String, Order> sortKeys = new HashMap<>();
         sortKeys.put("login_id", Order.ASCENDING);  // 페이징 안정성을 위한 정렬 키
 
-        // 90일 전에 로그인한 계정만 조회
+        // 90일 전에 로그인한 ACTIVE 계정만 조회 (이미 휴면/탈퇴/정지된 계정은 DB에서 제외)
         factoryBean.setSelectClause("SELECT login_id, last_login_at, current_status_id");
         factoryBean.setFromClause("FROM Accounts");
-        factoryBean.setWhereClause("WHERE last_login_at < :lastLoginAtBefore");
+        factoryBean.setWhereClause("WHERE last_login_at < :lastLoginAtBefore" +
+                " AND current_status_id = :activeStatusId" +
+                (parameters.containsKey("minId") ? " AND user_created_id BETWEEN :minId AND :maxId" : "") +  // 파티션 범위 제한
+                (parameters.containsKey("lastLoginId") ? " AND login_id > :lastLoginId" : ""));  // 재시작 위치
         factoryBean.setSortKeys(sortKeys);
 
         try {
@@ -137,9 +398,11 @@ public class DormantAccountBatch {
     @Bean
     @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
     public ItemProcessor<DormantAccountDto, DormantAccountDto> dormantAccountProcessor() {
+        Long activeStatusId = referenceDataCache.getStatusId(Status.ACTIVE);
+
         return item -> {
-            // 현재 상태가 ACTIVE가 아니라면 skip
-            if (!item.currentStatusId().equals(Status.ACTIVE.getId())) {
+            // 현재 상태가 ACTIVE가 아니라면 skip (조회 이후 상태가 바뀐 경우 대비)
+            if (activeStatusId == null || item.currentStatusId() != activeStatusId) {
                 return null;
             }
 
@@ -149,13 +412,35 @@ public class DormantAccountBatch {
 
     @Bean
     @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
-    public CompositeItemWriter<DormantAccountDto> dormantAccountWriter(
+    public ItemWriter<DormantAccountDto> dormantAccountWriter(
             JdbcBatchItemWriter<DormantAccountDto> updateAccountStatusWriter,
-            JdbcBatchItemWriter<DormantAccountDto> insertStatusHistoryWriter) {
+            BulkInsertItemWriter<DormantAccountDto> insertStatusHistoryWriter,
+            @Value("#{jobParameters['baseDate']}") String baseDateStr) {
+        LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+
+        // write-behind 모드면 이력은 HistoryOutbox에 Chunk당 1행으로 남기고 dormantHistoryFlushStep에서 적재
+        ItemWriter<DormantAccountDto> historyWriter = historyWriteBehindEnabled
+                ? new HistoryOutboxItemWriter<>(historyOutboxJdbcRepository, objectMapper, DORMANT_HISTORY_SINK, baseDate)
+                : insertStatusHistoryWriter;
+
+        if (stagingMergeEnabled) {
+            // 임시 테이블 적재 1회 + UPDATE (+ write-behind가 아니면 INSERT SELECT)
+            ItemWriter<DormantAccountDto> stagingWriter = dormantAccountStagingWriter(baseDate, !historyWriteBehindEnabled);
+            if (!historyWriteBehindEnabled) {
+                return stagingWriter;
+            }
+
+            // UPDATE가 실제로 반영된 계정만 HistoryOutbox에 남김 (조회 이후 로그인한 계정 제외)
+            return chunk -> {
+                stagingWriter.write(chunk);
+                historyWriter.write(appliedDormantAccounts(chunk));
+            };
+        }
+
         return new CompositeItemWriterBuilder<DormantAccountDto>()
                 .delegates(Arrays.asList(
                         updateAccountStatusWriter, // Accounts 테이블 업데이트
-                        insertStatusHistoryWriter  // AccountStatusHistories 테이블 인서트
+                        historyWriter              // AccountStatusHistories 테이블 인서트 (또는 HistoryOutbox)
                 ))
                 .build();
     }
@@ -163,33 +448,85 @@ public class DormantAccountBatch {
     @Bean
     @StepScope
     public JdbcBatchItemWriter<DormantAccountDto> updateAccountStatusWriter() {
+        Long dormantStatusId = referenceDataCache.getStatusId(Status.DORMANT);
+
         return new JdbcBatchItemWriterBuilder<DormantAccountDto>()
                 .dataSource(dataSource)
-                .sql("UPDATE Accounts SET current_status_id = (" +
-                        "SELECT status_id FROM Statuses WHERE status_name = 'DORMANT'" +
-                        ") WHERE login_id = :loginId AND last_login_at = :lastLoginAt")
-                .beanMapped()
+                .sql(DormantStatusPreparedStatementSetter.SQL)
+                .itemPreparedStatementSetter(new DormantStatusPreparedStatementSetter(dormantStatusId))   // 아이템마다 Map 생성 없음
                 .build();
     }
 
     @Bean
     @StepScope
-    public JdbcBatchItemWriter<DormantAccountDto> insertStatusHistoryWriter(
+    public BulkInsertItemWriter<DormantAccountDto> insertStatusHistoryWriter(
             @Value("#{jobParameters['baseDate']}") String baseDateStr) {
         LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+        Long dormantStatusId = referenceDataCache.getStatusId(Status.DORMANT);
 
-        return new JdbcBatchItemWriterBuilder<DormantAccountDto>()
+        return BulkInsertItemWriter.<DormantAccountDto>builder()
                 .dataSource(dataSource)
-                .sql("INSERT INTO AccountStatusHistories (login_id, status_id, changed_at) " +
-                        "VALUES (:loginId, (SELECT status_id FROM Statuses WHERE status_name = 'DORMANT'), :changedAt)")
-                .itemSqlParameterSourceProvider(item -> {
-                    Map<String, Object> params = new HashMap<>();
-                    params.put("loginId", item.loginId());  // 계정 로그인 ID
-                    params.put("changedAt", baseDate);      // 상태 변경 시간
-
-                    return new MapSqlParameterSource(params);
+                .table("AccountStatusHistories")
+                .columns(List.of("login_id", "status_id", "changed_at"))
+                .valuesMapper(item -> new Object[]{
+                        item.loginId(),     // 계정 로그인 ID
+                        dormantStatusId,    // 휴면 상태 ID
+                        baseDate            // 상태 변경 시간
+                })
+                .statementSetter((item, ps) -> {    // JDBC_BATCH 모드: 값 배열 없이 바로 바인딩
+                    ps.setString(1, item.loginId());
+                    ps.setLong(2, dormantStatusId);
+                    ps.setObject(3, baseDate);
                 })
+                .mode(bulkInsertMode)   // 다중 행 VALUES / LOAD DATA로 Chunk 단위 적재
+                .rowsPerStatement(rowsPerStatement)
                 .build();
     }
 
+    // Chunk를 임시 테이블에 적재 후 휴면 전환 / 이력 저장을 집합 단위 SQL 2개로 처리
+    // (MySQL 8.0.21+는 UPDATE의 EXISTS를 세미 조인으로 실행, H2 테스트에서도 같은 SQL 실행)
+    private StagingMergeItemWriter<DormantAccountDto> dormantAccountStagingWriter(LocalDateTime baseDate,
+                                                                                  boolean withHistory) {
+        Long dormantStatusId = referenceDataCache.getStatusId(Status.DORMANT);
+
+        List<String> mergeStatements = new ArrayList<>();
+        // 조회 이후 로그인한 계정은 last_login_at이 달라져 제외
+        mergeStatements.add("UPDATE Accounts a SET current_status_id = :statusId " +
+                "WHERE EXISTS (SELECT 1 FROM tmp_dormant_account t " +
+                "WHERE t.login_id = a.login_id AND t.last_login_at = a.last_login_at)");
+        if (withHistory) {
+            // UPDATE와 같은 조건으로 다시 조인 > 실제로 휴면 전환된 계정만 이력 저장
+            mergeStatements.add("INSERT INTO AccountStatusHistories (login_id, status_id, changed_at) " +
+                    "SELECT t.login_id, :statusId, :changedAt " + DORMANT_STAGING_APPLIED);
+        }
+
+        return StagingMergeItemWriter.<DormantAccountDto>builder()
+                .dataSource(dataSource)
+                .stagingTable("tmp_dormant_account")
+                .columnDefinitions(List.of(
+                        "login_id VARCHAR(50) PRIMARY KEY",
+                        "last_login_at DATETIME(6)"))
+                .valuesMapper(item -> new Object[]{item.loginId(), item.lastLoginAt()})
+                .mergeStatements(mergeStatements)
+                .parameters(Map.of("statusId", dormantStatusId, "changedAt", baseDate))
+                .mode(bulkInsertMode)
+                .rowsPerStatement(rowsPerStatement)
+                .build();
+    }
+
+    // 임시 테이블 반영 직후 같은 트랜잭션에서 실제로 휴면 전환된 계정만 추림
+    private Chunk<DormantAccountDto> appliedDormantAccounts(Chunk<? extends DormantAccountDto> chunk) {
+        Set<String> applied = new HashSet<>(new NamedParameterJdbcTemplate(dataSource).queryForList(
+                "SELECT t.login_id " + DORMANT_STAGING_APPLIED,
+                Map.of("statusId", referenceDataCache.getStatusId(Status.DORMANT)), String.class));
+
+        Chunk<DormantAccountDto> appliedChunk = new Chunk<>();
+        for (DormantAccountDto item : chunk) {
+            if (applied.contains(item.loginId())) {
+                appliedChunk.add(item);
+            }
+        }
+        return appliedChunk;
+    }
+
 }
@@ -12,50 +12,106 @@
 
 package com.nhnacademy.daisobatch.batch.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.daisobatch.cache.ReferenceDataCache;
 import com.nhnacademy.daisobatch.dto.user.GradeCalculationDto;
 import com.nhnacademy.daisobatch.dto.user.GradeChangeDto;
+import com.nhnacademy.daisobatch.listener.BatchMetricsListener;
 import com.nhnacademy.daisobatch.listener.JobFailureNotificationListener;
+import com.nhnacademy.daisobatch.listener.ReferenceDataRefreshListener;
 import com.nhnacademy.daisobatch.listener.user.GradeChunkListener;
 import com.nhnacademy.daisobatch.listener.user.GradeSkipListener;
-import com.nhnacademy.daisobatch.type.user.Grade;
+import com.nhnacademy.daisobatch.mapper.user.GradeCalculationRowMapper;
+import com.nhnacademy.daisobatch.partitioner.KeyRangePartitioner;
+import com.nhnacademy.daisobatch.partitioner.RemotePartitionHandlerFactory;
+import com.nhnacademy.daisobatch.policy.AdaptiveChunkSizePolicy;
+import com.nhnacademy.daisobatch.policy.AdaptiveChunkSizePolicyFactory;
+import com.nhnacademy.daisobatch.processor.user.GradeChangeProcessor;
+import com.nhnacademy.daisobatch.reader.KeysetCheckpointItemReader;
+import com.nhnacademy.daisobatch.reader.MeteredJdbcPagingItemReader;
+import com.nhnacademy.daisobatch.reader.PrefetchingItemReader;
+import com.nhnacademy.daisobatch.repository.BatchWatermarkJdbcRepository;
+import com.nhnacademy.daisobatch.repository.HistoryOutboxJdbcRepository;
+import com.nhnacademy.daisobatch.repository.user.UserDailySpendJdbcRepository;
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
+import com.nhnacademy.daisobatch.type.user.Status;
+import com.nhnacademy.daisobatch.writer.BulkInsertItemWriter;
+import com.nhnacademy.daisobatch.writer.HistoryOutboxFlusher;
+import com.nhnacademy.daisobatch.writer.HistoryOutboxItemWriter;
+import com.nhnacademy.daisobatch.writer.StagingMergeItemWriter;
+import com.nhnacademy.daisobatch.writer.user.GradeChangePreparedStatementSetter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
-import org.springframework.batch.item.support.CompositeItemWriter;
 import org.springframework.batch.item.support.builder.CompositeItemWriterBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+@Slf4j
 @RequiredArgsConstructor
 @Configuration
 public class GradeChangeBatch {
 
+    private static final String SPEND_ROLLUP_WATERMARK = "gradeSpendRollup";
+    private static final String SPEND_ROLLUP_FULL_WATERMARK = "gradeSpendRollupFull";
+    private static final String CURSOR_READER = "cursor";
+    private static final String GRADE_HISTORY_SINK = "UserGradeHistories";
+    private static final String GRADE_GROUP_CLAUSE = "GROUP BY u.user_created_id, u.current_grade_id";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final DataSource dataSource;
 
     private final JobFailureNotificationListener jobFailureNotificationListener;
+    private final ReferenceDataRefreshListener referenceDataRefreshListener;
+    private final BatchMetricsListener batchMetricsListener;
+
+    private final ReferenceDataCache referenceDataCache;
+    private final MeterRegistry meterRegistry;
+    private final RemotePartitionHandlerFactory remotePartitionHandlerFactory;
+    private final AdaptiveChunkSizePolicyFactory adaptiveChunkSizePolicyFactory;
+
+    private final UserDailySpendJdbcRepository userDailySpendJdbcRepository;
+    private final BatchWatermarkJdbcRepository batchWatermarkJdbcRepository;
+    private final HistoryOutboxJdbcRepository historyOutboxJdbcRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${batch.grade.chunk-size:1000}")
     private int chunkSize;
@@ -63,30 +119,174 @@ public class GradeChangeBatch {
     @Value("${batch.grade.days:90}")
     private int days;
 
-    @Value("${batch.grade.threshold.royal:100000}")
-    private long gradeRoyalThreshold;
+    @Value("${batch.grade.partition.enabled:false}")
+    private boolean partitionEnabled;
+
+    @Value("${batch.grade.partition.grid-size:4}")
+    private int gridSize;
+
+    @Value("${batch.grade.partition.thread-count:4}")
+    private int threadCount;
+
+    @Value("${batch.grade.incremental.enabled:false}")
+    private boolean incrementalEnabled;
+
+    @Value("${batch.grade.incremental.lookback-days:3}")
+    private int lookbackDays;
+
+    @Value("${batch.grade.incremental.full-rebuild-days:7}")
+    private int fullRebuildDays;
+
+    @Value("${batch.grade.cursor.fetch-size:-2147483648}")
+    private int cursorFetchSize;
+
+    @Value("${batch.prefetch.enabled:false}")
+    private boolean prefetchEnabled;
+
+    @Value("${batch.prefetch.buffer-size:1000}")
+    private int prefetchBufferSize;
+
+    @Value("${batch.bulk-insert.mode:JDBC_BATCH}")
+    private BulkInsertMode bulkInsertMode;
+
+    @Value("${batch.bulk-insert.rows-per-statement:500}")
+    private int rowsPerStatement;
 
-    @Value("${batch.grade.threshold.gold:200000}")
-    private long gradeGoldThreshold;
+    @Value("${batch.staging-merge.enabled:false}")
+    private boolean stagingMergeEnabled;
 
-    @Value("${batch.grade.threshold.platinum:300000}")
-    private long gradePlatinumThreshold;
+    @Value("${batch.history.write-behind.enabled:false}")
+    private boolean historyWriteBehindEnabled;
+
+    @Value("${batch.history.write-behind.flush-entries:10}")
+    private int historyFlushEntries;
 
     @Bean
-    public Job gradeChangeJob(Step gradeChangeStep) {
-        return new JobBuilder("gradeChangeJob", jobRepository)
-                .start(gradeChangeStep)
+    public Job gradeChangeJob(Step gradeChangeStep, Step gradeChangePartitionStep, Step gradeSpendRollupStep,
+                              Step gradeHistoryFlushStep) {
+        Step gradeStep = partitionEnabled ? gradeChangePartitionStep : gradeChangeStep;   // 파티션 모드면 Manager Step으로 시작
+
+        // 증분 모드면 일자별 구매액 롤업을 먼저 갱신한 뒤 등급 산정
+        SimpleJobBuilder jobBuilder = incrementalEnabled
+                ? new JobBuilder("gradeChangeJob", jobRepository).start(gradeSpendRollupStep).next(gradeStep)
+                : new JobBuilder("gradeChangeJob", jobRepository).start(gradeStep);
+
+        if (historyWriteBehindEnabled) {
+            jobBuilder.next(gradeHistoryFlushStep);     // HistoryOutbox에 쌓인 이력을 이력 테이블로 적재
+        }
+
+        return jobBuilder
                 .listener(jobFailureNotificationListener)
+                .listener(referenceDataRefreshListener)     // 실행마다 상태/등급 기준 데이터 새로 로딩
                 .build();
     }
 
+    @Bean
+    public Step gradeSpendRollupStep(Tasklet gradeSpendRollupTasklet) {
+        return new StepBuilder("gradeSpendRollupStep", jobRepository)
+                .tasklet(gradeSpendRollupTasklet, platformTransactionManager)
+                .listener(batchMetricsListener)     // 처리 건수 / 소요 시간 지표
+                .build();
+    }
+
+    @Bean
+    @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
+    public Tasklet gradeSpendRollupTasklet(@Value("#{jobParameters['baseDate']}") String baseDateStr) {
+        LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+        LocalDate windowStart = baseDate.minusDays(days).toLocalDate();
+
+        return (contribution, chunkContext) -> {
+            // 1. 집계 기간에서 빠진 일자 제거
+            int expired = userDailySpendJdbcRepository.deleteBefore(windowStart);
+
+            // 2. 롤업은 주문일 기준이라 lookback 이전 주문의 늦은 완료 / 취소 / 반품은 증분 갱신에 반영되지 않음
+            //    > 마지막 전체 재집계가 full-rebuild-days 이상 지났으면(또는 기록이 없으면) 전체 기간을 다시 집계
+            //    전체 조회 모드와의 차이는 최대 full-rebuild-days 동안만 남음
+            boolean fullRebuild = batchWatermarkJdbcRepository.find(SPEND_ROLLUP_FULL_WATERMARK)
+                    .map(rebuiltAt -> !rebuiltAt.isAfter(baseDate.minusDays(fullRebuildDays)))
+                    .orElse(true);
+
+            // 3. 증분이면 마지막 워터마크 이후 + 늦게 완료 처리된 주문을 위한 lookback 일자만 다시 집계
+            LocalDate refreshFrom = fullRebuild ? windowStart : batchWatermarkJdbcRepository.find(SPEND_ROLLUP_WATERMARK)
+                    .map(watermark -> watermark.toLocalDate().minusDays(lookbackDays))
+                    .filter(date -> date.isAfter(windowStart))
+                    .orElse(windowStart);
+
+            userDailySpendJdbcRepository.deleteFrom(refreshFrom);
+            int aggregated = userDailySpendJdbcRepository.aggregateFrom(refreshFrom);
+
+            batchWatermarkJdbcRepository.save(SPEND_ROLLUP_WATERMARK, baseDate);
+            if (fullRebuild) {
+                batchWatermarkJdbcRepository.save(SPEND_ROLLUP_FULL_WATERMARK, baseDate);
+            }
+            contribution.incrementWriteCount(aggregated);
+
+            log.info("[GradeChangeBatch] 구매액 롤업 {} - 만료 {}건 삭제, {} 이후 {}건 집계",
+                    fullRebuild ? "전체 재집계" : "증분 갱신", expired, refreshFrom, aggregated);
+
+            return RepeatStatus.FINISHED;
+        };
+    }
+
     @Bean
     @JobScope   // Job이 실행될 때 빈 생성, 끝나면 사라짐
-    public Step gradeChangeStep(JdbcPagingItemReader<GradeCalculationDto> gradeChangeReader,
+    public Step gradeChangeStep(ItemStreamReader<GradeCalculationDto> gradeChangeReader,
                                 ItemProcessor<GradeCalculationDto, GradeChangeDto> gradeChangeProcessor,
-                                CompositeItemWriter<GradeChangeDto> gradeChangeWriter) {
-        return new StepBuilder("gradeChangeStep", jobRepository)
-                .<GradeCalculationDto, GradeChangeDto>chunk(chunkSize, platformTransactionManager)
+                                ItemWriter<GradeChangeDto> gradeChangeWriter) {
+        return buildGradeChangeStep("gradeChangeStep", gradeChangeReader, gradeChangeProcessor, gradeChangeWriter);
+    }
+
+    @Bean
+    public Step gradeChangePartitionStep(Step gradeChangeWorkerStep) {
+        PartitionStepBuilder builder = new StepBuilder("gradeChangePartitionStep", jobRepository)
+                .partitioner("gradeChangeWorkerStep", gradeChangePartitioner());  // user_created_id 범위 분할
+
+        if (remotePartitionHandlerFactory.isEnabled()) {
+            // 파티션 요청을 큐로 보내고 모든 인스턴스의 Worker가 나눠 처리, 결과는 JobRepository에서 수집
+            return builder
+                    .partitionHandler(remotePartitionHandlerFactory.create("gradeChangeWorkerStep", gridSize))
+                    .build();
+        }
+
+        return builder
+                .step(gradeChangeWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(gradeChangeTaskExecutor())   // 파티션별 Worker Step 병렬 실행
+                .build();
+    }
+
+    // Worker Step은 파티션 스레드에서 실행되므로 JobScope 없이 싱글톤으로 두고, Reader/Writer는 StepScope로 파티션마다 생성
+    @Bean
+    public Step gradeChangeWorkerStep(ItemStreamReader<GradeCalculationDto> gradeChangeReader,
+                                      ItemProcessor<GradeCalculationDto, GradeChangeDto> gradeChangeProcessor,
+                                      ItemWriter<GradeChangeDto> gradeChangeWriter) {
+        return buildGradeChangeStep("gradeChangeWorkerStep", gradeChangeReader, gradeChangeProcessor, gradeChangeWriter);
+    }
+
+    @Bean
+    public Partitioner gradeChangePartitioner() {
+        return new KeyRangePartitioner(new JdbcTemplate(dataSource), "Users", "user_created_id");
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor gradeChangeTaskExecutor() {
+        // 스레드 수와 대기열을 제한해 커넥션 풀 고갈 방지
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setQueueCapacity(gridSize);
+        executor.setThreadNamePrefix("grade-partition-");
+        return executor;
+    }
+
+    private Step buildGradeChangeStep(String stepName,
+                                      ItemStreamReader<GradeCalculationDto> gradeChangeReader,
+                                      ItemProcessor<GradeCalculationDto, GradeChangeDto> gradeChangeProcessor,
+                                      ItemWriter<GradeChangeDto> gradeChangeWriter) {
+        AdaptiveChunkSizePolicy chunkSizePolicy = adaptiveChunkSizePolicyFactory.create(chunkSize);
+
+        return new StepBuilder(stepName, jobRepository)
+                .<GradeCalculationDto, GradeChangeDto>chunk(chunkSizePolicy, platformTransactionManager)
                 .reader(gradeChangeReader)          // 등급 변경 대상 회원 조회
                 .processor(gradeChangeProcessor)    // 등급 산정
                 .writer(gradeChangeWriter)          // 등급 변경 + 이력 저장
@@ -95,52 +295,90 @@ public class GradeChangeBatch {
                 .skipLimit(100)         // 최대 100건까지 오류 허용
                 .listener(new GradeChunkListener())    // Chunk 단위 성공/실패 로깅
                 .listener(new GradeSkipListener())
+                .listener(chunkSizePolicy)          // 커밋 시간에 맞춰 Chunk 크기 조절
+                .listener(batchMetricsListener)     // 처리 건수 / Chunk 소요 시간 지표
                 .build();
     }
 
     @Bean
     @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
-    public JdbcPagingItemReader<GradeCalculationDto> gradeChangeReader(
-            @Value("#{jobParameters['baseDate']}") String baseDateStr) {
+    public ItemStreamReader<GradeCalculationDto> gradeChangeReader(
+            @Value("#{jobParameters['baseDate']}") String baseDateStr,
+            @Value("#{jobParameters['readerType']}") String readerType,   // paging(기본) | cursor
+            @Value("#{stepExecutionContext['minId']}") Long minId,      // 파티션 모드일 때만 존재
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
         LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+        boolean partitioned = (minId != null && maxId != null);
+
+        // 커밋된 마지막 user_created_id를 저장 > 재시작 시 그 다음 회원부터 조회
+        return new KeysetCheckpointItemReader<>("gradeChangeReader", GradeCalculationDto::userCreatedId, lastId -> {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("threeMonthsAgo", incrementalEnabled
+                    ? baseDate.minusDays(days).toLocalDate()     // 롤업은 일자 단위
+                    : baseDate.minusDays(days));
+            parameters.put("activeStatusId", referenceDataCache.getStatusId(Status.ACTIVE));
+            if (partitioned) {
+                parameters.put("minId", minId);
+                parameters.put("maxId", maxId);
+            }
+            if (lastId != null) {
+                parameters.put("lastUserCreatedId", lastId);
+            }
+
+            ItemStreamReader<GradeCalculationDto> reader = CURSOR_READER.equalsIgnoreCase(readerType)
+                    ? gradeCursorReader(parameters)
+                    : gradePagingReader(parameters);
+
+            // 다음 페이지를 현재 Chunk 처리와 겹쳐서 미리 조회
+            return prefetchEnabled ? new PrefetchingItemReader<>(reader, "gradeChangeReader", prefetchBufferSize) : reader;
+        });
+    }
+
+    // 페이지 조회 시간을 지표로 남기는 페이징 Reader
+    private MeteredJdbcPagingItemReader<GradeCalculationDto> gradePagingReader(Map<String, Object> parameters) {
+        MeteredJdbcPagingItemReader<GradeCalculationDto> reader = new MeteredJdbcPagingItemReader<>(meterRegistry);
+        reader.setDataSource(dataSource);
+        reader.setQueryProvider(gradeQueryProvider(parameters));    // 페이징 쿼리 제공
+        reader.setParameterValues(parameters);
+        reader.setPageSize(chunkSize);      // 페이지 크기 = Chunk 크기
+        reader.setName("gradeChangeReader");
+        reader.setSaveState(false);     // 재시작 위치는 페이지 번호가 아닌 마지막 키로 관리 (KeysetCheckpointItemReader)
+        reader.setRowMapper(new GradeCalculationRowMapper());
+        return reader;
+    }
+
+    // 집계 쿼리를 한 번만 실행하고 결과를 스트리밍 커서로 받아 Chunk 단위로 흘려보냄 (페이지마다 GROUP BY 재실행 X)
+    private JdbcCursorItemReader<GradeCalculationDto> gradeCursorReader(Map<String, Object> parameters) {
+        String sql = gradeSelectClause() + " " + gradeFromClause() + " " + gradeWhereClause(parameters) + " " +
+                GRADE_GROUP_CLAUSE + " ORDER BY u.user_created_id";
 
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("threeMonthsAgo", baseDate.minusDays(days));
+        // 커서 Reader는 위치 기반 파라미터만 지원 > 이름 기반 파라미터 변환
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource(parameters);
 
-        return new JdbcPagingItemReaderBuilder<GradeCalculationDto>()
+        return new JdbcCursorItemReaderBuilder<GradeCalculationDto>()
                 .dataSource(dataSource)
-                .queryProvider(gradeQueryProvider())    // 페이징 쿼리 제공
-                .parameterValues(parameters)
-                .pageSize(chunkSize)    // 페이지 크기 = Chunk 크기
+                .sql(NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource))
+                .queryArguments(NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null))
+                .fetchSize(cursorFetchSize)     // MySQL: Integer.MIN_VALUE = 행 단위 스트리밍 (useCursorFetch=true면 양수 크기)
+                .verifyCursorPosition(false)    // 스트리밍 결과셋은 getRow() 검증 불필요
                 .name("gradeChangeReader")
-                .saveState(false)   // 페이징 꼬임 방지: 재시작 시 항상 0페이지부터 읽기
-                .rowMapper(((rs, rowNum) -> new GradeCalculationDto(    // 결과 > DTO 매핑
-                        rs.getLong("user_created_id"),
-                        rs.getLong("current_grade_id"),
-                        rs.getLong("net_amount")    // SQL에서 계산된 순수 금액
-                )))
+                .saveState(false)   // 재시작 위치는 읽은 행 수가 아닌 마지막 키로 관리 (KeysetCheckpointItemReader)
+                .rowMapper(new GradeCalculationRowMapper())
                 .build();
     }
 
-    @Bean
-    public PagingQueryProvider gradeQueryProvider() {
+    private PagingQueryProvider gradeQueryProvider(Map<String, Object> parameters) {
         SqlPagingQueryProviderFactoryBean factoryBean = new SqlPagingQueryProviderFactoryBean();
         factoryBean.setDataSource(dataSource);
 
         Map<String, Order> sortKeys = new HashMap<>();
         sortKeys.put("user_created_id", Order.ASCENDING);   // 페이징 안정성을 위한 정렬 키
 
-        // 순수금액 = 주문금액 - (쿠폰 + 배송비 + 취소금액 + 포장비)
-        // OrderDetails 테이블의 price 사용
-        factoryBean.setSelectClause("SELECT u.user_created_id, u.current_grade_id, " +
-                "COALESCE(SUM(od.price), 0) as net_amount");
-        factoryBean.setFromClause("FROM Users u " +
-                "JOIN Accounts a ON u.user_created_id = a.user_created_id " +
-                "LEFT JOIN Orders o ON u.user_created_id = o.user_created_id AND o.order_date >= :threeMonthsAgo " +
-                "LEFT JOIN OrderDetails od ON o.order_id = od.order_id AND od.order_detail_status = 'COMPLETED'");
-        factoryBean.setWhereClause("WHERE a.current_status_id = (" +
-                "SELECT status_id FROM Statuses WHERE status_name = 'ACTIVE')");
-        factoryBean.setGroupClause("GROUP BY u.user_created_id, u.current_grade_id");
+        factoryBean.setSelectClause(gradeSelectClause());
+        factoryBean.setFromClause(gradeFromClause());
+        factoryBean.setWhereClause(gradeWhereClause(parameters));
+        factoryBean.setGroupClause(GRADE_GROUP_CLAUSE);
         factoryBean.setSortKeys(sortKeys);
 
         try {
@@ -151,32 +389,103 @@ public class GradeChangeBatch {
         }
     }
 
-    @Bean
-    @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
-    public ItemProcessor<GradeCalculationDto, GradeChangeDto> gradeChangeProcessor() {
-        return item -> {
-            Long newGradeId = calculateNewGradeId(item.netAmount());
+    private String gradeSelectClause() {
+        if (incrementalEnabled) {
+            // 증분 모드: 롤업 단계에서 미리 합산한 일자별 구매액만 합산
+            return "SELECT u.user_created_id, u.current_grade_id, COALESCE(SUM(s.amount), 0) as net_amount";
+        }
+        // 순수금액 = 주문금액 - (쿠폰 + 배송비 + 취소금액 + 포장비)
+        // OrderDetails 테이블의 price 사용
+        return "SELECT u.user_created_id, u.current_grade_id, COALESCE(SUM(od.price), 0) as net_amount";
+    }
 
-            // 등급 변화가 없으면 skip
-            if (newGradeId.equals(item.currentGradeId())) {
-                return null;
-            }
+    private String gradeFromClause() {
+        if (incrementalEnabled) {
+            return "FROM Users u " +
+                    "JOIN Accounts a ON u.user_created_id = a.user_created_id " +
+                    "LEFT JOIN UserDailySpends s ON u.user_created_id = s.user_created_id " +
+                    "AND s.spend_date >= :threeMonthsAgo";
+        }
+        return "FROM Users u " +
+                "JOIN Accounts a ON u.user_created_id = a.user_created_id " +
+                "LEFT JOIN Orders o ON u.user_created_id = o.user_created_id AND o.order_date >= :threeMonthsAgo " +
+                "LEFT JOIN OrderDetails od ON o.order_id = od.order_id AND od.order_detail_status = 'COMPLETED'";
+    }
+
+    // 파라미터에 담긴 조건만 추가 (파티션 범위 / 재시작 위치)
+    private String gradeWhereClause(Map<String, Object> parameters) {
+        return "WHERE a.current_status_id = :activeStatusId" +
+                (parameters.containsKey("minId") ? " AND u.user_created_id BETWEEN :minId AND :maxId" : "") +
+                (parameters.containsKey("lastUserCreatedId") ? " AND u.user_created_id > :lastUserCreatedId" : "");
+    }
 
-            String reason = String.format("최근 3개월 순수 구매액 %d원 기준 등급 조정", item.netAmount());
+    @Bean
+    public Step gradeHistoryFlushStep(Tasklet gradeHistoryFlushTasklet) {
+        return new StepBuilder("gradeHistoryFlushStep", jobRepository)
+                .tasklet(gradeHistoryFlushTasklet, platformTransactionManager)
+                .listener(batchMetricsListener)     // 적재 건수 / 소요 시간 지표
+                .build();
+    }
 
-            return new GradeChangeDto(item.userCreatedId(), newGradeId, reason);
+    // 묶음 flush-entries개 = 트랜잭션 1개, 이전 실행에서 남은 묶음까지 모두 적재할 때까지 반복
+    @Bean
+    @StepScope
+    public Tasklet gradeHistoryFlushTasklet() {
+        HistoryOutboxFlusher<GradeChangeDto> flusher = new HistoryOutboxFlusher<>(
+                historyOutboxJdbcRepository, objectMapper, GRADE_HISTORY_SINK, GradeChangeDto.class,
+                (item, changedAt) -> new Object[]{item.userCreatedId(), item.gradeId(), item.reason(), changedAt},
+                BulkInsertItemWriter.<Object[]>builder()
+                        .dataSource(dataSource)
+                        .table("UserGradeHistories")
+                        .columns(List.of("user_created_id", "grade_id", "reason", "changed_at"))
+                        .valuesMapper(row -> row)
+                        .mode(bulkInsertMode)
+                        .rowsPerStatement(rowsPerStatement)
+                        .build());
+
+        return (contribution, chunkContext) -> {
+            int flushed = flusher.flush(historyFlushEntries);
+            contribution.incrementWriteCount(flushed);
+
+            return (flushed > 0) ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
-    public CompositeItemWriter<GradeChangeDto> gradeChangeWriter(
+    public ItemProcessor<GradeCalculationDto, GradeChangeDto> gradeChangeProcessor() {
+        return new GradeChangeProcessor(referenceDataCache.getGradePolicy());     // Step 시작 시 한 번만 조회
+    }
+
+    @Bean
+    @StepScope  // Step이 실행될 때 빈 생성, 끝나면 사라짐
+    public ItemWriter<GradeChangeDto> gradeChangeWriter(
             JdbcBatchItemWriter<GradeChangeDto> updateUserGradeWriter,
-            JdbcBatchItemWriter<GradeChangeDto> insertGradeHistoryWriter) {
+            BulkInsertItemWriter<GradeChangeDto> insertGradeHistoryWriter,
+            @Value("#{jobParameters['baseDate']}") String baseDateStr) {
+        LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
+
+        // write-behind 모드면 이력은 HistoryOutbox에 Chunk당 1행으로 남기고 gradeHistoryFlushStep에서 적재
+        ItemWriter<GradeChangeDto> historyWriter = historyWriteBehindEnabled
+                ? new HistoryOutboxItemWriter<>(historyOutboxJdbcRepository, objectMapper, GRADE_HISTORY_SINK, baseDate)
+                : insertGradeHistoryWriter;
+
+        if (stagingMergeEnabled) {
+            // 임시 테이블 적재 1회 + UPDATE JOIN (+ write-behind가 아니면 INSERT SELECT)
+            ItemWriter<GradeChangeDto> stagingWriter = gradeChangeStagingWriter(baseDate, !historyWriteBehindEnabled);
+            if (!historyWriteBehindEnabled) {
+                return stagingWriter;
+            }
+
+            return new CompositeItemWriterBuilder<GradeChangeDto>()
+                    .delegates(Arrays.asList(stagingWriter, historyWriter))
+                    .build();
+        }
+
         return new CompositeItemWriterBuilder<GradeChangeDto>()
                 .delegates(Arrays.asList(
                         updateUserGradeWriter,      // Users 테이블 업데이트
-                        insertGradeHistoryWriter    // UserGradeHistories 테이블 인서트
+                        historyWriter               // UserGradeHistories 테이블 인서트 (또는 HistoryOutbox)
                 ))
                 .build();
     }
@@ -186,46 +495,61 @@ public class GradeChangeBatch {
     public JdbcBatchItemWriter<GradeChangeDto> updateUserGradeWriter() {
         return new JdbcBatchItemWriterBuilder<GradeChangeDto>()
                 .dataSource(dataSource)
-                .sql("UPDATE Users SET current_grade_id = :gradeId WHERE user_created_id = :userCreatedId")
-                .beanMapped()
+                .sql(GradeChangePreparedStatementSetter.SQL)
+                .itemPreparedStatementSetter(new GradeChangePreparedStatementSetter())  // 리플렉션 없이 위치 기반 바인딩
                 .build();
     }
 
     @Bean
     @StepScope
-    public JdbcBatchItemWriter<GradeChangeDto> insertGradeHistoryWriter(
+    public BulkInsertItemWriter<GradeChangeDto> insertGradeHistoryWriter(
             @Value("#{jobParameters['baseDate']}") String baseDateStr) {
         LocalDateTime baseDate = (baseDateStr != null) ? LocalDateTime.parse(baseDateStr) : LocalDateTime.now();
 
-        return new JdbcBatchItemWriterBuilder<GradeChangeDto>()
+        return BulkInsertItemWriter.<GradeChangeDto>builder()
                 .dataSource(dataSource)
-                .sql("INSERT INTO UserGradeHistories (user_created_id, grade_id, reason, changed_at) " +
-                        "VALUES (:userCreatedId, :gradeId, :reason, :changedAt)")
-                .itemSqlParameterSourceProvider(item -> {
-                    Map<String, Object> params = new HashMap<>();
-                    params.put("userCreatedId", item.userCreatedId());  // 회원 ID
-                    params.put("gradeId", item.gradeId());              // 등급 ID
-                    params.put("reason", item.reason());                // 등급 변경 사유
-                    params.put("changedAt", baseDate);                  // 등급 변경 시간
-
-                    return new MapSqlParameterSource(params);
+                .table("UserGradeHistories")
+                .columns(List.of("user_created_id", "grade_id", "reason", "changed_at"))
+                .valuesMapper(item -> new Object[]{
+                        item.userCreatedId(),   // 회원 ID
+                        item.gradeId(),         // 등급 ID
+                        item.reason(),          // 등급 변경 사유
+                        baseDate                // 등급 변경 시간
+                })
+                .statementSetter((item, ps) -> {    // JDBC_BATCH 모드: 값 배열 없이 바로 바인딩
+                    ps.setLong(1, item.userCreatedId());
+                    ps.setLong(2, item.gradeId());
+                    ps.setString(3, item.reason());
+                    ps.setObject(4, baseDate);
                 })
+                .mode(bulkInsertMode)   // 다중 행 VALUES / LOAD DATA로 Chunk 단위 적재
+                .rowsPerStatement(rowsPerStatement)
                 .build();
     }
 
-    // 금액별 등급 ID 매핑
-    private Long calculateNewGradeId(long amount) {
-        if (amount >= gradePlatinumThreshold) {
-            return Grade.PLATINUM.getId();
-        }
-        if (amount >= gradeGoldThreshold) {
-            return Grade.GOLD.getId();
-        }
-        if (amount >= gradeRoyalThreshold) {
-            return Grade.ROYAL.getId();
+    // Chunk를 임시 테이블에 적재 후 등급 변경 / 이력 저장을 집합 단위 SQL 2개로 처리 (MySQL 전용)
+    private StagingMergeItemWriter<GradeChangeDto> gradeChangeStagingWriter(LocalDateTime baseDate, boolean withHistory) {
+        List<String> mergeStatements = new ArrayList<>();
+        mergeStatements.add("UPDATE Users u JOIN tmp_grade_change t ON u.user_created_id = t.user_created_id " +
+                "SET u.current_grade_id = t.grade_id");
+        if (withHistory) {
+            mergeStatements.add("INSERT INTO UserGradeHistories (user_created_id, grade_id, reason, changed_at) " +
+                    "SELECT t.user_created_id, t.grade_id, t.reason, :changedAt FROM tmp_grade_change t");
         }
 
-        return Grade.GENERAL.getId();
+        return StagingMergeItemWriter.<GradeChangeDto>builder()
+                .dataSource(dataSource)
+                .stagingTable("tmp_grade_change")
+                .columnDefinitions(List.of(
+                        "user_created_id BIGINT PRIMARY KEY",
+                        "grade_id BIGINT NOT NULL",
+                        "reason VARCHAR(100)"))
+                .valuesMapper(item -> new Object[]{item.userCreatedId(), item.gradeId(), item.reason()})
+                .mergeStatements(mergeStatements)
+                .parameters(Map.of("changedAt", baseDate))
+                .mode(bulkInsertMode)
+                .rowsPerStatement(rowsPerStatement)
+                .build();
     }
 
 }
@@ -0,0 +1,37 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import java.util.List;
+
+/**
+ * 등급 산정 기준 (등급 ID + 최소 순수 구매액)
+ * thresholds는 최소 금액 내림차순, 어느 기준에도 못 미치면 defaultGradeId
+ */
+public record GradePolicy(List<GradeThreshold> thresholds, Long defaultGradeId) {
+
+    public record GradeThreshold(Long gradeId, long minAmount) {
+    }
+
+    // 금액별 등급 ID 매핑
+    public Long resolveGradeId(long amount) {
+        for (GradeThreshold threshold : thresholds) {
+            if (amount >= threshold.minAmount()) {
+                return threshold.gradeId();
+            }
+        }
+
+        return defaultGradeId;
+    }
+
+}
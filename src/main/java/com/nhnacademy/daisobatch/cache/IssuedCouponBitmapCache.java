@@ -0,0 +1,157 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import com.nhnacademy.daisobatch.repository.coupon.IssuedCouponJdbcRepository;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 정책별 발급 회원 집합(UserIdBitmap) 캐시
+ * 발급 Job이 후보 회원마다 user_coupons NOT EXISTS 서브쿼리를 실행하지 않고 메모리 비트맵으로 "이미 발급?"을 확인하기 위해 사용
+ * - refresh()는 마지막으로 읽은 user_coupon_id 이후 발급분만 읽어 추가 (증분 갱신)
+ * - 갱신 시 복사본에 추가하고 참조를 교체 > 이전에 받은 비트맵을 읽는 Step(파티션)은 영향 없음
+ * - directory 설정 시 정책별 비트맵 + 마지막 user_coupon_id를 파일로 저장 > 재기동 후에도 증분만 조회
+ *   로딩 시 DB의 마지막 user_coupon_id / 발급 회원 수와 비교해 다르면(삭제 / DB 복구 등) 파일을 버리고 전체 다시 조회
+ * - 추가 전용이므로 발급 행 삭제나 늦게 커밋된 작은 ID는 반영되지 않음 > 중복 발급은 유니크 키 + INSERT IGNORE가 최종 방어
+ *   그래서 발급 Job은 user_coupons에 (user_created_id, coupon_policy_id) 유니크 키가 있을 때만 이 캐시를 사용 (없으면 NOT EXISTS)
+ */
+@Slf4j
+@Component
+public class IssuedCouponBitmapCache {
+
+    private static final int FILE_MAGIC = 0x49554244;   // "IUBD"
+
+    private final IssuedCouponJdbcRepository issuedCouponJdbcRepository;
+    private final Path directory;     // null이면 파일 저장 안 함
+
+    private final Map<Long, Snapshot> snapshots = new HashMap<>();
+
+    private record Snapshot(UserIdBitmap bitmap, long lastUserCouponId) {
+    }
+
+    public IssuedCouponBitmapCache(IssuedCouponJdbcRepository issuedCouponJdbcRepository,
+                                   @Value("${batch.issued-bitmap.directory:}") String directory) {
+        this.issuedCouponJdbcRepository = issuedCouponJdbcRepository;
+        this.directory = (directory == null || directory.isBlank()) ? null : Path.of(directory);
+    }
+
+    /**
+     * 새 발급분을 반영한 정책의 발급 회원 비트맵 (반환된 비트맵은 이후 변경되지 않으므로 여러 스레드에서 읽어도 됨)
+     */
+    public synchronized UserIdBitmap refresh(long policyId) {
+        Snapshot current = snapshots.get(policyId);
+        if (current == null) {
+            current = load(policyId);
+        }
+
+        // 새 발급분이 있을 때만 복사본을 만들어 추가
+        UserIdBitmap base = current.bitmap();
+        UserIdBitmap[] next = new UserIdBitmap[1];
+        long lastUserCouponId = issuedCouponJdbcRepository.forEachIssuedUserIdSince(
+                policyId, current.lastUserCouponId(), userId -> {
+                    if (next[0] == null) {
+                        next[0] = base.copy();
+                    }
+                    next[0].add(userId);
+                });
+
+        if (next[0] != null) {
+            Snapshot refreshed = new Snapshot(next[0], lastUserCouponId);
+            log.info("[IssuedCouponBitmapCache] policyId={} 발급 회원 {}명 (+{}명), 약 {}KB, lastUserCouponId={}",
+                    policyId, refreshed.bitmap().cardinality(), refreshed.bitmap().cardinality() - base.cardinality(),
+                    refreshed.bitmap().sizeInBytes() / 1024, lastUserCouponId);
+
+            current = refreshed;
+            save(policyId, current);
+        }
+
+        snapshots.put(policyId, current);
+        return current.bitmap();
+    }
+
+    private Snapshot load(long policyId) {
+        Path file = file(policyId);
+        if (file == null || !Files.exists(file)) {
+            return new Snapshot(new UserIdBitmap(), 0L);
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readLong() != policyId) {
+                throw new IOException("파일 형식 / 정책 불일치");
+            }
+            long lastUserCouponId = in.readLong();
+            UserIdBitmap bitmap = UserIdBitmap.readFrom(in);
+
+            // 파일 저장 이후 DB가 달라졌으면 증분만으로는 맞출 수 없음
+            IssuedCouponJdbcRepository.IssuedSummary summary =
+                    issuedCouponJdbcRepository.summarizeIssuedUpTo(policyId, lastUserCouponId);
+            if (lastUserCouponId > summary.maxUserCouponId() || bitmap.cardinality() != summary.issuedUsers()) {
+                throw new IOException("DB와 불일치 (파일 lastUserCouponId=" + lastUserCouponId + ", 회원 " +
+                        bitmap.cardinality() + "명 / DB maxUserCouponId=" + summary.maxUserCouponId() + ", 회원 " +
+                        summary.issuedUsers() + "명)");
+            }
+
+            log.info("[IssuedCouponBitmapCache] policyId={} 비트맵 파일 로딩 - {}명, lastUserCouponId={}",
+                    policyId, bitmap.cardinality(), lastUserCouponId);
+            return new Snapshot(bitmap, lastUserCouponId);
+
+        } catch (IOException e) {
+            // 파일이 깨졌거나 DB와 맞지 않으면 DB에서 처음부터 다시 읽음
+            log.warn("[IssuedCouponBitmapCache] policyId={} 비트맵 파일 로딩 실패 - 전체 다시 조회: {}", policyId, e.getMessage());
+            return new Snapshot(new UserIdBitmap(), 0L);
+        }
+    }
+
+    private void save(long policyId, Snapshot snapshot) {
+        Path file = file(policyId);
+        if (file == null) {
+            return;
+        }
+
+        // 임시 파일에 쓴 뒤 교체 > 쓰는 도중 종료돼도 이전 파일 유지
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeLong(policyId);
+                out.writeLong(snapshot.lastUserCouponId());
+                snapshot.bitmap().writeTo(out);
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            // 저장 실패는 다음 실행의 조회량만 늘어나므로 Job은 계속 진행
+            log.warn("[IssuedCouponBitmapCache] policyId={} 비트맵 파일 저장 실패: {}", policyId, e.getMessage());
+        }
+    }
+
+    private Path file(long policyId) {
+        return (directory != null) ? directory.resolve("issued-users-" + policyId + ".bin") : null;
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nhnacademy.daisobatch.cache.GradePolicy.GradeThreshold;
+import com.nhnacademy.daisobatch.entity.coupon.CouponPolicy;
+import com.nhnacademy.daisobatch.repository.coupon.CouponPolicyJdbcRepository;
+import com.nhnacademy.daisobatch.type.user.Grade;
+import com.nhnacademy.daisobatch.type.user.Status;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치에서 반복 조회하는 기준 데이터(상태 / 등급 / 쿠폰 정책) 캐시
+ * 행마다 서브쿼리로 ID를 찾지 않고 Step 시작 시 한 번 조회한 ID를 파라미터로 바인딩하기 위해 사용
+ * - Job 실행마다 별도 스냅샷(ReferenceDataRefreshListener가 열고 닫음) > 실행 중 처음 조회할 때 한 번 로딩 후 실행 끝까지 고정
+ *   다른 Job이 시작해도 이미 실행 중인 Job의 값은 바뀌지 않음
+ * - 스냅샷이 없는 곳(Step 밖, 다른 인스턴스의 원격 파티션 Worker 등)은 TTL 공유 캐시 사용
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private static final String GRADE_POLICY_KEY = "gradePolicy";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CouponPolicyJdbcRepository couponPolicyJdbcRepository;
+
+    private final long gradeRoyalThreshold;
+    private final long gradeGoldThreshold;
+    private final long gradePlatinumThreshold;
+
+    private final Snapshot shared;
+    private final Map<Long, Snapshot> jobSnapshots = new ConcurrentHashMap<>();    // JobExecution ID별
+
+    private record Snapshot(LoadingCache<Status, Long> statusIds,
+                            LoadingCache<String, GradePolicy> gradePolicies,
+                            LoadingCache<Long, CouponPolicy> couponPolicies) {
+    }
+
+    public ReferenceDataCache(JdbcTemplate jdbcTemplate,
+                              CouponPolicyJdbcRepository couponPolicyJdbcRepository,
+                              @Value("${batch.reference-cache.ttl-minutes:10}") long ttlMinutes,
+                              @Value("${batch.grade.threshold.royal:100000}") long gradeRoyalThreshold,
+                              @Value("${batch.grade.threshold.gold:200000}") long gradeGoldThreshold,
+                              @Value("${batch.grade.threshold.platinum:300000}") long gradePlatinumThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.couponPolicyJdbcRepository = couponPolicyJdbcRepository;
+        this.gradeRoyalThreshold = gradeRoyalThreshold;
+        this.gradeGoldThreshold = gradeGoldThreshold;
+        this.gradePlatinumThreshold = gradePlatinumThreshold;
+
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        this.shared = new Snapshot(
+                Caffeine.newBuilder().expireAfterWrite(ttl).build(this::loadStatusId),
+                Caffeine.newBuilder().expireAfterWrite(ttl).build(key -> loadGradePolicy()),
+                Caffeine.newBuilder().expireAfterWrite(ttl).build(couponPolicyJdbcRepository::findById));
+    }
+
+    public Long getStatusId(Status status) {
+        return current().statusIds().get(status);
+    }
+
+    public GradePolicy getGradePolicy() {
+        return current().gradePolicies().get(GRADE_POLICY_KEY);
+    }
+
+    public CouponPolicy getCouponPolicy(Long couponPolicyId) {
+        return current().couponPolicies().get(couponPolicyId);
+    }
+
+    // Job 시작 시 호출: 이 실행은 다른 서비스에서 변경한 기준 데이터를 처음 조회할 때 새로 읽고 끝날 때까지 유지
+    public void openJobSnapshot(long jobExecutionId) {
+        jobSnapshots.put(jobExecutionId, new Snapshot(
+                Caffeine.newBuilder().build(this::loadStatusId),
+                Caffeine.newBuilder().build(key -> loadGradePolicy()),
+                Caffeine.newBuilder().build(couponPolicyJdbcRepository::findById)));
+    }
+
+    // Job 종료 시 호출
+    public void closeJobSnapshot(long jobExecutionId) {
+        jobSnapshots.remove(jobExecutionId);
+    }
+
+    // 현재 스레드의 Step이 속한 Job 실행의 스냅샷 (없으면 TTL 공유 캐시)
+    private Snapshot current() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return shared;
+        }
+
+        Snapshot snapshot = jobSnapshots.get(context.getStepExecution().getJobExecutionId());
+        return (snapshot != null) ? snapshot : shared;
+    }
+
+    private Long loadStatusId(Status status) {
+        try {
+            return jdbcTemplate.queryForObject(
+                    "SELECT status_id FROM Statuses WHERE status_name = ?", Long.class, status.getName());
+
+        } catch (EmptyResultDataAccessException e) {
+            throw new RuntimeException("[ReferenceDataCache] 상태 정보 없음: " + status.getName(), e);
+        }
+    }
+
+    private GradePolicy loadGradePolicy() {
+        Map<String, Long> gradeIds = new HashMap<>();
+        jdbcTemplate.query("SELECT grade_id, grade_name FROM Grades",
+                rs -> { gradeIds.put(rs.getString("grade_name"), rs.getLong("grade_id")); });
+
+        // 기준 금액 내림차순
+        List<GradeThreshold> thresholds = List.of(
+                new GradeThreshold(requireGradeId(gradeIds, Grade.PLATINUM), gradePlatinumThreshold),
+                new GradeThreshold(requireGradeId(gradeIds, Grade.GOLD), gradeGoldThreshold),
+                new GradeThreshold(requireGradeId(gradeIds, Grade.ROYAL), gradeRoyalThreshold)
+        );
+
+        log.info("[ReferenceDataCache] 등급 기준 로딩 - {}", thresholds);
+
+        return new GradePolicy(thresholds, requireGradeId(gradeIds, Grade.GENERAL));
+    }
+
+    private Long requireGradeId(Map<String, Long> gradeIds, Grade grade) {
+        Long gradeId = gradeIds.get(grade.getName());
+        if (gradeId == null) {
+            throw new RuntimeException("[ReferenceDataCache] 등급 정보 없음: " + grade.getName());
+        }
+
+        return gradeId;
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 회원 ID(user_created_id) 집합을 박싱 없이 담는 Roaring 방식 압축 비트맵 (추가 / 포함 여부 확인 전용)
+ * - ID 상위 비트(id >>> 16)마다 컨테이너 1개, 하위 16비트는 컨테이너 안에서 관리
+ * - 컨테이너 값이 4096개 이하면 정렬된 char 배열(값당 2바이트), 넘으면 8KB 비트맵(65536비트)으로 전환
+ * - 연속 구간에 몰린 ID는 비트당 1비트, 흩어진 ID는 값당 2바이트 > HashSet<Long>(값당 수십 바이트) 대비 수십 배 작음
+ * - 스레드 안전하지 않음: 여러 스레드가 읽는 동안 추가가 필요하면 copy()에 추가한 뒤 참조를 교체
+ */
+public final class UserIdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;     // 65536비트 / 64
+    private static final int ARRAY = 0;
+    private static final int BITMAP = 1;
+
+    private long[] keys;              // 오름차순 상위 비트
+    private Container[] containers;   // keys와 같은 위치
+    private int size;
+    private long cardinality;
+
+    public UserIdBitmap() {
+        this(new long[4], new Container[4], 0, 0L);
+    }
+
+    private UserIdBitmap(long[] keys, Container[] containers, int size, long cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+        this.cardinality = cardinality;
+    }
+
+    // 새로 추가됐으면 true
+    public boolean add(long id) {
+        long key = id >>> 16;
+        char low = (char) id;
+
+        int position = Arrays.binarySearch(keys, 0, size, key);
+        if (position < 0) {
+            position = -position - 1;
+            insertContainer(position, key, new ArrayContainer());
+        }
+
+        Container container = containers[position];
+        if (container.contains(low)) {
+            return false;
+        }
+
+        containers[position] = container.add(low);
+        cardinality++;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        int position = Arrays.binarySearch(keys, 0, size, id >>> 16);
+        return position >= 0 && containers[position].contains((char) id);
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    // 컨테이너가 실제로 쓰는 대략적인 바이트 수 (로그 / 지표용)
+    public long sizeInBytes() {
+        long bytes = (long) keys.length * Long.BYTES;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    public UserIdBitmap copy() {
+        Container[] copied = new Container[containers.length];
+        for (int i = 0; i < size; i++) {
+            copied[i] = containers[i].copy();
+        }
+        return new UserIdBitmap(keys.clone(), copied, size, cardinality);
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(keys[i]);
+            containers[i].writeTo(out);
+        }
+    }
+
+    public static UserIdBitmap readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("[UserIdBitmap] 컨테이너 수 오류: " + size);
+        }
+
+        long[] keys = new long[Math.max(size, 4)];
+        Container[] containers = new Container[keys.length];
+        long cardinality = 0L;
+
+        for (int i = 0; i < size; i++) {
+            keys[i] = in.readLong();
+            containers[i] = readContainer(in);
+            cardinality += containers[i].cardinality();
+        }
+
+        return new UserIdBitmap(keys, containers, size, cardinality);
+    }
+
+    private void insertContainer(int position, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(containers, position, containers, position + 1, size - position);
+        keys[position] = key;
+        containers[position] = container;
+        size++;
+    }
+
+    private static Container readContainer(DataInput in) throws IOException {
+        int type = in.readByte();
+
+        if (type == ARRAY) {
+            int count = in.readUnsignedShort();
+            char[] values = new char[Math.max(count, 4)];
+            for (int i = 0; i < count; i++) {
+                values[i] = in.readChar();
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        if (type == BITMAP) {
+            long[] words = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] = in.readLong();
+                count += Long.bitCount(words[i]);
+            }
+            return new BitmapContainer(words, count);
+        }
+
+        throw new IOException("[UserIdBitmap] 알 수 없는 컨테이너 형식: " + type);
+    }
+
+    // 하위 16비트 집합: 추가 시 형식이 바뀌면 새 컨테이너를 반환
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+
+        boolean contains(char low);
+
+        Container add(char low);    // low가 없을 때만 호출
+
+        int cardinality();
+
+        long sizeInBytes();
+
+        Container copy();
+
+        void writeTo(DataOutput out) throws IOException;
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int count;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int count) {
+            this.values = values;
+            this.count = count;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, count, low) >= 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            if (count == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+
+            int position = -Arrays.binarySearch(values, 0, count, low) - 1;
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.min(count * 2, ARRAY_MAX));
+            }
+
+            System.arraycopy(values, position, values, position + 1, count - position);
+            values[position] = low;
+            count++;
+            return this;
+        }
+
+        private BitmapContainer toBitmap() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < count; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, count);
+        }
+
+        @Override
+        public int cardinality() {
+            return count;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) values.length * Character.BYTES;
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(count, 4)), count);
+        }
+
+        @Override
+        public void writeTo(DataOutput out) throws IOException {
+            out.writeByte(ARRAY);
+            out.writeShort(count);
+            for (int i = 0; i < count; i++) {
+                out.writeChar(values[i]);
+            }
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int count;
+
+        BitmapContainer(long[] words, int count) {
+            this.words = words;
+            this.count = count;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            words[low >>> 6] |= 1L << low;
+            count++;
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return count;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) BITMAP_WORDS * Long.BYTES;
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(words.clone(), count);
+        }
+
+        @Override
+        public void writeTo(DataOutput out) throws IOException {
+            out.writeByte(BITMAP);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+}
@@ -1,9 +1,34 @@
 package com.nhnacademy.daisobatch.client;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.Objects;
 
+// userIds는 기본형 배열 (JSON 직렬화 결과는 List<Long>과 동일한 숫자 배열)
+// 배열 컴포넌트는 record 기본 equals/hashCode/toString이 참조 비교라서 내용 기준으로 재정의
 public record BirthdayCouponBulkEvent(
-        List<Long> userIds,
+        long[] userIds,
         String batchId
 ) {
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BirthdayCouponBulkEvent other)) return false;
+        return Arrays.equals(userIds, other.userIds) && Objects.equals(batchId, other.batchId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(userIds) + Objects.hashCode(batchId);
+    }
+
+    // 수천 건 ID를 로그에 모두 찍지 않도록 건수와 처음/마지막 ID만 표시
+    @Override
+    public String toString() {
+        if (userIds == null || userIds.length == 0) {
+            return "BirthdayCouponBulkEvent[batchId=" + batchId + ", userIds=" + Arrays.toString(userIds) + "]";
+        }
+        return "BirthdayCouponBulkEvent[batchId=" + batchId + ", userIds=" + userIds.length + "건 ("
+                + userIds[0] + ".." + userIds[userIds.length - 1] + ")]";
+    }
 }
@@ -1,6 +1,7 @@
 package com.nhnacademy.daisobatch.client;
 
 import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -18,4 +19,12 @@ public interface UserServiceClient {
             @RequestParam("size") int size
     );
 
+    // 같은 API를 회원 DTO 없이 ID 배열로만 역직렬화
+    @GetMapping("/api/users/birthday")
+    LongIdBlock getBirthdayUserIds(
+            @RequestParam("month") int month,
+            @RequestParam("lastSeenId") long lastSeenId,
+            @RequestParam("size") int size
+    );
+
 }
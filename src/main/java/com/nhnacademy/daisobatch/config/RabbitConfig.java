@@ -1,24 +1,35 @@
 package com.nhnacademy.daisobatch.config;
 
+import com.nhnacademy.daisobatch.publisher.BirthdayCouponEventMessageConverter;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitConfig {
 
+    // 생일 쿠폰 이벤트 형식: json(기본) / compact(정렬 + 차분 varint, content-type으로 구분)
+    @Value("${rabbitmq.birthday.publish.format:json}")
+    private String birthdayEventFormat;
+
+    @Value("${rabbitmq.birthday.publish.compress:false}")
+    private boolean birthdayEventCompress;
+
     @Bean
     public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+        return new BirthdayCouponEventMessageConverter(new Jackson2JsonMessageConverter(),
+                "compact".equalsIgnoreCase(birthdayEventFormat), birthdayEventCompress);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory cf, MessageConverter mc) {
         RabbitTemplate rt = new RabbitTemplate(cf);
         rt.setMessageConverter(mc);
+        rt.setMandatory(true); // 라우팅 실패 메시지를 Return으로 받아 CorrelationData에 연결
         return rt;
     }
 }
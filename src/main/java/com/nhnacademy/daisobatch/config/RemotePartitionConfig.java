@@ -0,0 +1,69 @@
+package com.nhnacademy.daisobatch.config;
+
+import com.nhnacademy.daisobatch.partitioner.LocalPartitionRequestTransport;
+import com.nhnacademy.daisobatch.partitioner.PartitionRequestTransport;
+import com.nhnacademy.daisobatch.partitioner.PartitionWorker;
+import com.nhnacademy.daisobatch.partitioner.RabbitPartitionRequestTransport;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 원격 파티셔닝(batch.remote-partition.enabled=true) 구성
+ * - rabbit: Manager가 파티션 요청을 큐로 보내고, 모든 인스턴스(Manager 포함)가 Worker로 소비
+ * - local: 브로커 없이 같은 프로세스에서 처리 (단일 인스턴스 / 테스트)
+ */
+@Configuration
+public class RemotePartitionConfig {
+
+    @Value("${batch.remote-partition.transport:rabbit}")
+    private String transport;
+
+    @Value("${batch.remote-partition.queue:daiso.batch.partition}")
+    private String queue;
+
+    @Value("${batch.remote-partition.worker-concurrency:2}")
+    private int workerConcurrency;
+
+    @Bean
+    public PartitionWorker partitionWorker(JobExplorer jobExplorer, JobRepository jobRepository,
+                                           BeanFactory beanFactory) {
+        return new PartitionWorker(jobExplorer, jobRepository, beanFactory);
+    }
+
+    @Bean
+    public PartitionRequestTransport partitionRequestTransport(RabbitTemplate rabbitTemplate,
+                                                               PartitionWorker partitionWorker) {
+        if ("local".equalsIgnoreCase(transport)) {
+            return new LocalPartitionRequestTransport(partitionWorker, workerConcurrency);
+        }
+        return new RabbitPartitionRequestTransport(rabbitTemplate, queue);
+    }
+
+    // 인스턴스 재시작 중에도 요청이 남도록 durable 큐
+    @Bean
+    @ConditionalOnExpression("${batch.remote-partition.enabled:false} and "
+            + "'${batch.remote-partition.transport:rabbit}' == 'rabbit'")
+    public Queue partitionRequestQueue() {
+        return new Queue(queue, true);
+    }
+
+    // 파티션 하나가 수 분 걸리므로 한 번에 1건만 가져감 > 놀고 있는 인스턴스가 나머지 파티션을 처리
+    @Bean
+    public SimpleRabbitListenerContainerFactory partitionListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setPrefetchCount(1);
+        return factory;
+    }
+}
@@ -1,13 +1,28 @@
 package com.nhnacademy.daisobatch.controller;
 
+import com.nhnacademy.daisobatch.dto.job.JobExecutionResponse;
+import com.nhnacademy.daisobatch.exception.JobLaunchLimitExceededException;
+import com.nhnacademy.daisobatch.launcher.AsyncJobLauncher;
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -19,6 +34,7 @@ public class JobController {
      */
 
     private final JobLauncher jobLauncher;
+    private final AsyncJobLauncher asyncJobLauncher;
 
     private final Job birthdayCouponJobMSA;
     private final Job birthdayCouponJobDB;
@@ -27,18 +43,24 @@ public class JobController {
 
     private final Job gradeChangeJob;
 
+    private final Job couponExpiryJob;
+
     public JobController(
             JobLauncher jobLauncher,
+            AsyncJobLauncher asyncJobLauncher,
             @Qualifier("birthdayCouponJobMSA") Job birthdayCouponJobMSA,
             @Qualifier("birthdayCouponJobDB") Job birthdayCouponJobDB,
             @Qualifier("dormantAccountJob") Job dormantAccountJob,
-            @Qualifier("gradeChangeJob") Job gradeChangeJob
+            @Qualifier("gradeChangeJob") Job gradeChangeJob,
+            @Qualifier("couponExpiryJob") Job couponExpiryJob
     ) {
         this.jobLauncher = jobLauncher;
+        this.asyncJobLauncher = asyncJobLauncher;
         this.birthdayCouponJobMSA = birthdayCouponJobMSA;
         this.birthdayCouponJobDB = birthdayCouponJobDB;
         this.dormantAccountJob = dormantAccountJob;
         this.gradeChangeJob = gradeChangeJob;
+        this.couponExpiryJob = couponExpiryJob;
     }
 
     // 생일 쿠폰 - MSA
@@ -99,10 +121,11 @@ public class JobController {
     }
 
     @GetMapping("/batch/grade")
-    public String runGradeJob() {   // 등급 변경 배치 작업
+    public String runGradeJob(@RequestParam(defaultValue = "paging") String readerType) {   // 등급 변경 배치 작업 (paging | cursor)
         try {
             JobParameters jobParameters = new JobParametersBuilder()
                     .addString("baseDate", LocalDateTime.now().toString())
+                    .addString("readerType", readerType)
                     .toJobParameters();
 
             jobLauncher.run(gradeChangeJob, jobParameters);
@@ -115,4 +138,63 @@ public class JobController {
         }
     }
 
+    @GetMapping("/batch/coupon/expiry")
+    public String runCouponExpiryJob() {    // 쿠폰 만료 배치 작업
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("baseDate", LocalDateTime.now().toString())
+                    .toJobParameters();
+
+            var exec = jobLauncher.run(couponExpiryJob, jobParameters);
+
+            return String.format("쿠폰 만료 배치 작업 완료! status=%s, expired=%d건", exec.getStatus(),
+                    exec.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum());
+
+        } catch (Exception e) {
+            log.error("쿠폰 만료 배치 실패", e);
+            return "배치 실행 실패: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Job을 가상 스레드에서 실행하고 jobExecutionId를 바로 반환 (202)
+     * 요청 파라미터는 문자열 JobParameter로 전달 (예: ?readerType=cursor)
+     * 404: 없는 Job / 429: Job별 동시 실행 제한 초과 또는 스케줄러 실행 락 보유 중 / 409: 이미 실행 중이거나 완료된 JobInstance
+     */
+    @PostMapping("/batch/jobs/{jobName}")
+    public ResponseEntity<JobExecutionResponse> launchJob(@PathVariable String jobName,
+                                                          @RequestParam Map<String, String> parameters) {
+        try {
+            JobExecution execution = asyncJobLauncher.launch(jobName, parameters);
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/batch/jobs/executions/" + execution.getId()))
+                    .body(JobExecutionResponse.from(execution));
+
+        } catch (NoSuchJobException e) {
+            return ResponseEntity.notFound().build();
+
+        } catch (JobLaunchLimitExceededException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+
+        } catch (JobParametersInvalidException e) {
+            log.warn("[JobController] {} 파라미터 오류 - {}", jobName, e.getMessage());
+            return ResponseEntity.badRequest().build();
+
+        } catch (JobExecutionException e) {
+            log.warn("[JobController] {} 실행 거부 - {}", jobName, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // 비동기 실행한 Job의 상태 / Step별 진행 건수 (JobRepository 기준)
+    @GetMapping("/batch/jobs/executions/{jobExecutionId}")
+    public ResponseEntity<JobExecutionResponse> getJobExecution(@PathVariable long jobExecutionId) {
+        return asyncJobLauncher.find(jobExecutionId)
+                .map(JobExecutionResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
 }
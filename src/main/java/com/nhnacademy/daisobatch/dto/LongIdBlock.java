@@ -0,0 +1,150 @@
+package com.nhnacademy.daisobatch.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * ID만 옮기는 Step에서 아이템 1건으로 주고받는 기본형 long ID 묶음 (페이지 1개 = 아이템 1건)
+ * 회원마다 DTO / Long 박싱 / 엔티티를 만들지 않고 Reader > Writer까지 배열 하나로 전달
+ * JSON 응답은 숫자 배열 또는 userCreatedId 필드를 가진 객체 배열을 DTO 없이 바로 읽음
+ */
+@JsonDeserialize(using = LongIdBlock.Deserializer.class)
+public final class LongIdBlock {
+
+    private static final LongIdBlock EMPTY = new LongIdBlock(new long[0], 0);
+
+    private final long[] ids;
+    private final int size;
+
+    public LongIdBlock(long[] ids, int size) {
+        if (size < 0 || size > ids.length) {
+            throw new IllegalArgumentException("[LongIdBlock] size 범위 오류: " + size);
+        }
+        this.ids = ids;
+        this.size = size;
+    }
+
+    public static LongIdBlock empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return ids[index];
+    }
+
+    public long first() {
+        return get(0);
+    }
+
+    public long last() {
+        return get(size - 1);
+    }
+
+    // 배열이 꽉 차 있으면 복사 없이 그대로 반환
+    public long[] toArray() {
+        return (size == ids.length) ? ids : Arrays.copyOf(ids, size);
+    }
+
+    // keep을 만족하는 ID만 남긴 묶음 (모두 남으면 복사 없이 그대로 반환)
+    public LongIdBlock filter(LongPredicate keep) {
+        long[] kept = null;
+        int keptSize = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (keep.test(ids[i])) {
+                if (kept != null) {
+                    kept[keptSize] = ids[i];
+                }
+                keptSize++;
+            } else if (kept == null) {
+                kept = Arrays.copyOf(ids, size);    // 처음 빠지는 ID부터 복사본에 당겨 담음
+            }
+        }
+
+        if (kept == null) {
+            return this;
+        }
+        return (keptSize == 0) ? EMPTY : new LongIdBlock(kept, keptSize);
+    }
+
+    /**
+     * [1, 2, 3] 또는 [{"userCreatedId": 1, ...}, ...] 형태를 스트리밍으로 읽어 long 배열에 바로 담음
+     */
+    public static class Deserializer extends StdDeserializer<LongIdBlock> {
+
+        private static final String ID_FIELD = "userCreatedId";
+
+        public Deserializer() {
+            super(LongIdBlock.class);
+        }
+
+        @Override
+        public LongIdBlock deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return (LongIdBlock) context.handleUnexpectedToken(LongIdBlock.class, parser);
+            }
+
+            long[] ids = new long[64];
+            int size = 0;
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                long id;
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    id = parser.getLongValue();
+                } else if (token == JsonToken.START_OBJECT) {
+                    id = readIdField(parser, context);
+                } else {
+                    return (LongIdBlock) context.handleUnexpectedToken(LongIdBlock.class, parser);
+                }
+
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = id;
+            }
+
+            return (size == 0) ? EMPTY : new LongIdBlock(ids, size);
+        }
+
+        private long readIdField(JsonParser parser, DeserializationContext context) throws IOException {
+            long id = 0L;
+            boolean found = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (ID_FIELD.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    id = parser.getLongValue();
+                    found = true;
+                } else {
+                    parser.skipChildren();   // 그 외 필드는 값 객체를 만들지 않고 건너뜀
+                }
+            }
+
+            if (!found) {
+                context.reportInputMismatch(LongIdBlock.class, "[LongIdBlock] %s 필드 없음", ID_FIELD);
+            }
+            return id;
+        }
+    }
+
+}
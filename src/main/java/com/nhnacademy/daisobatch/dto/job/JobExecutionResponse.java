@@ -0,0 +1,69 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.dto.job;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * 비동기 실행 Job의 상태 / 진행률 응답
+ * Step 건수는 마지막 Chunk 커밋 시점 기준 (실행 중이면 진행 중인 값)
+ */
+public record JobExecutionResponse(Long jobExecutionId,
+                                   String jobName,
+                                   String status,
+                                   String exitCode,
+                                   LocalDateTime startTime,
+                                   LocalDateTime endTime,
+                                   List<StepProgress> steps) {
+
+    public record StepProgress(String stepName,
+                               String status,
+                               long readCount,
+                               long writeCount,
+                               long skipCount,
+                               long commitCount,
+                               long rollbackCount) {
+
+        static StepProgress from(StepExecution stepExecution) {
+            return new StepProgress(
+                    stepExecution.getStepName(),
+                    stepExecution.getStatus().name(),
+                    stepExecution.getReadCount(),
+                    stepExecution.getWriteCount(),
+                    stepExecution.getSkipCount(),
+                    stepExecution.getCommitCount(),
+                    stepExecution.getRollbackCount());
+        }
+    }
+
+    public static JobExecutionResponse from(JobExecution jobExecution) {
+        List<StepProgress> steps = jobExecution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(StepExecution::getId))
+                .map(StepProgress::from)
+                .toList();
+
+        return new JobExecutionResponse(
+                jobExecution.getId(),
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getStatus().name(),
+                jobExecution.getExitStatus().getExitCode(),
+                jobExecution.getStartTime(),
+                jobExecution.getEndTime(),
+                steps);
+    }
+
+}
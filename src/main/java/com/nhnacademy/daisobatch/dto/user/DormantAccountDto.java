@@ -16,5 +16,5 @@ import java.time.LocalDateTime;
 
 public record DormantAccountDto(String loginId,
                                 LocalDateTime lastLoginAt,
-                                Long currentStatusId) {
+                                long currentStatusId) {
 }
@@ -12,7 +12,8 @@
 
 package com.nhnacademy.daisobatch.dto.user;
 
-public record GradeCalculationDto(Long userCreatedId,
-                                  Long currentGradeId,
-                                  Long netAmount) {
+// Reader가 회원마다 만드는 DTO > 박싱 없이 기본형 long으로 보관
+public record GradeCalculationDto(long userCreatedId,
+                                  long currentGradeId,
+                                  long netAmount) {
 }
@@ -24,6 +24,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,7 +33,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "user_coupons")
+@Table(name = "user_coupons",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_coupons_user_policy",
+                columnNames = {"user_created_id", "coupon_policy_id"}))    // 회원당 정책 1건 (INSERT IGNORE 근거)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
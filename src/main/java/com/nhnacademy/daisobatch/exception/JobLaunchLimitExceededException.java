@@ -0,0 +1,7 @@
+package com.nhnacademy.daisobatch.exception;
+
+public class JobLaunchLimitExceededException extends RuntimeException {
+    public JobLaunchLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.launcher;
+
+import com.nhnacademy.daisobatch.exception.JobLaunchLimitExceededException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersIncrementer;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP 요청 스레드에서 Job 완료를 기다리지 않고 JobExecution만 만들어 바로 반환하는 실행기
+ * - Job 실행은 가상 스레드에서 (실행 중인 Job 수만큼 플랫폼 스레드를 잡지 않음)
+ * - Job별 동시 실행 수 제한: JobRepository의 실행 중 JobExecution 수 기준 (스케줄러 / 다른 인스턴스 실행 포함)
+ * - Job별 실행 슬롯마다 ShedLock 락을 두고 빈 슬롯의 락을 잡아 실행, Job이 끝나면 해제 > 모든 슬롯이 잡혀 있으면 실행 거부
+ *   슬롯 0은 스케줄러와 같은 이름(Job 이름), 나머지는 "Job 이름#슬롯" > 인스턴스가 여러 대여도 Job별 최대 max-concurrent-per-job개
+ * 스케줄러가 쓰는 기본 JobLauncher(동기)는 그대로 두고, 이 실행기는 빈으로 노출하지 않은 전용 Launcher 사용
+ */
+@Slf4j
+@Component
+public class AsyncJobLauncher {
+
+    private final Map<String, Job> jobs;
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher jobLauncher;
+    private final LockProvider lockProvider;
+    private final int maxConcurrentPerJob;
+    private final Duration lockAtMostFor;
+
+    private final Map<String, Object> launchLocks = new ConcurrentHashMap<>();
+
+    public AsyncJobLauncher(List<Job> jobs, JobRepository jobRepository, JobExplorer jobExplorer,
+                            LockProvider lockProvider,
+                            @Value("${batch.launch.max-concurrent-per-job:1}") int maxConcurrentPerJob,
+                            @Value("${batch.launch.lock-at-most-for-minutes:30}") long lockAtMostForMinutes)
+            throws Exception {
+        this.jobs = jobs.stream().collect(Collectors.toMap(Job::getName, Function.identity()));
+        this.jobExplorer = jobExplorer;
+        this.lockProvider = lockProvider;
+        this.maxConcurrentPerJob = Math.max(1, maxConcurrentPerJob);
+        this.lockAtMostFor = Duration.ofMinutes(lockAtMostForMinutes);
+
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new VirtualThreadTaskExecutor("batch-launch-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 요청 파라미터를 문자열 JobParameter로 넘겨 실행 (baseDate가 없으면 현재 시각, runDate로 매 실행 구분)
+     * 반환 시점의 JobExecution은 STARTING 상태일 수 있음
+     */
+    public JobExecution launch(String jobName, Map<String, String> parameters) throws JobExecutionException {
+        Job job = jobs.get(jobName);
+        if (job == null) {
+            throw new NoSuchJobException("[AsyncJobLauncher] 등록되지 않은 Job: " + jobName);
+        }
+
+        JobParametersBuilder builder = new JobParametersBuilder();
+        parameters.forEach(builder::addString);
+        if (!parameters.containsKey("baseDate")) {
+            builder.addString("baseDate", LocalDateTime.now().toString());
+        }
+        builder.addLong("runDate", System.currentTimeMillis());
+
+        // 같은 Job의 동시 요청은 순서대로 검사 > 실행 중 수 확인과 JobExecution 생성 사이에 끼어들지 않음
+        synchronized (launchLocks.computeIfAbsent(jobName, name -> new Object())) {
+            int running = jobExplorer.findRunningJobExecutions(jobName).size();
+            if (running >= maxConcurrentPerJob) {
+                throw new JobLaunchLimitExceededException("[AsyncJobLauncher] " + jobName +
+                        " 동시 실행 제한 초과 (running=" + running + ", limit=" + maxConcurrentPerJob + ")");
+            }
+
+            // 스케줄러 / 다른 인스턴스가 모든 슬롯 락을 잡고 있으면 실행 거부
+            SimpleLock lock = lockSlot(jobName)
+                    .orElseThrow(() -> new JobLaunchLimitExceededException("[AsyncJobLauncher] " + jobName +
+                            " 실행 락(ShedLock) 슬롯 " + maxConcurrentPerJob + "개를 모두 다른 실행이 잡고 있음"));
+
+            try {
+                JobExecution execution = jobLauncher.run(unlockOnFinish(job, lock), builder.toJobParameters());
+                log.info("[AsyncJobLauncher] {} 비동기 실행 - jobExecutionId={}", jobName, execution.getId());
+
+                return execution;
+
+            } catch (JobExecutionException | RuntimeException e) {
+                lock.unlock(); // Job이 시작되지 않았으면 바로 해제
+                throw e;
+            }
+        }
+    }
+
+    // 0번 슬롯부터 비어 있는 슬롯의 락을 잡음 (0번 = 스케줄러의 @SchedulerLock과 같은 이름)
+    private Optional<SimpleLock> lockSlot(String jobName) {
+        for (int slot = 0; slot < maxConcurrentPerJob; slot++) {
+            String lockName = (slot == 0) ? jobName : jobName + "#" + slot;
+            Optional<SimpleLock> lock = lockProvider.lock(
+                    new LockConfiguration(Instant.now(), lockName, lockAtMostFor, Duration.ZERO));
+            if (lock.isPresent()) {
+                return lock;
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 가상 스레드에서 Job 실행이 끝나면(성공 / 실패 모두) 락 해제
+    private static Job unlockOnFinish(Job job, SimpleLock lock) {
+        return new Job() {
+            @Override
+            public String getName() {
+                return job.getName();
+            }
+
+            @Override
+            public boolean isRestartable() {
+                return job.isRestartable();
+            }
+
+            @Override
+            public void execute(JobExecution execution) {
+                try {
+                    job.execute(execution);
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            @Override
+            public JobParametersIncrementer getJobParametersIncrementer() {
+                return job.getJobParametersIncrementer();
+            }
+
+            @Override
+            public JobParametersValidator getJobParametersValidator() {
+                return job.getJobParametersValidator();
+            }
+        };
+    }
+
+    public Optional<JobExecution> find(long jobExecutionId) {
+        return Optional.ofNullable(jobExplorer.getJobExecution(jobExecutionId));
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.listener;
+
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Step에 붙여 Chunk 처리 시간과 읽기/쓰기/스킵 건수를 Micrometer로 기록하는 Listener
+ * - 건수는 StepExecution 누적값에서 직전 Chunk 이후 늘어난 만큼만 Counter에 더함 (Prometheus rate()로 초당 처리량)
+ * - 직전 누적값은 StepContext 속성에 보관 > Step 실행(파티션)마다 따로 계산되고 Step이 끝나면 함께 사라짐
+ * Tasklet Step도 반복 1회가 Chunk 1개로 기록됨
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchMetricsListener implements ChunkListener {
+
+    private static final String CHUNK_STARTED_AT = "batchMetrics.chunkStartedAt";
+    private static final String LAST_COUNTS = "batchMetrics.lastCounts";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(CHUNK_STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        recordChunkDuration(context, "committed");
+        recordItemCounts(context.getStepContext());
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        recordChunkDuration(context, "rolled_back");
+        recordItemCounts(context.getStepContext());     // 롤백되어도 스킵 건수는 반영
+    }
+
+    private void recordChunkDuration(ChunkContext context, String result) {
+        Object startedAt = context.getAttribute(CHUNK_STARTED_AT);
+        if (startedAt == null) {
+            return;
+        }
+
+        StepContext stepContext = context.getStepContext();
+        BatchMetrics.chunkTimer(meterRegistry, stepContext.getJobName(), stepContext.getStepName(), result)
+                .record(System.nanoTime() - (long) startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordItemCounts(StepContext stepContext) {
+        StepExecution stepExecution = stepContext.getStepExecution();
+        long[] current = {
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount()
+        };
+
+        long[] last = (long[]) stepContext.getAttribute(LAST_COUNTS);
+        if (last == null) {
+            last = new long[current.length];
+        }
+        stepContext.setAttribute(LAST_COUNTS, current);
+
+        String job = stepContext.getJobName();
+        String step = stepContext.getStepName();
+        increment(BatchMetrics.ITEMS_READ, job, step, current[0] - last[0]);
+        increment(BatchMetrics.ITEMS_WRITTEN, job, step, current[1] - last[1]);
+        increment(BatchMetrics.ITEMS_SKIPPED, job, step, current[2] - last[2]);
+    }
+
+    private void increment(String name, String job, String step, long delta) {
+        if (delta > 0) {
+            BatchMetrics.itemCounter(meterRegistry, name, job, step).increment(delta);
+        }
+    }
+
+}
@@ -12,32 +12,27 @@
 
 package com.nhnacademy.daisobatch.listener;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import com.nhnacademy.daisobatch.notification.DoorayNotificationDispatcher;
+import com.nhnacademy.daisobatch.notification.JobFailureNotification;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class JobFailureNotificationListener implements JobExecutionListener {
 
-    @Value("${dooray.hook.url}")
-    private String doorayHookUrl;
-
-    private final RestTemplate restTemplate;
+    private final DoorayNotificationDispatcher doorayNotificationDispatcher;
 
     @Override
     public void afterJob(JobExecution jobExecution) {
         if (jobExecution.getStatus() == BatchStatus.FAILED) {
-            log.error("[JobFailureNotificationListener] 배치 실패: 두레이 알림 전송 시도");
+            log.error("[JobFailureNotificationListener] 배치 실패: 두레이 알림 전송 요청");
             sendDoorayNotification(jobExecution);
 
         } else {
@@ -46,30 +41,15 @@ public class JobFailureNotificationListener implements JobExecutionListener {
         }
     }
 
+    // 큐에 넣고 바로 반환 > 전송(묶음 / 재시도)은 DoorayNotificationDispatcher 백그라운드 스레드에서
     private void sendDoorayNotification(JobExecution jobExecution) {
-        String jobName = jobExecution.getJobInstance().getJobName();
-        String exitDescription = jobExecution.getExitStatus().getExitDescription();
-        String description = (exitDescription != null && exitDescription.length() > 1000)
-                ? String.format("%s ... (생략)", exitDescription.substring(0, 1000)) : exitDescription;
-
-        Map<String, Object> doorayBody = new HashMap<>();
-        doorayBody.put("botName", "Daiso Batch Bot");
-        doorayBody.put("text", "**배치 작업 실패 알림**");
-
-        Map<String, String> attachment = new HashMap<>();
-        attachment.put("title", String.format("Job Name: %s", jobName));
-        attachment.put("text", String.format("Error Log:\n```\n%s\n```", description));
-        attachment.put("color", "#FF0000");
+        LocalDateTime failedAt = (jobExecution.getEndTime() != null) ? jobExecution.getEndTime() : LocalDateTime.now();
 
-        doorayBody.put("attachments", Collections.singletonList(attachment));
-
-        try {
-            restTemplate.postForEntity(doorayHookUrl, doorayBody, String.class);
-            log.debug("[JobFailureNotificationListener] 두레이 알림 전송 완료");
-
-        } catch (Exception e) {
-            log.error("[JobFailureNotificationListener] 두레이 알림 전송 실패", e);
-        }
+        doorayNotificationDispatcher.submit(new JobFailureNotification(
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getId(),
+                jobExecution.getExitStatus().getExitDescription(),
+                failedAt));
     }
 
 }
@@ -0,0 +1,45 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.listener;
+
+import com.nhnacademy.daisobatch.partitioner.PartitionRequest;
+import com.nhnacademy.daisobatch.partitioner.PartitionWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티션 요청 큐를 구독하는 Worker (원격 파티셔닝 rabbit 모드에서 모든 인스턴스에 등록)
+ * 파티션 처리가 끝난 뒤 ACK > 처리 중 인스턴스가 죽으면 메시지는 재전달되지만
+ * 이미 선점된 파티션은 PartitionWorker가 건너뛰고, Manager가 Heartbeat 없는 파티션을 실패 처리 > Job 재시작으로 다시 분배
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${batch.remote-partition.enabled:false} and "
+        + "'${batch.remote-partition.transport:rabbit}' == 'rabbit'")
+public class PartitionRequestListener {
+
+    private final PartitionWorker partitionWorker;
+
+    @RabbitListener(queues = "${batch.remote-partition.queue:daiso.batch.partition}",
+            concurrency = "${batch.remote-partition.worker-concurrency:2}",
+            containerFactory = "partitionListenerContainerFactory")
+    public void onPartitionRequest(PartitionRequest request) {
+        log.info("[PartitionRequestListener] 파티션 요청 수신 - {}", request);
+        partitionWorker.handle(request);
+    }
+
+}
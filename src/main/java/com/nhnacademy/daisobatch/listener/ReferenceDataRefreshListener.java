@@ -0,0 +1,42 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.listener;
+
+import com.nhnacademy.daisobatch.cache.ReferenceDataCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class ReferenceDataRefreshListener implements JobExecutionListener {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        // 이 Job 실행 전용 스냅샷 > 실행 중 한 번 새로 읽고, 다른 Job의 캐시는 건드리지 않음
+        referenceDataCache.openJobSnapshot(jobExecution.getId());
+        log.info("[ReferenceDataRefreshListener] 기준 데이터 스냅샷 생성: {} (jobExecutionId={})",
+                jobExecution.getJobInstance().getJobName(), jobExecution.getId());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        referenceDataCache.closeJobSnapshot(jobExecution.getId());
+    }
+
+}
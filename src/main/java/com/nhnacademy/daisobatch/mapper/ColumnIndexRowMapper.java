@@ -0,0 +1,69 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.mapper;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 컬럼 위치를 ResultSet마다 한 번만 찾아두고, 행마다 이름 대신 인덱스로 값을 읽는 RowMapper
+ * - 페이징 Reader는 페이지마다 새 ResultSet을 열므로 ResultSet이 바뀔 때만 findColumn 다시 수행
+ * - 닫힌 ResultSet(드라이버 행 버퍼)을 붙잡지 않도록 약한 참조로 비교
+ * - 하위 클래스는 생성자에 넘긴 컬럼 순서대로 index[0], index[1] ... 을 사용
+ */
+public abstract class ColumnIndexRowMapper<T> implements RowMapper<T> {
+
+    private final String[] columns;
+
+    // 같은 매퍼를 쓰는 Reader가 백그라운드 스레드에서 읽을 수 있으므로 (ResultSet, 인덱스)를 한 번에 교체
+    private volatile Resolved resolved;
+
+    private record Resolved(WeakReference<ResultSet> resultSet, int[] index) {
+
+        boolean isFor(ResultSet rs) {
+            return resultSet.get() == rs;
+        }
+    }
+
+    protected ColumnIndexRowMapper(String... columns) {
+        this.columns = columns.clone();
+    }
+
+    @Override
+    public final T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Resolved current = resolved;
+        if (current == null || !current.isFor(rs)) {
+            current = resolve(rs);
+            resolved = current;
+        }
+
+        return mapRow(rs, current.index());
+    }
+
+    /**
+     * index[i] = 생성자에 넘긴 i번째 컬럼의 ResultSet 위치 (1부터 시작)
+     */
+    protected abstract T mapRow(ResultSet rs, int[] index) throws SQLException;
+
+    private Resolved resolve(ResultSet rs) throws SQLException {
+        int[] index = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            index[i] = rs.findColumn(columns[i]);
+        }
+
+        return new Resolved(new WeakReference<>(rs), index);
+    }
+
+}
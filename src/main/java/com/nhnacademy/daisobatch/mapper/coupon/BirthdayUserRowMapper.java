@@ -0,0 +1,20 @@
+package com.nhnacademy.daisobatch.mapper.coupon;
+
+import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
+import com.nhnacademy.daisobatch.mapper.ColumnIndexRowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// 생일자 조회 결과 > DTO 매핑
+public class BirthdayUserRowMapper extends ColumnIndexRowMapper<BirthdayUserDto> {
+
+    public BirthdayUserRowMapper() {
+        super("user_created_id");
+    }
+
+    @Override
+    protected BirthdayUserDto mapRow(ResultSet rs, int[] index) throws SQLException {
+        return new BirthdayUserDto(rs.getLong(index[0]));
+    }
+}
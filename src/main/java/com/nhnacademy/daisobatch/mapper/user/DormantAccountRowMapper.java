@@ -0,0 +1,39 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.mapper.user;
+
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import com.nhnacademy.daisobatch.mapper.ColumnIndexRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * 휴면 대상 계정 조회 결과 > DTO 매핑 (컬럼 인덱스 + Timestamp 변환 없이 LocalDateTime 직접 조회)
+ */
+public class DormantAccountRowMapper extends ColumnIndexRowMapper<DormantAccountDto> {
+
+    public DormantAccountRowMapper() {
+        super("login_id", "last_login_at", "current_status_id");
+    }
+
+    @Override
+    protected DormantAccountDto mapRow(ResultSet rs, int[] index) throws SQLException {
+        return new DormantAccountDto(
+                rs.getString(index[0]),
+                rs.getObject(index[1], LocalDateTime.class),
+                rs.getLong(index[2])
+        );
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.mapper.user;
+
+import com.nhnacademy.daisobatch.dto.user.GradeCalculationDto;
+import com.nhnacademy.daisobatch.mapper.ColumnIndexRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 등급 산정 집계 결과 > DTO 매핑 (컬럼 인덱스 + 기본형 long)
+ */
+public class GradeCalculationRowMapper extends ColumnIndexRowMapper<GradeCalculationDto> {
+
+    public GradeCalculationRowMapper() {
+        super("user_created_id", "current_grade_id", "net_amount");
+    }
+
+    @Override
+    protected GradeCalculationDto mapRow(ResultSet rs, int[] index) throws SQLException {
+        return new GradeCalculationDto(
+                rs.getLong(index[0]),
+                rs.getLong(index[1]),
+                rs.getLong(index[2])    // SQL에서 계산된 순수 금액
+        );
+    }
+
+}
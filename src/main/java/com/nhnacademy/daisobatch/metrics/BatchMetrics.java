@@ -0,0 +1,106 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * 배치 Micrometer 지표 이름 / 태그 모음
+ * 모든 지표에 job, step 태그를 달아 야간 실행마다 Job/Step별 처리량과 지연 시간을 비교
+ * (Job / Step 전체 소요 시간은 Spring Batch 기본 지표 spring.batch.job / spring.batch.step 사용)
+ */
+public final class BatchMetrics {
+
+    public static final String ITEMS_READ = "batch.items.read";
+    public static final String ITEMS_WRITTEN = "batch.items.written";
+    public static final String ITEMS_SKIPPED = "batch.items.skipped";
+    public static final String CHUNK_DURATION = "batch.chunk.duration";
+    public static final String CHUNK_SIZE = "batch.chunk.size";
+    public static final String CHUNK_SIZE_ADJUSTMENTS = "batch.chunk.size.adjustments";
+    public static final String READER_PAGE_DURATION = "batch.reader.page.duration";
+    public static final String RABBIT_CONFIRM_DURATION = "batch.rabbit.confirm.duration";
+
+    public static final String TAG_JOB = "job";
+    public static final String TAG_STEP = "step";
+
+    private static final String UNKNOWN = "unknown";
+
+    private BatchMetrics() {
+    }
+
+    public static Counter itemCounter(MeterRegistry registry, String name, String job, String step) {
+        return Counter.builder(name)
+                .baseUnit("items")
+                .tags(TAG_JOB, job, TAG_STEP, step)
+                .register(registry);
+    }
+
+    // result: committed | rolled_back
+    public static Timer chunkTimer(MeterRegistry registry, String job, String step, String result) {
+        return Timer.builder(CHUNK_DURATION)
+                .description("Chunk 시작부터 커밋/롤백까지 걸린 시간")
+                .tags(TAG_JOB, job, TAG_STEP, step, "result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public static DistributionSummary chunkSizeSummary(MeterRegistry registry, String job, String step) {
+        return DistributionSummary.builder(CHUNK_SIZE)
+                .description("Chunk 시작 시 적용된 Chunk 크기")
+                .baseUnit("items")
+                .tags(TAG_JOB, job, TAG_STEP, step)
+                .register(registry);
+    }
+
+    // reason: under_target | over_target | lock_wait | transient | failure
+    public static Counter chunkSizeAdjustmentCounter(MeterRegistry registry, String job, String step, String reason) {
+        return Counter.builder(CHUNK_SIZE_ADJUSTMENTS)
+                .description("Chunk 크기 자동 조절 횟수")
+                .tags(TAG_JOB, job, TAG_STEP, step, "reason", reason)
+                .register(registry);
+    }
+
+    public static Timer readerPageTimer(MeterRegistry registry, String job, String step, String reader) {
+        return Timer.builder(READER_PAGE_DURATION)
+                .description("Reader 페이지 1회 조회 시간")
+                .tags(TAG_JOB, job, TAG_STEP, step, "reader", reader)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public static Timer rabbitConfirmTimer(MeterRegistry registry, String job, String step) {
+        return Timer.builder(RABBIT_CONFIRM_DURATION)
+                .description("RabbitMQ 발행부터 Publisher Confirm 수신까지 걸린 시간")
+                .tags(TAG_JOB, job, TAG_STEP, step)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // 현재 스레드에 등록된 Step의 Job 이름 (Step 밖이면 unknown)
+    public static String currentJobName() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return (context != null) ? context.getJobName() : UNKNOWN;
+    }
+
+    // 현재 스레드에 등록된 Step 이름 (Step 밖이면 unknown)
+    public static String currentStepName() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return (context != null) ? context.getStepName() : UNKNOWN;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.metrics;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 구간 단위 Tasklet이 한 번에 처리한 건수를 Step 처리 건수에 반영
+ * StepContribution은 읽기 건수를 1건씩만 올릴 수 있으므로 읽기 건수는 StepExecution에 직접 더함
+ * TaskletStep은 롤백 시 읽기 건수를 되돌리지 않으므로 구간 트랜잭션이 커밋된 뒤에만 더함
+ */
+public final class StepCounts {
+
+    private StepCounts() {
+    }
+
+    public static void add(StepContribution contribution, long readCount, long writeCount) {
+        contribution.incrementWriteCount(writeCount);
+
+        StepExecution stepExecution = contribution.getStepExecution();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stepExecution.setReadCount(stepExecution.getReadCount() + readCount);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.notification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Job 실패 알림을 메모리 큐에 넣고 백그라운드 스레드가 두레이 Webhook으로 보내는 발송기
+ * - submit()은 큐에 넣기만 하고 바로 반환 (큐가 가득 차면 버리고 false) > Job 종료 / ShedLock 해제를 지연시키지 않음
+ * - 첫 알림 이후 coalesce-window 동안 들어온 실패는 메시지 하나로 묶어 전송
+ * - 전송 실패 시 backoff부터 2배씩 늘려가며 재시도, 재시도 대기 중 들어온 실패도 같은 메시지에 합침
+ * - 연속 실패가 circuit-failure-threshold에 도달하면 circuit-open 동안 전송 중단 후 1회씩 다시 시도
+ * 묶는 실패는 최대 MAX_ATTACHMENTS건까지 본문에 담고 나머지는 건수만 표시 (Webhook 장애가 길어져도 메모리 사용량 일정)
+ */
+@Slf4j
+@Component
+public class DoorayNotificationDispatcher implements InitializingBean, DisposableBean {
+
+    static final int MAX_ATTACHMENTS = 10;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final long POLL_MILLIS = 500;
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    private final RestTemplate restTemplate;
+    private final String hookUrl;
+    private final BlockingQueue<JobFailureNotification> queue;
+    private final long coalesceWindowNanos;
+    private final long backoffMillis;
+    private final int circuitFailureThreshold;
+    private final long circuitOpenMillis;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread sender;
+
+    // 아래 상태는 발송 스레드에서만 사용
+    private final List<JobFailureNotification> pending = new ArrayList<>();
+    private int omitted;
+    private int consecutiveFailures;
+
+    @Autowired
+    public DoorayNotificationDispatcher(RestTemplate restTemplate,
+                                        @Value("${dooray.hook.url}") String hookUrl,
+                                        @Value("${dooray.hook.queue-capacity:100}") int queueCapacity,
+                                        @Value("${dooray.hook.coalesce-window-ms:2000}") long coalesceWindowMs,
+                                        @Value("${dooray.hook.backoff-ms:1000}") long backoffMs,
+                                        @Value("${dooray.hook.circuit-failure-threshold:5}") int circuitFailureThreshold,
+                                        @Value("${dooray.hook.circuit-open-seconds:60}") long circuitOpenSeconds) {
+        this(restTemplate, hookUrl, queueCapacity, Duration.ofMillis(coalesceWindowMs), Duration.ofMillis(backoffMs),
+                circuitFailureThreshold, Duration.ofSeconds(circuitOpenSeconds));
+    }
+
+    public DoorayNotificationDispatcher(RestTemplate restTemplate, String hookUrl, int queueCapacity,
+                                        Duration coalesceWindow, Duration backoff,
+                                        int circuitFailureThreshold, Duration circuitOpen) {
+        this.restTemplate = restTemplate;
+        this.hookUrl = hookUrl;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.coalesceWindowNanos = coalesceWindow.toNanos();
+        this.backoffMillis = Math.max(1, backoff.toMillis());
+        this.circuitFailureThreshold = Math.max(1, circuitFailureThreshold);
+        this.circuitOpenMillis = circuitOpen.toMillis();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        sender = Thread.ofVirtual()
+                .name("dooray-notification")
+                .start(this::sendLoop);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (sender != null) {
+            sender.interrupt();
+            sender.join(Duration.ofSeconds(SHUTDOWN_WAIT_SECONDS));
+        }
+    }
+
+    // 큐에 넣기만 하고 바로 반환 (블로킹 없음)
+    public boolean submit(JobFailureNotification notification) {
+        if (queue.offer(notification)) {
+            return true;
+        }
+
+        log.warn("[DoorayNotificationDispatcher] 알림 큐 가득 참 - {} 실패 알림 버림 (누적 {}건)",
+                notification.jobName(), dropped.incrementAndGet());
+        return false;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void sendLoop() {
+        try {
+            while (running) {
+                try {
+                    if (pending.isEmpty() && omitted == 0) {
+                        JobFailureNotification first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                        if (first == null) {
+                            continue;
+                        }
+                        add(first);
+                        coalesce(System.nanoTime() + coalesceWindowNanos);
+
+                    } else {
+                        drain();    // 재시도 대기 중 들어온 실패도 같은 메시지로
+                    }
+
+                    if (send()) {
+                        pending.clear();
+                        omitted = 0;
+                        consecutiveFailures = 0;
+                        continue;
+                    }
+
+                    TimeUnit.MILLISECONDS.sleep(nextRetryDelayMillis());
+
+                } catch (RuntimeException e) {
+                    // 재시도해도 같은 결과인 오류(본문 생성 / 직렬화 등)는 해당 묶음만 버리고 전송 스레드는 계속 동작
+                    log.error("[DoorayNotificationDispatcher] 알림 전송 중 예외 - 실패 알림 {}건 버림 (누적 {}건)",
+                            pending.size() + omitted, dropped.addAndGet(pending.size() + omitted), e);
+                    pending.clear();
+                    omitted = 0;
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        drain();
+        if (!pending.isEmpty()) {
+            log.warn("[DoorayNotificationDispatcher] 종료 시 미전송 실패 알림 {}건", pending.size() + omitted);
+        }
+    }
+
+    // 창이 끝날 때까지 들어오는 실패를 모음
+    private void coalesce(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            JobFailureNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            add(next);
+        }
+        drain();
+    }
+
+    private void drain() {
+        JobFailureNotification next;
+        while ((next = queue.poll()) != null) {
+            add(next);
+        }
+    }
+
+    private void add(JobFailureNotification notification) {
+        if (pending.size() < MAX_ATTACHMENTS) {
+            pending.add(notification);
+        } else {
+            omitted++;
+        }
+    }
+
+    private boolean send() {
+        int count = pending.size() + omitted;
+        try {
+            restTemplate.postForEntity(hookUrl, body(), String.class);
+            log.info("[DoorayNotificationDispatcher] 두레이 알림 전송 완료 - 실패 {}건", count);
+            return true;
+
+        } catch (RestClientException e) {
+            consecutiveFailures++;
+            log.warn("[DoorayNotificationDispatcher] 두레이 알림 전송 실패 (연속 {}회, 실패 {}건): {}",
+                    consecutiveFailures, count, e.getMessage());
+            return false;
+        }
+    }
+
+    // 연속 실패가 임계치 이상이면 circuit open 시간, 그 전에는 backoff * 2^(실패 횟수 - 1)
+    private long nextRetryDelayMillis() {
+        if (consecutiveFailures >= circuitFailureThreshold) {
+            log.warn("[DoorayNotificationDispatcher] 연속 {}회 실패 - {}ms 동안 전송 중단",
+                    consecutiveFailures, circuitOpenMillis);
+            return circuitOpenMillis;
+        }
+        return backoffMillis << Math.min(consecutiveFailures - 1, 20);
+    }
+
+    private Map<String, Object> body() {
+        int count = pending.size() + omitted;
+
+        Map<String, Object> doorayBody = new HashMap<>();
+        doorayBody.put("botName", "Daiso Batch Bot");
+        doorayBody.put("text", (count == 1) ? "**배치 작업 실패 알림**" : String.format("**배치 작업 실패 알림 (%d건)**", count));
+
+        List<Map<String, String>> attachments = new ArrayList<>();
+        for (JobFailureNotification notification : pending) {
+            String description = notification.description();
+            if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+                description = String.format("%s ... (생략)", description.substring(0, MAX_DESCRIPTION_LENGTH));
+            }
+
+            Map<String, String> attachment = new HashMap<>();
+            attachment.put("title", String.format("Job Name: %s (executionId=%d, %s)",
+                    notification.jobName(), notification.jobExecutionId(), notification.failedAt()));
+            attachment.put("text", String.format("Error Log:\n```\n%s\n```", description));
+            attachment.put("color", "#FF0000");
+            attachments.add(attachment);
+        }
+
+        if (omitted > 0) {
+            Map<String, String> attachment = new HashMap<>();
+            attachment.put("title", String.format("외 %d건", omitted));
+            attachment.put("text", "상세 내용은 배치 로그 / JobRepository에서 확인");
+            attachment.put("color", "#FF0000");
+            attachments.add(attachment);
+        }
+
+        doorayBody.put("attachments", attachments);
+        return doorayBody;
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 숫자형 키 컬럼의 MIN ~ MAX 범위를 gridSize 개의 연속 구간으로 나누는 Partitioner
+ * 각 파티션의 ExecutionContext에 minId / maxId(포함 구간)를 담아 Worker Step의 Reader가 범위 조건으로 사용
+ */
+@Slf4j
+public class KeyRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String column;
+
+    public KeyRangePartitioner(JdbcTemplate jdbcTemplate, String table, String column) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.column = column;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        String sql = String.format("SELECT MIN(%s), MAX(%s) FROM %s", column, column, table);
+        long[] range = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        long min = range[0];
+        long max = range[1];
+        long targetSize = (max - min) / Math.max(gridSize, 1) + 1;
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int number = 0;
+        long start = min;
+
+        // 빈 테이블이면 MIN/MAX가 NULL(0) > [0, 0] 구간 하나만 생성
+        while (start <= max) {
+            long end = Math.min(start + targetSize - 1, max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, end);
+            partitions.put("partition" + number, context);
+
+            start = end + 1;
+            number++;
+        }
+
+        log.info("[KeyRangePartitioner] {}.{} 범위 {} ~ {} 를 {}개 파티션으로 분할", table, column, min, max, number);
+
+        return partitions;
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 브로커 없이 같은 프로세스의 Worker가 파티션 요청을 처리 (단일 인스턴스 / 테스트용)
+ * 최대 concurrency 개의 파티션을 동시에 실행, Rabbit 리스너의 동시 소비 수와 같은 역할
+ */
+@Slf4j
+public class LocalPartitionRequestTransport implements PartitionRequestTransport {
+
+    private final PartitionWorker partitionWorker;
+    private final SimpleAsyncTaskExecutor executor;
+
+    public LocalPartitionRequestTransport(PartitionWorker partitionWorker, int concurrency) {
+        this.partitionWorker = partitionWorker;
+        this.executor = new SimpleAsyncTaskExecutor("partition-local-");
+        this.executor.setConcurrencyLimit(Math.max(1, concurrency));
+    }
+
+    @Override
+    public void send(PartitionRequest request) {
+        executor.execute(() -> {
+            try {
+                partitionWorker.handle(request);
+
+            } catch (Exception e) {
+                // 실패 상태는 Worker가 StepExecution에 기록 > Manager가 폴링으로 확인
+                log.error("[LocalPartitionRequestTransport] 파티션 처리 실패 - {}", request, e);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,24 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+/**
+ * Manager가 Worker에게 보내는 파티션 실행 요청
+ * 파티션 범위(minId / maxId)는 JobRepository의 StepExecution ExecutionContext에 있으므로 식별자만 전달
+ *
+ * @param jobExecutionId  파티션 StepExecution이 속한 JobExecution ID
+ * @param stepExecutionId Manager가 분할 시 저장한 파티션 StepExecution ID
+ * @param stepName        실행할 Worker Step 빈 이름
+ */
+public record PartitionRequest(Long jobExecutionId, Long stepExecutionId, String stepName) {
+}
@@ -0,0 +1,100 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobInterruptedException;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * 파티션 요청 1건을 받아 JobRepository에 저장된 파티션 StepExecution으로 Worker Step을 실행
+ * - 실행 결과(상태 / 건수)는 Step이 JobRepository에 기록 > Manager가 폴링으로 수집
+ * - 실행 전에 STARTING > STARTED로 선점 (StepExecution version 조건부 UPDATE)
+ *   같은 파티션을 동시에 받은 Worker 중 하나만 성공, 나머지와 재전달된 메시지는 건너뜀
+ * - Worker Step은 빈 이름으로 실행 시점에 조회 (Manager Step과 순환 참조 방지)
+ */
+@Slf4j
+public class PartitionWorker {
+
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final BeanFactory beanFactory;
+
+    public PartitionWorker(JobExplorer jobExplorer, JobRepository jobRepository, BeanFactory beanFactory) {
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.beanFactory = beanFactory;
+    }
+
+    public StepExecution handle(PartitionRequest request) {
+        StepExecution stepExecution = jobExplorer.getStepExecution(request.jobExecutionId(), request.stepExecutionId());
+        if (stepExecution == null) {
+            throw new IllegalStateException("[PartitionWorker] 파티션 StepExecution 없음: " + request);
+        }
+
+        if (!claim(stepExecution)) {
+            log.warn("[PartitionWorker] 이미 처리 중이거나 끝난 파티션 - {} (status={})",
+                    stepExecution.getStepName(), stepExecution.getStatus());
+            return stepExecution;
+        }
+
+        Step step = beanFactory.getBean(request.stepName(), Step.class);
+        log.info("[PartitionWorker] 파티션 실행 시작 - {}", stepExecution.getStepName());
+
+        try {
+            step.execute(stepExecution);
+
+        } catch (JobInterruptedException e) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            jobRepository.update(stepExecution);
+
+        } catch (Throwable e) {
+            stepExecution.addFailureException(e);
+            stepExecution.setStatus(BatchStatus.FAILED);
+            jobRepository.update(stepExecution);
+        }
+
+        log.info("[PartitionWorker] 파티션 실행 종료 - {} (status={}, write={})",
+                stepExecution.getStepName(), stepExecution.getStatus(), stepExecution.getWriteCount());
+
+        return stepExecution;
+    }
+
+    // 조회한 version 그대로 STARTED로 갱신 > 그 사이 다른 Worker가 먼저 갱신했으면 version 불일치로 실패
+    private boolean claim(StepExecution stepExecution) {
+        if (stepExecution.getStatus() != BatchStatus.STARTING) {
+            return false;
+        }
+
+        stepExecution.setStatus(BatchStatus.STARTED);
+        stepExecution.setStartTime(LocalDateTime.now());
+        try {
+            jobRepository.update(stepExecution);
+            return true;
+
+        } catch (OptimisticLockingFailureException e) {
+            StepExecution latest = jobExplorer.getStepExecution(
+                    stepExecution.getJobExecutionId(), stepExecution.getId());
+            stepExecution.setStatus((latest != null) ? latest.getStatus() : BatchStatus.UNKNOWN);
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * 파티션 요청을 RabbitMQ 큐로 전달 (기본 Exchange > 큐 이름으로 라우팅)
+ * 큐를 구독하는 모든 인스턴스(Manager 포함)가 Worker로 경쟁 소비
+ */
+public class RabbitPartitionRequestTransport implements PartitionRequestTransport {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String queue;
+
+    public RabbitPartitionRequestTransport(RabbitTemplate rabbitTemplate, String queue) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.queue = queue;
+    }
+
+    @Override
+    public void send(PartitionRequest request) {
+        rabbitTemplate.convertAndSend("", queue, request);
+    }
+
+}
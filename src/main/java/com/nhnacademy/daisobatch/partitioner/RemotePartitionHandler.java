@@ -0,0 +1,140 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * 파티션을 다른 인스턴스의 Worker에게 나눠 맡기는 Manager 측 PartitionHandler
+ * - 분할한 파티션 StepExecution을 JobRepository에 저장한 뒤, 식별자만 요청으로 전송
+ * - Worker 결과는 공유 JobRepository를 pollInterval 마다 조회해 수집 > PartitionStep이 Manager StepExecution에 합산
+ * - 실행 중(STARTED) 파티션의 LAST_UPDATED가 staleTimeout 넘게 갱신되지 않으면 Worker가 죽은 것으로 보고 FAILED 처리
+ *   (Chunk / 구간 커밋마다 StepExecution이 갱신되므로 LAST_UPDATED가 Heartbeat 역할)
+ * - timeout 안에 끝나지 않은 파티션이 있으면 Manager Step 실패 (재시작 시 미완료 파티션만 다시 분배)
+ */
+@Slf4j
+public class RemotePartitionHandler implements PartitionHandler {
+
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final PartitionRequestTransport transport;
+    private final String workerStepName;
+    private final int gridSize;
+    private final Duration pollInterval;
+    private final Duration timeout;
+    private final Duration staleTimeout;
+
+    public RemotePartitionHandler(JobExplorer jobExplorer, JobRepository jobRepository,
+                                  PartitionRequestTransport transport, String workerStepName, int gridSize,
+                                  Duration pollInterval, Duration timeout, Duration staleTimeout) {
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.transport = transport;
+        this.workerStepName = workerStepName;
+        this.gridSize = gridSize;
+        this.pollInterval = pollInterval;
+        this.timeout = timeout;
+        this.staleTimeout = staleTimeout;
+    }
+
+    @Override
+    public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter,
+                                            StepExecution managerStepExecution) throws Exception {
+        Set<StepExecution> partitions = stepSplitter.split(managerStepExecution, gridSize);
+
+        for (StepExecution partition : partitions) {
+            transport.send(new PartitionRequest(partition.getJobExecutionId(), partition.getId(), workerStepName));
+        }
+        log.info("[RemotePartitionHandler] {} 파티션 {}개 요청 전송", workerStepName, partitions.size());
+
+        return awaitPartitions(partitions);
+    }
+
+    private Collection<StepExecution> awaitPartitions(Set<StepExecution> partitions) throws Exception {
+        List<StepExecution> pending = new ArrayList<>(partitions);
+        List<StepExecution> finished = new ArrayList<>(partitions.size());
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            Iterator<StepExecution> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                StepExecution partition = iterator.next();
+                StepExecution latest = jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId());
+
+                if (latest != null && !latest.getStatus().isRunning()) {
+                    finished.add(latest);
+                    iterator.remove();
+
+                } else if (latest != null && isStale(latest) && failStale(latest)) {
+                    finished.add(latest);
+                    iterator.remove();
+                }
+            }
+
+            if (pending.isEmpty()) {
+                return finished;
+            }
+
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("[RemotePartitionHandler] " + workerStepName + " 파티션 " +
+                        pending.size() + "개가 " + timeout + " 안에 끝나지 않음");
+            }
+
+            Thread.sleep(pollInterval.toMillis());
+        }
+    }
+
+    // Worker가 선점(STARTED)한 뒤 staleTimeout 동안 커밋이 없으면 멈춘 것으로 판단
+    // STARTING은 아직 큐에서 대기 중일 수 있으므로 제외 (전체 timeout으로만 판단)
+    private boolean isStale(StepExecution partition) {
+        LocalDateTime lastUpdated = partition.getLastUpdated();
+        return partition.getStatus() == BatchStatus.STARTED
+                && lastUpdated != null
+                && lastUpdated.plus(staleTimeout).isBefore(LocalDateTime.now());
+    }
+
+    // 조회한 version으로 FAILED 갱신 > 그 사이 Worker가 커밋했으면 version 불일치로 실패하고 다음 폴링에서 다시 확인
+    // 늦게 살아난 Worker는 다음 커밋에서 version 불일치로 실패하므로 같은 파티션이 두 번 반영되지 않음
+    private boolean failStale(StepExecution partition) {
+        partition.setStatus(BatchStatus.FAILED);
+        partition.setExitStatus(ExitStatus.FAILED.addExitDescription(
+                "Worker heartbeat 없음 (" + staleTimeout + " 넘게 StepExecution 갱신 없음)"));
+        partition.setEndTime(LocalDateTime.now());
+        try {
+            jobRepository.update(partition);
+            log.warn("[RemotePartitionHandler] 응답 없는 파티션 실패 처리 - {} (lastUpdated={})",
+                    partition.getStepName(), partition.getLastUpdated());
+            return true;
+
+        } catch (OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import java.time.Duration;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원격 파티셔닝 모드 여부 / 설정을 모아 Manager Step에서 쓸 RemotePartitionHandler 생성
+ */
+@Component
+public class RemotePartitionHandlerFactory {
+
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final PartitionRequestTransport partitionRequestTransport;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Duration timeout;
+    private final Duration staleTimeout;
+
+    public RemotePartitionHandlerFactory(JobExplorer jobExplorer, JobRepository jobRepository,
+                                         PartitionRequestTransport partitionRequestTransport,
+                                         @Value("${batch.remote-partition.enabled:false}") boolean enabled,
+                                         @Value("${batch.remote-partition.poll-interval-ms:1000}") long pollIntervalMs,
+                                         @Value("${batch.remote-partition.timeout-minutes:120}") long timeoutMinutes,
+                                         @Value("${batch.remote-partition.stale-timeout-minutes:10}")
+                                         long staleTimeoutMinutes) {
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.partitionRequestTransport = partitionRequestTransport;
+        this.enabled = enabled;
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        this.staleTimeout = Duration.ofMinutes(staleTimeoutMinutes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PartitionHandler create(String workerStepName, int gridSize) {
+        return new RemotePartitionHandler(jobExplorer, jobRepository, partitionRequestTransport, workerStepName,
+                gridSize, pollInterval, timeout, staleTimeout);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.policy;
+
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * 측정한 Chunk 트랜잭션 시간(읽기 ~ 커밋)이 목표 시간에 가깝도록 Chunk 크기를 min ~ max 안에서 조절하는 CompletionPolicy
+ * - 커밋 후: 아이템당 소요 시간으로 목표 시간에 맞는 크기를 계산 > 한 번에 최대 절반 축소 / 1.5배 확대
+ *   현재 크기와 10% 이내 차이면 유지 (진동 방지)
+ * - 롤백 후: 락 대기 / 일시적 DB 오류 / 그 외 실패 모두 크기를 절반으로 축소 (사유는 지표 태그로 구분)
+ * - 적용한 크기는 batch.chunk.size, 크기 변경은 batch.chunk.size.adjustments(reason)로 기록
+ * Step 빌더에 chunk(policy)와 listener(policy)로 함께 등록해야 함
+ * 파티션 Worker Step처럼 여러 스레드가 공유하면 같은 DB를 두고 경쟁하므로 크기도 함께 조절됨
+ */
+@Slf4j
+public class AdaptiveChunkSizePolicy extends CompletionPolicySupport implements ChunkListener {
+
+    private static final String CHUNK_STARTED_AT = "adaptiveChunk.startedAt";
+    private static final String CHUNK_START_READ_COUNT = "adaptiveChunk.startReadCount";
+    private static final double DEAD_BAND = 0.1;
+
+    private final MeterRegistry meterRegistry;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetNanos;
+
+    private volatile int chunkSize;
+
+    public AdaptiveChunkSizePolicy(MeterRegistry meterRegistry, int initialSize, int minSize, int maxSize,
+                                   Duration targetCommitTime) {
+        this.meterRegistry = meterRegistry;
+        this.minSize = Math.max(1, Math.min(minSize, maxSize));
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetNanos = targetCommitTime.toNanos();
+        this.chunkSize = clamp(initialSize, this.minSize, this.maxSize);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return context.getStartedCount() >= chunkSize;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        StepContext stepContext = context.getStepContext();
+        context.setAttribute(CHUNK_STARTED_AT, System.nanoTime());
+        context.setAttribute(CHUNK_START_READ_COUNT, stepContext.getStepExecution().getReadCount());
+
+        BatchMetrics.chunkSizeSummary(meterRegistry, stepContext.getJobName(), stepContext.getStepName())
+                .record(chunkSize);
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Object startedAt = context.getAttribute(CHUNK_STARTED_AT);
+        Object startReadCount = context.getAttribute(CHUNK_START_READ_COUNT);
+        if (startedAt == null || startReadCount == null) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - (long) startedAt;
+        long items = context.getStepContext().getStepExecution().getReadCount() - (long) startReadCount;
+        if (items <= 0 || elapsed <= 0) {
+            return;     // 마지막 빈 Chunk
+        }
+
+        // 아이템당 시간 기준이라 마지막 Chunk처럼 덜 찬 Chunk도 같은 기준으로 계산
+        long desired = Math.round((double) targetNanos * items / elapsed);
+        adjustTo(context, desired, (desired > chunkSize) ? "under_target" : "over_target", elapsed);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        Throwable error = (Throwable) context.getAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY);
+        Object startedAt = context.getAttribute(CHUNK_STARTED_AT);
+        long elapsed = (startedAt != null) ? System.nanoTime() - (long) startedAt : 0L;
+
+        adjustTo(context, chunkSize / 2, failureReason(error), elapsed);
+    }
+
+    private synchronized void adjustTo(ChunkContext context, long desired, String reason, long elapsed) {
+        int current = chunkSize;
+        long bounded = Math.max(current / 2, Math.min(desired, current + current / 2L));
+        int next = clamp(bounded, minSize, maxSize);
+
+        if (next == current || (!isFailure(reason) && Math.abs(next - current) < current * DEAD_BAND)) {
+            return;
+        }
+
+        chunkSize = next;
+
+        StepContext stepContext = context.getStepContext();
+        BatchMetrics.chunkSizeAdjustmentCounter(meterRegistry,
+                stepContext.getJobName(), stepContext.getStepName(), reason).increment();
+        log.info("[AdaptiveChunkSizePolicy] {} Chunk 크기 {} -> {} (reason={}, chunk {}ms, target {}ms)",
+                stepContext.getStepName(), current, next, reason,
+                Duration.ofNanos(elapsed).toMillis(), Duration.ofNanos(targetNanos).toMillis());
+    }
+
+    // 락 대기(락 타임아웃 / 데드락) > 일시적 DB 오류 > 그 외 순으로 분류
+    static String failureReason(Throwable error) {
+        boolean transientError = false;
+
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException) {
+                return "lock_wait";
+            }
+            if (cause instanceof SQLException sqlException && isLockWait(sqlException)) {
+                return "lock_wait";
+            }
+            if (cause instanceof TransientDataAccessException) {
+                transientError = true;
+            }
+        }
+
+        return transientError ? "transient" : "failure";
+    }
+
+    // MySQL 1205: Lock wait timeout, 1213: Deadlock / SQLState 40001: 직렬화 실패
+    private static boolean isLockWait(SQLException e) {
+        return e.getErrorCode() == 1205 || e.getErrorCode() == 1213 || "40001".equals(e.getSQLState());
+    }
+
+    private static boolean isFailure(String reason) {
+        return !reason.endsWith("_target");
+    }
+
+    private static int clamp(long value, int min, int max) {
+        return (int) Math.max(min, Math.min(value, max));
+    }
+
+}
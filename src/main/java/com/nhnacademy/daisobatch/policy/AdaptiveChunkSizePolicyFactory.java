@@ -0,0 +1,52 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.policy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chunk 크기 자동 조절 여부 / 설정을 모아 Step별 AdaptiveChunkSizePolicy 생성
+ * 비활성화면 min = max = 설정한 chunk-size인 고정 크기 정책 (지표만 기록)
+ */
+@Component
+public class AdaptiveChunkSizePolicyFactory {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int minSize;
+    private final int maxSize;
+    private final Duration targetCommitTime;
+
+    public AdaptiveChunkSizePolicyFactory(MeterRegistry meterRegistry,
+                                          @Value("${batch.adaptive-chunk.enabled:false}") boolean enabled,
+                                          @Value("${batch.adaptive-chunk.min-size:100}") int minSize,
+                                          @Value("${batch.adaptive-chunk.max-size:5000}") int maxSize,
+                                          @Value("${batch.adaptive-chunk.target-commit-ms:1000}") long targetCommitMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetCommitTime = Duration.ofMillis(targetCommitMs);
+    }
+
+    public AdaptiveChunkSizePolicy create(int chunkSize) {
+        if (!enabled) {
+            return new AdaptiveChunkSizePolicy(meterRegistry, chunkSize, chunkSize, chunkSize, targetCommitTime);
+        }
+        return new AdaptiveChunkSizePolicy(meterRegistry, chunkSize, minSize, maxSize, targetCommitTime);
+    }
+
+}
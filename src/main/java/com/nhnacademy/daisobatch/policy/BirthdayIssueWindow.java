@@ -0,0 +1,65 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.policy;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+/**
+ * 일 단위 생일 쿠폰 발급 구간: baseDate부터 days일 동안의 생일(월일)을 MMDD 정수(month * 100 + day) 범위로 표현
+ * - Users.birth_month_day 생성 컬럼과 같은 값 > 인덱스 범위 조회
+ * - 연말을 넘는 구간(12/29 ~ 1/4)은 from > to 이므로 두 범위의 OR 조건
+ * - 평년에는 2/29가 달력에 없으므로 2/28이 구간 끝이면 2/29까지 포함 (다음 날 구간은 3/1부터 시작)
+ */
+public record BirthdayIssueWindow(int fromMonthDay, int toMonthDay, LocalDate lastDate) {
+
+    private static final int FEB_28 = 228;
+    private static final int FEB_29 = 229;
+
+    public static BirthdayIssueWindow of(LocalDate baseDate, int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("[BirthdayIssueWindow] days는 1 이상이어야 함: " + days);
+        }
+
+        LocalDate lastDate = baseDate.plusDays(days - 1L);
+        int to = monthDay(lastDate);
+        if (to == FEB_28 && !lastDate.isLeapYear()) {
+            to = FEB_29;
+        }
+
+        return new BirthdayIssueWindow(monthDay(baseDate), to, lastDate);
+    }
+
+    public boolean wrapsYear() {
+        return fromMonthDay > toMonthDay;
+    }
+
+    // monthDayExpression이 구간 안에 있는지 확인하는 SQL 조건 (파라미터 자리는 from, to 순서)
+    public String condition(String monthDayExpression, String fromParameter, String toParameter) {
+        return wrapsYear()
+                ? "(" + monthDayExpression + " >= " + fromParameter + " OR " + monthDayExpression + " <= " + toParameter + ")"
+                : monthDayExpression + " BETWEEN " + fromParameter + " AND " + toParameter;
+    }
+
+    public boolean contains(MonthDay birthday) {
+        int value = birthday.getMonthValue() * 100 + birthday.getDayOfMonth();
+        return wrapsYear()
+                ? (value >= fromMonthDay || value <= toMonthDay)
+                : (value >= fromMonthDay && value <= toMonthDay);
+    }
+
+    private static int monthDay(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.daisobatch.processor.coupon;
+
+import com.nhnacademy.daisobatch.dto.BirthdayUserDto;
+import com.nhnacademy.daisobatch.entity.coupon.CouponPolicy;
+import com.nhnacademy.daisobatch.entity.coupon.UserCoupon;
+import com.nhnacademy.daisobatch.type.CouponStatus;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 생일자 DTO -> 생일 쿠폰(UserCoupon) 변환, 만료일은 발급한 달의 말일 23:59:59
+// 일 단위 발급처럼 다음 달 생일자에게 미리 발급하는 경우 만료 기준일을 따로 지정
+public class BirthdayCouponProcessor implements ItemProcessor<BirthdayUserDto, UserCoupon> {
+
+    private final CouponPolicy birthdayPolicy;
+    private final LocalDate expiryBaseDate;     // null이면 발급일
+
+    public BirthdayCouponProcessor(CouponPolicy birthdayPolicy) {
+        this(birthdayPolicy, null);
+    }
+
+    public BirthdayCouponProcessor(CouponPolicy birthdayPolicy, LocalDate expiryBaseDate) {
+        this.birthdayPolicy = birthdayPolicy;
+        this.expiryBaseDate = expiryBaseDate;
+    }
+
+    @Override
+    public UserCoupon process(BirthdayUserDto item) {
+        Long userId = item.getUserCreatedId();
+
+        LocalDateTime issuedAt = LocalDateTime.now();
+        LocalDateTime expiryAt = expiryAt((expiryBaseDate != null) ? expiryBaseDate : LocalDate.now());
+
+        return UserCoupon.builder()
+                .couponPolicy(birthdayPolicy)
+                .userId(userId)
+                .status(CouponStatus.ISSUED)
+                .issuedAt(issuedAt)
+                .expiryAt(expiryAt)
+                .usedAt(null)
+                .build();
+    }
+
+    // 발급일이 속한 달의 말일 23:59:59
+    public static LocalDateTime expiryAt(LocalDate issuedDate) {
+        return issuedDate.withDayOfMonth(issuedDate.lengthOfMonth()).atTime(23, 59, 59);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.processor.user;
+
+import com.nhnacademy.daisobatch.cache.GradePolicy;
+import com.nhnacademy.daisobatch.dto.user.GradeCalculationDto;
+import com.nhnacademy.daisobatch.dto.user.GradeChangeDto;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 최근 순수 구매액으로 새 등급을 산정하는 Processor
+ * 등급 변화가 없으면 null을 반환해 Writer로 넘기지 않음
+ */
+public class GradeChangeProcessor implements ItemProcessor<GradeCalculationDto, GradeChangeDto> {
+
+    private final GradePolicy gradePolicy;
+
+    public GradeChangeProcessor(GradePolicy gradePolicy) {
+        this.gradePolicy = gradePolicy;
+    }
+
+    @Override
+    public GradeChangeDto process(GradeCalculationDto item) {
+        Long newGradeId = gradePolicy.resolveGradeId(item.netAmount());
+
+        // 등급 변화가 없으면 skip
+        if (newGradeId == item.currentGradeId()) {
+            return null;
+        }
+
+        return new GradeChangeDto(item.userCreatedId(), newGradeId, buildReason(item.netAmount()));
+    }
+
+    // 등급 변경 이력에 남기는 사유
+    public static String buildReason(long netAmount) {
+        return String.format("최근 3개월 순수 구매액 %d원 기준 등급 조정", netAmount);
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.publisher;
+
+import com.nhnacademy.daisobatch.client.BirthdayCouponBulkEvent;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * BirthdayCouponBulkEvent의 바이너리 표현 (정렬 + 차분 + varint)
+ * [버전 1B][batchId 길이 varint][batchId UTF-8][ID 개수 varint][첫 ID zigzag varint][이후 ID와 직전 ID 차이 varint...]
+ * 키셋 커서로 읽은 ID는 이미 정렬되어 있고 간격이 작아 ID 하나가 대부분 1 ~ 2바이트
+ */
+public final class BirthdayCouponEventCodec {
+
+    private static final byte VERSION = 1;
+
+    private BirthdayCouponEventCodec() {
+    }
+
+    public static byte[] encode(BirthdayCouponBulkEvent event) {
+        long[] ids = sorted(event.userIds());
+        byte[] batchId = (event.batchId() != null)
+                ? event.batchId().getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + batchId.length + ids.length * 2);
+        out.write(VERSION);
+        writeVarint(out, batchId.length);
+        out.write(batchId, 0, batchId.length);
+        writeVarint(out, ids.length);
+
+        long previous = 0L;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0) {
+                writeVarint(out, (ids[0] << 1) ^ (ids[0] >> 63));   // zigzag: 음수 ID도 허용
+            } else {
+                writeVarint(out, ids[i] - previous);                 // 정렬되어 있으므로 0 이상
+            }
+            previous = ids[i];
+        }
+
+        return out.toByteArray();
+    }
+
+    public static BirthdayCouponBulkEvent decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+
+        byte version = bytes[in.position++];
+        if (version != VERSION) {
+            throw new IllegalArgumentException("[BirthdayCouponEventCodec] 지원하지 않는 버전: " + version);
+        }
+
+        int batchIdLength = (int) in.readVarint();
+        String batchId = new String(bytes, in.position, batchIdLength, StandardCharsets.UTF_8);
+        in.position += batchIdLength;
+
+        long[] ids = new long[(int) in.readVarint()];
+        long previous = 0L;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0) {
+                long zigzag = in.readVarint();
+                ids[0] = (zigzag >>> 1) ^ -(zigzag & 1);
+            } else {
+                ids[i] = previous + in.readVarint();
+            }
+            previous = ids[i];
+        }
+
+        return new BirthdayCouponBulkEvent(ids, batchId.isEmpty() ? null : batchId);
+    }
+
+    // 이미 정렬된 배열(키셋 커서 결과)은 복사 없이 사용
+    private static long[] sorted(long[] ids) {
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] < ids[i - 1]) {
+                long[] copy = ids.clone();
+                Arrays.sort(copy);
+                return copy;
+            }
+        }
+        return ids;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private long readVarint() {
+            long value = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("[BirthdayCouponEventCodec] varint 형식 오류");
+        }
+    }
+
+}
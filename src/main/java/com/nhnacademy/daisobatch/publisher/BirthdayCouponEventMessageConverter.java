@@ -0,0 +1,101 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.publisher;
+
+import com.nhnacademy.daisobatch.client.BirthdayCouponBulkEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * compact 모드에서 BirthdayCouponBulkEvent만 바이너리(BirthdayCouponEventCodec)로 보내는 MessageConverter
+ * - content-type으로 형식을 구분 > 소비 측은 content-type을 보고 디코딩, 모르는 형식이면 JSON 큐 / 설정으로 되돌림
+ * - compress = true면 deflate 압축 후 content-encoding: deflate
+ * - 그 외 메시지와 JSON content-type 메시지는 위임 Converter(JSON)가 처리
+ */
+public class BirthdayCouponEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-daiso-birthday-ids";
+    public static final String CONTENT_ENCODING_DEFLATE = "deflate";
+
+    private final MessageConverter delegate;
+    private final boolean compact;
+    private final boolean compress;
+
+    public BirthdayCouponEventMessageConverter(MessageConverter delegate, boolean compact, boolean compress) {
+        this.delegate = delegate;
+        this.compact = compact;
+        this.compress = compress;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!compact || !(object instanceof BirthdayCouponBulkEvent event)) {
+            return delegate.toMessage(object, messageProperties);
+        }
+
+        byte[] body = BirthdayCouponEventCodec.encode(event);
+        if (compress) {
+            body = deflate(body);
+            messageProperties.setContentEncoding(CONTENT_ENCODING_DEFLATE);
+        }
+
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        MessageProperties properties = message.getMessageProperties();
+        if (!CONTENT_TYPE.equals(properties.getContentType())) {
+            return delegate.fromMessage(message);
+        }
+
+        byte[] body = message.getBody();
+        if (CONTENT_ENCODING_DEFLATE.equals(properties.getContentEncoding())) {
+            body = inflate(body);
+        }
+
+        return BirthdayCouponEventCodec.decode(body);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(bytes);
+        } catch (IOException e) {
+            throw new MessageConversionException("[BirthdayCouponEventMessageConverter] 압축 실패", e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new MessageConversionException("[BirthdayCouponEventMessageConverter] 압축 해제 실패", e);
+        }
+    }
+
+}
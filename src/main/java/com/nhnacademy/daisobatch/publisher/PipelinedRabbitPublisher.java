@@ -0,0 +1,234 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.publisher;
+
+import com.nhnacademy.daisobatch.exception.RabbitPublishFailedException;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Publisher Confirm을 메시지마다 기다리지 않고 최대 maxInFlight 건까지 동시에 대기시키는 발행기
+ * - 대기 창이 가득 찼을 때만 발행 스레드가 블로킹 (Chunk마다 Confirm 왕복 시간만큼 멈추지 않음)
+ * - NACK / Return / Confirm 타임아웃이 발생한 batchId만 보관 중인 메시지로 재발행, maxAttempts 초과 시 예외
+ * - Step 종료 전 awaitAll()로 남은 Confirm을 모두 확인
+ * - confirmTimer가 있으면 발행부터 Confirm 수신까지 시간을 기록 (ACK / NACK 모두)
+ * - 발행 순번 / ACK 확정 순번을 제공 > 재시작 체크포인트를 ACK된 메시지까지만 저장할 때 사용
+ * Step 단위로 생성해 사용 (스레드 하나에서 publish / awaitAll 호출, Confirm 콜백은 AMQP 스레드)
+ */
+@Slf4j
+public class PipelinedRabbitPublisher {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final String routingKey;
+    private final int maxInFlight;
+    private final long confirmTimeoutNanos;
+    private final int maxAttempts;
+    private final Timer confirmTimer;
+
+    private final Semaphore permits;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();   // correlationId > 발행 정보
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+    private final NavigableSet<Long> unconfirmed = new ConcurrentSkipListSet<>();   // ACK 전인 발행 순번 (재발행 포함)
+
+    private volatile boolean endOfInput = false;
+    private long published = 0L;
+
+    private record InFlight(String batchId, long sequence, Message message, int attempt, long sentAt) {
+    }
+
+    private record Failure(InFlight inFlight, String reason) {
+    }
+
+    public PipelinedRabbitPublisher(RabbitTemplate rabbitTemplate, String exchange, String routingKey,
+                                    int maxInFlight, Duration confirmTimeout, int maxAttempts) {
+        this(rabbitTemplate, exchange, routingKey, maxInFlight, confirmTimeout, maxAttempts, null);
+    }
+
+    public PipelinedRabbitPublisher(RabbitTemplate rabbitTemplate, String exchange, String routingKey,
+                                    int maxInFlight, Duration confirmTimeout, int maxAttempts, Timer confirmTimer) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.confirmTimeoutNanos = confirmTimeout.toNanos();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.confirmTimer = confirmTimer;
+        this.permits = new Semaphore(this.maxInFlight);
+    }
+
+    // 대기 창에 자리가 있으면 바로 반환, Confirm은 비동기로 확인
+    public void publish(String batchId, Object payload) {
+        resendFailures();
+
+        MessageProperties properties = new MessageProperties();
+        properties.setCorrelationId(batchId);     // 소비 측 중복 처리 기준
+        Message message = rabbitTemplate.getMessageConverter().toMessage(payload, properties);
+
+        long sequence = published++;
+        unconfirmed.add(sequence);
+
+        acquire(1);
+        send(batchId, sequence, message, 1);
+    }
+
+    // 지금까지 publish()한 메시지 수 (다음 발행 순번)
+    public long publishedSequence() {
+        return published;
+    }
+
+    // 이 순번 미만으로 발행한 메시지는 모두 ACK됨
+    public long confirmedSequence() {
+        try {
+            return unconfirmed.first();
+
+        } catch (NoSuchElementException e) {
+            return published;
+        }
+    }
+
+    // 발행한 모든 메시지의 ACK를 확인할 때까지 대기 (실패분 재발행 포함)
+    public void awaitAll() {
+        while (true) {
+            resendFailures();
+
+            if (tryAcquire(maxInFlight)) {
+                permits.release(maxInFlight);
+
+                // 실패 건은 permit 반환 전에 큐에 들어가므로 여기서 비어 있으면 모두 ACK
+                if (failures.isEmpty()) {
+                    return;
+                }
+            } else {
+                expireTimedOut();
+            }
+        }
+    }
+
+    // Reader가 입력 끝에 도달했음을 표시 > 마지막 Chunk 커밋 전에 awaitAll() 호출 기준
+    public void markEndOfInput() {
+        this.endOfInput = true;
+    }
+
+    public boolean isEndOfInput() {
+        return endOfInput;
+    }
+
+    private void send(String batchId, long sequence, Message message, int attempt) {
+        String correlationId = batchId + "#" + attempt;   // 재발행 이전 시도의 늦은 Confirm과 구분
+        CorrelationData correlationData = new CorrelationData(correlationId);
+        inFlight.put(correlationId, new InFlight(batchId, sequence, message, attempt, System.nanoTime()));
+
+        try {
+            rabbitTemplate.send(exchange, routingKey, message, correlationData);
+
+        } catch (AmqpException e) {
+            inFlight.remove(correlationId);
+            permits.release();
+            throw new RabbitPublishFailedException("Rabbit publish 실패(메시지 큐 접근 실패) batchId=" + batchId, e);
+        }
+
+        correlationData.getFuture().whenComplete((confirm, ex) -> {
+            InFlight sent = inFlight.remove(correlationId);
+            if (sent == null) {
+                return;     // 이미 타임아웃으로 실패 처리된 시도
+            }
+
+            if (confirmTimer != null) {
+                confirmTimer.record(System.nanoTime() - sent.sentAt(), TimeUnit.NANOSECONDS);
+            }
+
+            if (ex == null && confirm.isAck() && correlationData.getReturned() == null) {
+                unconfirmed.remove(sent.sequence());
+                permits.release();
+                return;
+            }
+
+            String reason;
+            if (ex != null) {
+                reason = ex.getMessage();
+            } else if (correlationData.getReturned() != null) {
+                reason = "returned: " + correlationData.getReturned().getReplyText();
+            } else {
+                reason = "nack: " + confirm.getReason();
+            }
+
+            failures.add(new Failure(sent, reason));
+            permits.release();
+        });
+    }
+
+    private void resendFailures() {
+        Failure failure;
+        while ((failure = failures.poll()) != null) {
+            InFlight failed = failure.inFlight();
+
+            if (failed.attempt() >= maxAttempts) {
+                throw new RabbitPublishFailedException("Rabbit publish 실패 batchId=" + failed.batchId() +
+                        ", attempts=" + failed.attempt() + ", cause=" + failure.reason());
+            }
+
+            log.warn("[PipelinedRabbitPublisher] 재발행 batchId={}, attempt={}/{}, cause={}",
+                    failed.batchId(), failed.attempt() + 1, maxAttempts, failure.reason());
+
+            acquire(1);
+            send(failed.batchId(), failed.sequence(), failed.message(), failed.attempt() + 1);
+        }
+    }
+
+    // Confirm 타임아웃 시도는 실패로 옮기고 자리 반환
+    private void expireTimedOut() {
+        long now = System.nanoTime();
+
+        inFlight.forEach((correlationId, sent) -> {
+            if (now - sent.sentAt() > confirmTimeoutNanos && inFlight.remove(correlationId, sent)) {
+                failures.add(new Failure(sent, "confirm timeout"));
+                permits.release();
+            }
+        });
+    }
+
+    private void acquire(int count) {
+        while (!tryAcquire(count)) {
+            expireTimedOut();
+        }
+    }
+
+    private boolean tryAcquire(int count) {
+        try {
+            return permits.tryAcquire(count, POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RabbitPublishFailedException("Rabbit publish Confirm 대기 중 인터럽트", e);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 키셋 페이징으로 ID 컬럼 하나만 읽어 페이지 단위 LongIdBlock으로 반환하는 Reader
+ * - sql은 첫 번째 컬럼이 ID이고, 마지막 두 파라미터가 (마지막 ID, 페이지 크기)인 키셋 쿼리
+ *   예) SELECT id FROM t WHERE ... AND id > ? ORDER BY id LIMIT ?
+ * - ResultSet에서 rs.getLong(1)로 long 배열에 바로 담음 (행마다 객체 생성 없음)
+ * - 마지막으로 반환한 ID를 ExecutionContext에 저장 > 재시작 시 다음 ID부터 조회
+ */
+@Slf4j
+public class JdbcLongIdBlockReader implements ItemStreamReader<LongIdBlock> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String name;
+    private final String sql;
+    private final Object[] parameters;
+    private final int pageSize;
+    private final Timer pageTimer;      // null이면 조회 시간 기록 안 함
+
+    private long lastId;
+    private boolean finished;
+
+    private long[] page;
+    private int filled;
+
+    @Builder
+    public JdbcLongIdBlockReader(DataSource dataSource, String name, String sql, List<?> parameters,
+                                 int pageSize, Timer pageTimer) {
+        if (sql == null || name == null) {
+            throw new IllegalArgumentException("[JdbcLongIdBlockReader] name / sql은 필수");
+        }
+
+        this.pageSize = (pageSize > 0) ? pageSize : 1000;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(this.pageSize);
+        this.name = name;
+        this.sql = sql;
+        this.parameters = (parameters != null) ? parameters.toArray() : new Object[0];
+        this.pageTimer = pageTimer;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastId = executionContext.getLong(lastIdKey(), 0L);
+        finished = false;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(lastIdKey(), lastId);
+    }
+
+    @Override
+    public LongIdBlock read() {
+        if (finished) {
+            return null;
+        }
+
+        if (pageTimer != null) {
+            pageTimer.record(this::fetchPage);
+        } else {
+            fetchPage();
+        }
+
+        if (filled == 0) {
+            finished = true;
+            return null;
+        }
+
+        if (filled < pageSize) {
+            finished = true;    // 마지막 페이지 > 빈 페이지 조회 생략
+        }
+
+        LongIdBlock block = new LongIdBlock(page, filled);
+        lastId = block.last();
+
+        log.debug("[JdbcLongIdBlockReader] {} {}건 조회 (lastId={})", name, filled, lastId);
+
+        return block;
+    }
+
+    private void fetchPage() {
+        // 반환한 배열은 Chunk가 들고 있으므로 페이지마다 새로 할당 (행 수와 무관하게 페이지당 1개)
+        page = new long[pageSize];
+        filled = 0;
+
+        jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            for (Object parameter : parameters) {
+                ps.setObject(index++, parameter);
+            }
+            ps.setLong(index++, lastId);
+            ps.setInt(index, pageSize);
+        }, rs -> {
+            page[filled++] = rs.getLong(1);
+        });
+    }
+
+    private String lastIdKey() {
+        return name + ".lastId";
+    }
+
+}
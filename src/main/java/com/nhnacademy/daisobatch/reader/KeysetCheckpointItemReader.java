@@ -0,0 +1,141 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * 마지막으로 읽은 아이템의 정렬 키를 Chunk 커밋마다 ExecutionContext에 저장하고,
+ * 재시작 시 그 키 다음부터 읽는 Reader를 새로 만들어 이어서 처리하는 Reader 데코레이터
+ * - 위임 Reader는 open() 시점에 readerFactory(마지막 키)로 생성 (첫 실행이면 null > 처음부터)
+ *   readerFactory는 "정렬 키 > 마지막 키" 조건을 건 키셋 쿼리 Reader를 반환해야 함
+ * - 페이지 번호 / 읽은 건수가 아닌 키 기준이라 처리한 행이 조회 조건에서 빠져도 위치가 어긋나지 않음
+ * - 키는 Step 스레드에서 반환한 아이템 기준이므로 PrefetchingItemReader를 위임 Reader로 감싸도 됨
+ * - Writer가 비동기로 확정되는 경우(Confirm 대기 발행 등) setCheckpointBarrier()로
+ *   커밋 시점의 발행 순번이 확정된 뒤에야 해당 키를 저장 > 재시작 시 미확정 아이템부터 다시 처리
+ */
+@Slf4j
+public class KeysetCheckpointItemReader<T, K> implements ItemStreamReader<T> {
+
+    private final String name;
+    private final Function<T, K> keyExtractor;
+    private final Function<K, ItemReader<T>> readerFactory;
+
+    private LongSupplier issuedMark;
+    private LongSupplier confirmedMark;
+    private final Deque<Pending<K>> pending = new ArrayDeque<>();
+
+    private ItemReader<T> delegate;
+    private K lastKey;          // 마지막으로 읽은 키
+    private K checkpointKey;    // 저장할 키 (barrier가 있으면 확정된 키까지만)
+
+    // 커밋 시점의 발행 순번(mark)과 그때의 키
+    private record Pending<K>(long mark, K key) {
+    }
+
+    public KeysetCheckpointItemReader(String name, Function<T, K> keyExtractor,
+                                      Function<K, ItemReader<T>> readerFactory) {
+        this.name = name;
+        this.keyExtractor = keyExtractor;
+        this.readerFactory = readerFactory;
+    }
+
+    // issuedMark: 지금까지 넘긴 작업 순번, confirmedMark: 이 순번 미만은 모두 확정
+    public void setCheckpointBarrier(LongSupplier issuedMark, LongSupplier confirmedMark) {
+        this.issuedMark = issuedMark;
+        this.confirmedMark = confirmedMark;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastKey = (K) executionContext.get(lastKeyName());
+        checkpointKey = lastKey;
+        pending.clear();
+        if (lastKey != null) {
+            log.info("[KeysetCheckpointItemReader] {} 재시작 - 마지막 키 {} 다음부터 조회", name, lastKey);
+        }
+
+        delegate = readerFactory.apply(lastKey);
+        try {
+            // 위임 Reader는 빈으로 등록되지 않으므로 초기화를 대신 호출
+            if (delegate instanceof InitializingBean initializingBean) {
+                initializingBean.afterPropertiesSet();
+            }
+
+        } catch (Exception e) {
+            throw new ItemStreamException("[KeysetCheckpointItemReader] " + name + " Reader 초기화 실패", e);
+        }
+
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // Chunk 커밋 시점에는 읽은 아이템 = 커밋된 아이템
+        if (issuedMark == null) {
+            checkpointKey = lastKey;
+        } else {
+            advanceToConfirmed();
+        }
+
+        if (checkpointKey != null) {
+            executionContext.put(lastKeyName(), checkpointKey);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.close();
+        }
+        delegate = null;
+    }
+
+    @Override
+    public T read() throws Exception {
+        T item = delegate.read();
+        if (item != null) {
+            lastKey = keyExtractor.apply(item);
+        }
+        return item;
+    }
+
+    private void advanceToConfirmed() {
+        if (lastKey != null && (pending.isEmpty() || !pending.peekLast().key().equals(lastKey))) {
+            pending.addLast(new Pending<>(issuedMark.getAsLong(), lastKey));
+        }
+
+        long confirmed = confirmedMark.getAsLong();
+        while (!pending.isEmpty() && pending.peekFirst().mark() <= confirmed) {
+            checkpointKey = pending.pollFirst().key();
+        }
+    }
+
+    private String lastKeyName() {
+        return name + ".lastKey";
+    }
+
+}
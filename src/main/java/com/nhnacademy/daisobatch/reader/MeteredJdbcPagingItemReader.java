@@ -0,0 +1,52 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+
+/**
+ * 페이지 조회(쿼리 실행 + 매핑) 시간을 batch.reader.page.duration으로 기록하는 JdbcPagingItemReader
+ * job / step 태그는 open() 시점에 등록된 Step에서 가져옴 (파티션 Worker Step마다 구분)
+ */
+public class MeteredJdbcPagingItemReader<T> extends JdbcPagingItemReader<T> {
+
+    private final MeterRegistry meterRegistry;
+    private Timer pageTimer;
+
+    public MeteredJdbcPagingItemReader(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        // 재시작 시 open() 안에서도 페이지를 읽으므로 먼저 Timer 준비
+        pageTimer = BatchMetrics.readerPageTimer(meterRegistry,
+                BatchMetrics.currentJobName(), BatchMetrics.currentStepName(), getName());
+        super.open(executionContext);
+    }
+
+    @Override
+    protected void doReadPage() {
+        if (pageTimer == null) {
+            super.doReadPage();
+            return;
+        }
+
+        pageTimer.record(super::doReadPage);
+    }
+
+}
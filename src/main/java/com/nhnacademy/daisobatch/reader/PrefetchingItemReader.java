@@ -0,0 +1,169 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * 다음 페이지 조회를 현재 Chunk 처리/쓰기와 겹치도록 백그라운드(가상 스레드)에서 미리 읽어두는 Reader 데코레이터
+ * - 최대 bufferSize 건까지만 미리 읽음 (버퍼가 가득 차면 백그라운드 스레드 대기)
+ * - 위임 Reader의 예외는 읽은 순서 그대로 read()에서 다시 던짐 > Step의 skip/retry 정책 그대로 적용
+ *   예외 이후에는 Step이 다시 read()를 호출할 때만 위임 Reader를 이어서 읽음 (동기 Reader와 동일한 호출 순서)
+ * - 위임 Reader는 백그라운드 스레드에서 호출되므로 안에서 StepScope 프록시 빈을 사용하지 않아야 함
+ * - 위임 Reader는 미리 읽은 만큼 앞서 있으므로 update()는 위임하지 않음 (saveState=false Reader에만 사용)
+ */
+@Slf4j
+public class PrefetchingItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    private static final long CLOSE_WAIT_SECONDS = 5;
+
+    private final ItemReader<T> delegate;
+    private final String name;
+    private final BlockingQueue<Slot<T>> buffer;
+
+    private Thread producer;
+    private boolean producerStopped = true;     // 종료(끝/예외) 후 다음 read()에서 다시 시작
+    private boolean finished = false;
+
+    // 버퍼에 담기는 단위: 아이템 / 예외 / 입력 끝
+    private record Slot<T>(T item, Throwable error, boolean end) {
+    }
+
+    public PrefetchingItemReader(ItemReader<T> delegate, String name, int bufferSize) {
+        this.delegate = delegate;
+        this.name = name;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        // 위임 Reader는 빈으로 등록되지 않으므로 초기화를 대신 호출
+        if (delegate instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+
+        finished = false;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // 위임 Reader 상태는 Chunk 경계보다 앞서 있으므로 저장하지 않음
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        stopProducer();
+        buffer.clear();
+
+        if (delegate instanceof ItemStream stream) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        if (finished) {
+            return null;
+        }
+
+        if (producerStopped) {
+            startProducer();
+        }
+
+        Slot<T> slot = buffer.take();
+
+        if (slot.end()) {
+            finished = true;
+            return null;
+        }
+
+        if (slot.error() != null) {
+            producerStopped = true;     // 백그라운드 스레드는 예외를 넣고 종료됨
+            if (slot.error() instanceof Error error) {
+                throw error;
+            }
+            throw (Exception) slot.error();
+        }
+
+        return slot.item();
+    }
+
+    private void startProducer() {
+        producerStopped = false;
+        producer = Thread.ofVirtual()
+                .name("prefetch-" + name)
+                .start(this::produce);
+    }
+
+    private void produce() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                T item;
+                try {
+                    item = delegate.read();
+
+                } catch (Throwable e) {
+                    buffer.put(new Slot<>(null, e, false));
+                    return;
+                }
+
+                if (item == null) {
+                    buffer.put(new Slot<>(null, null, true));
+                    return;
+                }
+
+                buffer.put(new Slot<>(item, null, false));
+            }
+
+        } catch (InterruptedException e) {
+            // close()에 의한 중단
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void stopProducer() {
+        if (producer == null) {
+            return;
+        }
+
+        producer.interrupt();
+        try {
+            if (!producer.join(Duration.ofSeconds(CLOSE_WAIT_SECONDS))) {
+                log.warn("[PrefetchingItemReader] {} 백그라운드 조회가 {}초 안에 끝나지 않음", name, CLOSE_WAIT_SECONDS);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        producer = null;
+        producerStopped = true;
+    }
+
+}
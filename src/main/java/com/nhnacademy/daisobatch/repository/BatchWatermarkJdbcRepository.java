@@ -0,0 +1,45 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 증분 배치가 마지막으로 반영한 시점(워터마크) 저장소
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchWatermarkJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDateTime> find(String watermarkName) {
+        List<LocalDateTime> watermarks = jdbcTemplate.query(
+                "SELECT watermark_at FROM BatchWatermarks WHERE watermark_name = ?",
+                (rs, rowNum) -> rs.getTimestamp("watermark_at").toLocalDateTime(),
+                watermarkName);
+
+        return watermarks.stream().findFirst();
+    }
+
+    public void save(String watermarkName, LocalDateTime watermarkAt) {
+        jdbcTemplate.update("INSERT INTO BatchWatermarks (watermark_name, watermark_at) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE watermark_at = VALUES(watermark_at)", watermarkName, watermarkAt);
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이력 write-behind 버퍼(HistoryOutbox) 저장소
+ * 모든 메서드는 호출한 쪽 트랜잭션(Chunk / 이력 적재 Step)의 커넥션에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryOutboxJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Entry(long outboxId, LocalDateTime changedAt, String payload) {
+    }
+
+    public void append(String sink, LocalDateTime changedAt, String payload) {
+        jdbcTemplate.update("INSERT INTO HistoryOutbox (sink, changed_at, payload) VALUES (?, ?, ?)",
+                sink, changedAt, payload);
+    }
+
+    // 오래된 순서로 최대 limit개를 잠그고 가져옴 (호출한 트랜잭션이 끝날 때까지 유지)
+    // 다른 적재기가 잠근 행은 건너뜀 > 동시에 적재해도 같은 묶음을 두 번 옮기지 않음
+    public List<Entry> claimOldest(String sink, int limit) {
+        return jdbcTemplate.query(
+                "SELECT outbox_id, changed_at, payload FROM HistoryOutbox WHERE sink = ? ORDER BY outbox_id LIMIT ? " +
+                        "FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new Entry(
+                        rs.getLong("outbox_id"),
+                        rs.getObject("changed_at", Timestamp.class).toLocalDateTime(),
+                        rs.getString("payload")),
+                sink, limit);
+    }
+
+    public int delete(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        return new NamedParameterJdbcTemplate(jdbcTemplate)
+                .update("DELETE FROM HistoryOutbox WHERE outbox_id IN (:ids)", Map.of("ids", outboxIds));
+    }
+
+}
@@ -1,29 +1,114 @@
 package com.nhnacademy.daisobatch.repository.coupon;
 
+import com.nhnacademy.daisobatch.cache.UserIdBitmap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.LongConsumer;
 
 @Component
 @RequiredArgsConstructor
 public class IssuedCouponJdbcRepository {
 
+    private static final int PAGE_SIZE = 10_000;
+
+    private static final Set<String> USER_POLICY_COLUMNS = Set.of("user_created_id", "coupon_policy_id");
+
     private final JdbcTemplate jdbcTemplate;
 
-    public Set<Long> findIssuedUserIdsByPolicyId(Long policyId) {
+    /**
+     * @param maxUserCouponId 정책의 마지막 user_coupon_id (발급분이 없으면 0)
+     * @param issuedUsers     upToUserCouponId 이하 발급분의 회원 수
+     */
+    public record IssuedSummary(long maxUserCouponId, long issuedUsers) {
+    }
+
+    // 저장된 비트맵 검증용: 정책의 마지막 user_coupon_id와 upToUserCouponId까지의 발급 회원 수를 한 번에 조회
+    public IssuedSummary summarizeIssuedUpTo(Long policyId, long upToUserCouponId) {
         String sql = """
-            SELECT user_created_id
+            SELECT COALESCE(MAX(user_coupon_id), 0),
+                   COUNT(DISTINCT CASE WHEN user_coupon_id <= ? THEN user_created_id END)
             FROM user_coupons
             WHERE coupon_policy_id = ?
         """;
 
-        return new HashSet<>(
-                jdbcTemplate.queryForList(sql, Long.class, policyId)
-        );
+        return jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> new IssuedSummary(rs.getLong(1), rs.getLong(2)), upToUserCouponId, policyId);
+    }
+
+    // user_coupons에 (user_created_id, coupon_policy_id) 유니크 키가 있는지 (sql/coupon/user-coupon-unique-key-schema.sql)
+    // 발급 비트맵 모드는 이 키 + INSERT IGNORE를 중복 발급 최종 방어로 쓰므로 키가 없으면 사용하지 않음
+    public boolean hasUserPolicyUniqueKey() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            // 식별자 대소문자 저장 방식이 DB마다 달라 두 이름 모두 확인 (MySQL: 그대로 / H2: 대문자)
+            for (String table : List.of("user_coupons", "USER_COUPONS")) {
+                Map<String, Set<String>> columnsByIndex = new HashMap<>();
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (rs.next()) {
+                        String indexName = rs.getString("INDEX_NAME");
+                        String columnName = rs.getString("COLUMN_NAME");
+                        if (indexName != null && columnName != null) {
+                            columnsByIndex.computeIfAbsent(indexName, key -> new HashSet<>())
+                                    .add(columnName.toLowerCase(Locale.ROOT));
+                        }
+                    }
+                }
+
+                // 두 컬럼만으로 된 유니크 키여야 회원당 정책 1건이 보장됨
+                if (columnsByIndex.containsValue(USER_POLICY_COLUMNS)) {
+                    return true;
+                }
+            }
+            return false;
+        }));
+    }
+
+    // 정책의 발급 회원 전체를 박싱 없이 압축 비트맵으로
+    public UserIdBitmap findIssuedUserIdsByPolicyId(Long policyId) {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        forEachIssuedUserIdSince(policyId, 0L, bitmap::add);
+        return bitmap;
     }
 
+    // user_coupon_id > afterUserCouponId 인 발급분의 회원 ID를 user_coupon_id 키셋 페이지로 읽어 전달
+    // 반환값: 마지막으로 읽은 user_coupon_id (새 발급분이 없으면 afterUserCouponId 그대로)
+    public long forEachIssuedUserIdSince(Long policyId, long afterUserCouponId, LongConsumer consumer) {
+        String sql = """
+            SELECT user_coupon_id, user_created_id
+            FROM user_coupons
+            WHERE coupon_policy_id = ?
+              AND user_coupon_id > ?
+            ORDER BY user_coupon_id
+            LIMIT ?
+        """;
+
+        long lastUserCouponId = afterUserCouponId;
+        while (true) {
+            long[] page = new long[]{lastUserCouponId, 0L};     // [마지막 user_coupon_id, 읽은 행 수]
+
+            jdbcTemplate.query(sql, rs -> {
+                page[0] = rs.getLong(1);
+                page[1]++;
+                consumer.accept(rs.getLong(2));
+            }, policyId, lastUserCouponId, PAGE_SIZE);
+
+            lastUserCouponId = page[0];
+            if (page[1] < PAGE_SIZE) {
+                return lastUserCouponId;
+            }
+        }
+    }
 
 }
@@ -16,6 +16,7 @@ import com.nhnacademy.daisobatch.entity.coupon.UserCoupon;
 import com.nhnacademy.daisobatch.type.CouponStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -49,7 +50,25 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     @Query("UPDATE UserCoupon uc SET uc.status = 'EXPIRED' WHERE uc.status = 'ISSUED' AND uc.expiryAt < :now")
     int bulkExpireCoupons(@Param("now") LocalDateTime now);
 
-    @Query("select uc.userId from UserCoupon uc where uc.couponPolicy.couponPolicyId = :policyId")
-    List<Long> findIssuedUserIdsByPolicyId(@Param("policyId") Long policyId);
+    // 만료 배치: lowerId 이후 만료 대상 쿠폰 ID (limit 건까지) > 마지막 ID가 이번 구간의 상한
+    @Query("SELECT uc.userCouponId FROM UserCoupon uc WHERE uc.userCouponId > :lowerId " +
+            "AND uc.status = 'ISSUED' AND uc.expiryAt < :now ORDER BY uc.userCouponId")
+    List<Long> findExpiryTargetIds(@Param("now") LocalDateTime now, @Param("lowerId") Long lowerId, Limit limit);
+
+    // 만료 배치: 구간 (lowerId, upperId] 안의 만료 대상 쿠폰 정책 ID
+    @Query("SELECT DISTINCT uc.couponPolicy.couponPolicyId FROM UserCoupon uc " +
+            "WHERE uc.userCouponId > :lowerId AND uc.userCouponId <= :upperId " +
+            "AND uc.status = 'ISSUED' AND uc.expiryAt < :now")
+    List<Long> findExpiryPolicyIds(@Param("now") LocalDateTime now,
+                                   @Param("lowerId") Long lowerId, @Param("upperId") Long upperId);
+
+    // bulkExpireCoupons를 정책 + user_coupon_id 구간으로 제한 (구간마다 커밋해 잠금 범위 / 시간 제한)
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.status = 'EXPIRED' " +
+            "WHERE uc.couponPolicy.couponPolicyId = :policyId " +
+            "AND uc.userCouponId > :lowerId AND uc.userCouponId <= :upperId " +
+            "AND uc.status = 'ISSUED' AND uc.expiryAt < :now")
+    int bulkExpireCouponsInRange(@Param("now") LocalDateTime now, @Param("policyId") Long policyId,
+                                 @Param("lowerId") Long lowerId, @Param("upperId") Long upperId);
 
 }
\ No newline at end of file
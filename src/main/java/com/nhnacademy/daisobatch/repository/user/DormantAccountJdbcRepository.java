@@ -0,0 +1,65 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.repository.user;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 휴면 전환 일괄(bulk) 모드용 집합 단위 SQL
+ * user_created_id 구간(lowerId, upperId] 단위로 ACTIVE + 장기 미접속 계정을 한 번에 이력 저장 / 상태 변경
+ */
+@Component
+@RequiredArgsConstructor
+public class DormantAccountJdbcRepository {
+
+    private static final String DORMANT_TARGET_CONDITION = """
+            user_created_id > ? AND user_created_id <= ?
+              AND current_status_id = ?
+              AND last_login_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // lowerId 이후 휴면 대상 windowSize 건을 덮는 구간의 상한 user_created_id (대상이 없으면 null)
+    public Long findWindowUpperId(Long activeStatusId, long lowerId, long maxId, LocalDateTime lastLoginAtBefore,
+                                  int windowSize) {
+        String sql = "SELECT MAX(user_created_id) FROM (" +
+                "SELECT user_created_id FROM Accounts WHERE " + DORMANT_TARGET_CONDITION +
+                "ORDER BY user_created_id LIMIT ?) w";
+
+        return jdbcTemplate.queryForObject(sql, Long.class,
+                lowerId, maxId, activeStatusId, lastLoginAtBefore, windowSize);
+    }
+
+    // 상태 변경 전에 구간 내 대상 계정의 DORMANT 이력을 한 번에 저장
+    public int insertDormantHistories(Long activeStatusId, Long dormantStatusId, long lowerId, long upperId,
+                                      LocalDateTime lastLoginAtBefore, LocalDateTime changedAt) {
+        String sql = "INSERT INTO AccountStatusHistories (login_id, status_id, changed_at) " +
+                "SELECT login_id, ?, ? FROM Accounts WHERE " + DORMANT_TARGET_CONDITION;
+
+        return jdbcTemplate.update(sql,
+                dormantStatusId, changedAt, lowerId, upperId, activeStatusId, lastLoginAtBefore);
+    }
+
+    // 구간 내 대상 계정을 한 번에 DORMANT로 변경
+    public int updateToDormant(Long activeStatusId, Long dormantStatusId, long lowerId, long upperId,
+                               LocalDateTime lastLoginAtBefore) {
+        String sql = "UPDATE Accounts SET current_status_id = ? WHERE " + DORMANT_TARGET_CONDITION;
+
+        return jdbcTemplate.update(sql, dormantStatusId, lowerId, upperId, activeStatusId, lastLoginAtBefore);
+    }
+
+}
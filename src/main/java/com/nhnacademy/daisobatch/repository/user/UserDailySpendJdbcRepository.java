@@ -0,0 +1,58 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.repository.user;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 일자 단위 구매액 집계(UserDailySpends) 테이블 관리
+ * 등급 산정 시 주문 원본을 매번 다시 집계하지 않고 일자별 합계만 읽도록 하기 위한 롤업
+ * - 주문일 기준 집계라 다시 집계한 일자 이전 주문의 상태 변경(늦은 완료 / 취소 / 반품)은 다음 전체 재집계 전까지 반영되지 않음
+ *   > 그 사이 롤업 합계는 주문 원본을 직접 집계한 결과와 다를 수 있음 (batch.grade.incremental.full-rebuild-days)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDailySpendJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 집계 기간에서 벗어난 일자 삭제
+    public int deleteBefore(LocalDate spendDate) {
+        return jdbcTemplate.update("DELETE FROM UserDailySpends WHERE spend_date < ?", spendDate);
+    }
+
+    // 다시 집계할 일자 삭제
+    public int deleteFrom(LocalDate spendDate) {
+        return jdbcTemplate.update("DELETE FROM UserDailySpends WHERE spend_date >= ?", spendDate);
+    }
+
+    // 지정 일자 이후의 COMPLETED 주문 상세만 회원/일자별로 합산해 적재
+    public int aggregateFrom(LocalDate spendDate) {
+        String sql = """
+            INSERT INTO UserDailySpends (user_created_id, spend_date, amount)
+            SELECT o.user_created_id, CAST(o.order_date AS DATE), SUM(od.price)
+            FROM Orders o
+            JOIN OrderDetails od ON o.order_id = od.order_id
+            WHERE o.order_date >= ?
+              AND o.user_created_id IS NOT NULL
+              AND od.order_detail_status = 'COMPLETED'
+            GROUP BY o.user_created_id, CAST(o.order_date AS DATE)
+        """;
+
+        return jdbcTemplate.update(sql, spendDate.atStartOfDay());
+    }
+
+}
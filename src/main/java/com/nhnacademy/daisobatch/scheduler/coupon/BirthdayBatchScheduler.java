@@ -1,13 +1,16 @@
 package com.nhnacademy.daisobatch.scheduler.coupon;
 
+import com.nhnacademy.daisobatch.type.BirthdayIssueMode;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Component
@@ -16,14 +19,20 @@ public class BirthdayBatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job birthdayCouponJob;   // ✅ 여기엔 “선택된 Job”만 들어옴
+    private final Job birthdayCouponDailyJob;   // 일 단위 모드: user_coupons NOT EXISTS로 중복 발급을 거르는 DB Job
+    private final BirthdayIssueMode issueMode;
 
     // ✅ 생성자 파라미터에 Qualifier를 붙여야 100% 해결됨
     public BirthdayBatchScheduler(
             JobLauncher jobLauncher,
-            @Qualifier("birthdayCouponJobMSA") Job birthdayCouponJob // 또는 DB면 birthdayCouponJobDB
+            @Qualifier("birthdayCouponJobMSA") Job birthdayCouponJob, // 또는 DB면 birthdayCouponJobDB
+            @Qualifier("birthdayCouponJobDB") Job birthdayCouponDailyJob,
+            @Value("${batch.birthday.issue-mode:MONTHLY}") BirthdayIssueMode issueMode
     ) {
         this.jobLauncher = jobLauncher;
         this.birthdayCouponJob = birthdayCouponJob;
+        this.birthdayCouponDailyJob = birthdayCouponDailyJob;
+        this.issueMode = issueMode;
     }
 
     @Scheduled(cron = "0 0 0 1 * *")
@@ -33,6 +42,10 @@ public class BirthdayBatchScheduler {
             lockAtMostFor = "30m"
     )
     public void runBirthdayCouponJob() {
+        if (issueMode != BirthdayIssueMode.MONTHLY) {
+            return;
+        }
+
         log.info("=== 생일 쿠폰 배치 시작 ===");
         try {
             JobParameters params = new JobParametersBuilder()
@@ -46,4 +59,32 @@ public class BirthdayBatchScheduler {
             log.error("배치 실행 중 오류", e);
         }
     }
+
+    // 일 단위 모드: 매일 밤 window-days일 안에 생일이 있는 회원에게만 발급 > 월초 자정 몰림을 한 달에 분산
+    @Scheduled(cron = "0 30 0 * * *")   // 매일 00:30 (월초 자정 Job들과 겹치지 않게)
+    @SchedulerLock(
+            name = "birthdayCouponJobDB",
+            lockAtLeastFor = "30s",
+            lockAtMostFor = "30m"
+    )
+    public void runDailyBirthdayCouponJob() {
+        if (issueMode != BirthdayIssueMode.DAILY) {
+            return;
+        }
+
+        log.info("=== 생일 쿠폰 일 단위 배치 시작 ===");
+        try {
+            // baseDate가 같으면 같은 JobInstance > 실패 시 같은 날 재실행하면 이어서 처리 (이미 발급된 회원은 NOT EXISTS로 제외)
+            JobParameters params = new JobParametersBuilder()
+                    .addString("issueMode", BirthdayIssueMode.DAILY.name())
+                    .addString("baseDate", LocalDate.now().toString())
+                    .toJobParameters();
+
+            JobExecution execution = jobLauncher.run(birthdayCouponDailyJob, params);
+
+            log.info("=== 생일 쿠폰 일 단위 배치 종료: status={} ===", execution.getStatus());
+        } catch (Exception e) {
+            log.error("생일 쿠폰 일 단위 배치 실행 중 오류", e);
+        }
+    }
 }
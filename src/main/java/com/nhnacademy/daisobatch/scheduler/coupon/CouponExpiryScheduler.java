@@ -0,0 +1,50 @@
+package com.nhnacademy.daisobatch.scheduler.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@Slf4j
+public class CouponExpiryScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job couponExpiryJob;
+
+    public CouponExpiryScheduler(
+            JobLauncher jobLauncher,
+            @Qualifier("couponExpiryJob") Job couponExpiryJob
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.couponExpiryJob = couponExpiryJob;
+    }
+
+    @Scheduled(cron = "0 10 0 * * *")   // 매일 00:10 (자정 기준 만료분 처리)
+    @SchedulerLock(
+            name = "couponExpiryJob",
+            lockAtLeastFor = "30s",
+            lockAtMostFor = "30m"
+    )
+    public void runCouponExpiryJob() {
+        log.info("=== 쿠폰 만료 배치 시작 ===");
+        try {
+            // baseDate는 실행일 자정으로 고정 > 같은 날 다시 실행하면 같은 JobInstance
+            // 실패한 실행은 같은 날 재실행 시 마지막으로 커밋된 구간 다음부터 이어서 처리 (완료된 날은 재실행 거부)
+            JobParameters params = new JobParametersBuilder()
+                    .addString("baseDate", LocalDate.now().atStartOfDay().toString())
+                    .toJobParameters();
+
+            JobExecution execution = jobLauncher.run(couponExpiryJob, params);
+
+            log.info("=== 쿠폰 만료 배치 종료: status={} ===", execution.getStatus());
+        } catch (Exception e) {
+            log.error("쿠폰 만료 배치 실행 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.type;
+
+public enum BirthdayIssueMode {
+
+    /** 매월 1일에 그 달 생일자 전체에게 한 번에 발급 */
+    MONTHLY,
+
+    /** 매일 밤 오늘부터 window-days일 안에 생일이 있는 회원에게만 발급 (월초 쓰기 / 발행 몰림 분산) */
+    DAILY
+
+}
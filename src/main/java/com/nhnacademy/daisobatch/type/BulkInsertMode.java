@@ -0,0 +1,26 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.type;
+
+public enum BulkInsertMode {
+
+    /** 행마다 INSERT 1건을 JDBC batch로 전송 (드라이버 rewriteBatchedStatements 설정에 의존) */
+    JDBC_BATCH,
+
+    /** INSERT ... VALUES (...), (...) 다중 행 문장으로 묶어 전송 */
+    MULTI_VALUES,
+
+    /** Chunk를 메모리 내 TSV로 만들어 MySQL LOAD DATA LOCAL INFILE로 스트리밍 (allowLoadLocalInfile=true 필요) */
+    LOAD_DATA
+
+}
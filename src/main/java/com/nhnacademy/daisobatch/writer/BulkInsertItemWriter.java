@@ -0,0 +1,243 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+
+/**
+ * Chunk를 한 번에 적재하는 INSERT 전용 ItemWriter
+ * BulkInsertMode에 따라 JDBC batch / 다중 행 VALUES / LOAD DATA LOCAL INFILE 중 하나로 기록
+ * ignore = true면 INSERT IGNORE / LOAD DATA ... IGNORE로 중복 키 행을 건너뜀
+ * JDBC_BATCH 모드에서 statementSetter가 있으면 값 배열(Object[]) 없이 columns 순서대로 PreparedStatement에 바로 바인딩
+ */
+@Slf4j
+public class BulkInsertItemWriter<T> implements ItemWriter<T> {
+
+    // MySQL PreparedStatement 파라미터 최대 개수
+    private static final int MAX_PLACEHOLDERS = 65535;
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private static final String MYSQL_STATEMENT_CLASS = "com.mysql.cj.jdbc.JdbcStatement";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final List<String> columns;
+    private final Function<T, Object[]> valuesMapper;     // 아이템 > columns 순서의 값 배열
+    private final ItemPreparedStatementSetter<T> statementSetter;     // JDBC_BATCH 모드 전용 위치 기반 바인딩 (선택)
+    private final boolean ignore;
+    private final BulkInsertMode mode;
+    private final int rowsPerStatement;
+
+    private final String singleRowSql;
+    private final String fullStatementSql;   // rowsPerStatement 행짜리 문장은 재사용
+
+    @Builder
+    public BulkInsertItemWriter(DataSource dataSource, String table, List<String> columns,
+                                Function<T, Object[]> valuesMapper, ItemPreparedStatementSetter<T> statementSetter,
+                                boolean ignore,
+                                BulkInsertMode mode, int rowsPerStatement) {
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("[BulkInsertItemWriter] 컬럼 목록이 비어 있음");
+        }
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.valuesMapper = valuesMapper;
+        this.statementSetter = statementSetter;
+        this.ignore = ignore;
+        this.mode = (mode != null) ? mode : BulkInsertMode.JDBC_BATCH;
+        this.rowsPerStatement = Math.max(1, Math.min(
+                (rowsPerStatement > 0) ? rowsPerStatement : 500, MAX_PLACEHOLDERS / columns.size()));
+
+        this.singleRowSql = insertSql(1);
+        this.fullStatementSql = insertSql(this.rowsPerStatement);
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        if (mode == BulkInsertMode.JDBC_BATCH && statementSetter != null) {
+            int written = writeStatementSetterBatch(chunk.getItems());
+            log.debug("[BulkInsertItemWriter] {} {}건 중 {}건 적재 ({})", table, chunk.size(), written, mode);
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (T item : chunk) {
+            rows.add(valuesMapper.apply(item));
+        }
+
+        int written = switch (mode) {
+            case JDBC_BATCH -> writeJdbcBatch(rows);
+            case MULTI_VALUES -> writeMultiValues(rows);
+            case LOAD_DATA -> writeLoadData(rows);
+        };
+
+        log.debug("[BulkInsertItemWriter] {} {}건 중 {}건 적재 ({})", table, rows.size(), written, mode);
+    }
+
+    private int writeJdbcBatch(List<Object[]> rows) {
+        int written = 0;
+        for (int count : jdbcTemplate.batchUpdate(singleRowSql, rows)) {
+            written += Math.max(count, 0);   // SUCCESS_NO_INFO(-2)는 0으로 취급
+        }
+
+        return written;
+    }
+
+    private int writeStatementSetterBatch(List<? extends T> items) {
+        int written = 0;
+        int[][] counts = jdbcTemplate.batchUpdate(singleRowSql, items, items.size(),
+                (ps, item) -> statementSetter.setValues(item, ps));
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                written += Math.max(count, 0);
+            }
+        }
+
+        return written;
+    }
+
+    private int writeMultiValues(List<Object[]> rows) {
+        int written = 0;
+
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<Object[]> group = rows.subList(from, Math.min(from + rowsPerStatement, rows.size()));
+            String sql = (group.size() == rowsPerStatement) ? fullStatementSql : insertSql(group.size());
+
+            Object[] args = new Object[group.size() * columns.size()];
+            int index = 0;
+            for (Object[] row : group) {
+                System.arraycopy(row, 0, args, index, row.length);
+                index += row.length;
+            }
+
+            written += jdbcTemplate.update(sql, args);
+        }
+
+        return written;
+    }
+
+    private int writeLoadData(List<Object[]> rows) {
+        byte[] tsv = toTsv(rows);
+        String sql = "LOAD DATA LOCAL INFILE 'chunk.tsv' " + (ignore ? "IGNORE " : "") +
+                "INTO TABLE " + table + " CHARACTER SET utf8mb4 " +
+                "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' " +
+                "(" + String.join(", ", columns) + ")";
+
+        // Chunk 트랜잭션의 커넥션을 그대로 사용, 파일 대신 메모리 스트림을 드라이버에 전달
+        Integer written = jdbcTemplate.execute((StatementCallback<Integer>) statement -> {
+            setLocalInfileInputStream(statement, new ByteArrayInputStream(tsv));
+            return statement.executeUpdate(sql);
+        });
+
+        return (written != null) ? written : 0;
+    }
+
+    // mysql-connector-j는 runtime 의존성이므로 리플렉션으로 호출
+    private void setLocalInfileInputStream(Statement statement, InputStream inputStream) {
+        try {
+            Class<?> mysqlStatementClass = Class.forName(MYSQL_STATEMENT_CLASS);
+            Object mysqlStatement = statement.unwrap(mysqlStatementClass);
+            Method method = mysqlStatementClass.getMethod("setLocalInfileInputStream", InputStream.class);
+            method.invoke(mysqlStatement, inputStream);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("[BulkInsertItemWriter] LOAD DATA 모드는 MySQL 드라이버에서만 사용 가능", e);
+        }
+    }
+
+    private String insertSql(int rowCount) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        StringBuilder sql = new StringBuilder()
+                .append(ignore ? "INSERT IGNORE INTO " : "INSERT INTO ")
+                .append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+        }
+
+        return sql.toString();
+    }
+
+    private byte[] toTsv(List<Object[]> rows) {
+        StringBuilder tsv = new StringBuilder(rows.size() * columns.size() * 16);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    tsv.append('\t');
+                }
+                appendTsvValue(tsv, row[i]);
+            }
+            tsv.append('\n');
+        }
+
+        return tsv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void appendTsvValue(StringBuilder tsv, Object value) {
+        if (value == null) {
+            tsv.append("\\N");     // LOAD DATA의 NULL 표기
+            return;
+        }
+
+        String text = switch (value) {
+            case LocalDateTime dateTime -> dateTime.format(DATETIME_FORMAT);
+            case BigDecimal decimal -> decimal.toPlainString();
+            case Boolean bool -> bool ? "1" : "0";
+            case Enum<?> constant -> constant.name();
+            default -> value.toString();
+        };
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> tsv.append("\\\\");
+                case '\t' -> tsv.append("\\t");
+                case '\n' -> tsv.append("\\n");
+                case '\r' -> tsv.append("\\r");
+                default -> tsv.append(c);
+            }
+        }
+    }
+
+}
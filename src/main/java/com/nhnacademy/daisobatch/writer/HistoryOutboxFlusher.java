@@ -0,0 +1,78 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.daisobatch.repository.HistoryOutboxJdbcRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * HistoryOutbox에 쌓인 이력 묶음을 이력 테이블로 옮기는 적재기
+ * 오래된 묶음부터 maxEntries개를 잠가서(FOR UPDATE SKIP LOCKED) 한 번에 적재(BulkInsertItemWriter)하고 같은 트랜잭션에서 삭제
+ * > 중복 / 유실 없이 재실행 가능, 여러 적재기가 동시에 돌아도 잠긴 묶음은 건너뛰어 같은 이력을 두 번 적재하지 않음
+ */
+@Slf4j
+public class HistoryOutboxFlusher<T> {
+
+    private final HistoryOutboxJdbcRepository historyOutboxJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final String sink;
+    private final JavaType payloadType;
+    private final BiFunction<T, LocalDateTime, Object[]> rowMapper;     // 아이템 + 변경 시간 > 이력 테이블 컬럼 값
+    private final BulkInsertItemWriter<Object[]> historyWriter;
+
+    public HistoryOutboxFlusher(HistoryOutboxJdbcRepository historyOutboxJdbcRepository, ObjectMapper objectMapper,
+                                String sink, Class<T> itemType, BiFunction<T, LocalDateTime, Object[]> rowMapper,
+                                BulkInsertItemWriter<Object[]> historyWriter) {
+        this.historyOutboxJdbcRepository = historyOutboxJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.sink = sink;
+        this.payloadType = objectMapper.getTypeFactory().constructCollectionType(List.class, itemType);
+        this.rowMapper = rowMapper;
+        this.historyWriter = historyWriter;
+    }
+
+    /**
+     * @return 적재한 이력 건수 (0이면 남은 묶음 없음)
+     */
+    public int flush(int maxEntries) throws Exception {
+        List<HistoryOutboxJdbcRepository.Entry> entries = historyOutboxJdbcRepository.claimOldest(sink, maxEntries);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Chunk<Object[]> rows = new Chunk<>();
+        List<Long> outboxIds = new ArrayList<>(entries.size());
+        for (HistoryOutboxJdbcRepository.Entry entry : entries) {
+            List<T> items = objectMapper.readValue(entry.payload(), payloadType);
+            for (T item : items) {
+                rows.add(rowMapper.apply(item, entry.changedAt()));
+            }
+            outboxIds.add(entry.outboxId());
+        }
+
+        historyWriter.write(rows);
+        historyOutboxJdbcRepository.delete(outboxIds);
+
+        log.info("[HistoryOutboxFlusher] {} 이력 {}건 적재 (묶음 {}개)", sink, rows.size(), entries.size());
+
+        return rows.size();    // HistoryOutboxItemWriter는 빈 Chunk를 남기지 않으므로 묶음이 있으면 1 이상
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.daisobatch.repository.HistoryOutboxJdbcRepository;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 이력을 이력 테이블 대신 HistoryOutbox에 Chunk당 행 1개(아이템 JSON 배열)로 남기는 write-behind ItemWriter
+ * - 상태 변경과 같은 Chunk 트랜잭션에서 커밋 > 커밋된 상태 변경의 이력은 항상 남음 (장애 후에도 유실 없음)
+ * - 이력 테이블의 FK 검사 / 인덱스 갱신 / 행 N개 INSERT가 Chunk 트랜잭션에서 빠져 Users / Accounts 잠금 유지 시간 단축
+ * 실제 이력 테이블 적재는 HistoryOutboxFlusher가 별도 Step에서 수행
+ */
+@Slf4j
+public class HistoryOutboxItemWriter<T> implements ItemWriter<T> {
+
+    private final HistoryOutboxJdbcRepository historyOutboxJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final String sink;
+    private final LocalDateTime changedAt;
+
+    public HistoryOutboxItemWriter(HistoryOutboxJdbcRepository historyOutboxJdbcRepository, ObjectMapper objectMapper,
+                                   String sink, LocalDateTime changedAt) {
+        this.historyOutboxJdbcRepository = historyOutboxJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.sink = sink;
+        this.changedAt = changedAt;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        historyOutboxJdbcRepository.append(sink, changedAt, objectMapper.writeValueAsString(chunk.getItems()));
+        log.debug("[HistoryOutboxItemWriter] {} 이력 {}건 버퍼링", sink, chunk.size());
+    }
+
+}
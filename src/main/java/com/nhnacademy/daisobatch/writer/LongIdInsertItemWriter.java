@@ -0,0 +1,113 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * LongIdBlock의 ID마다 (ID, 고정 값...) 한 행을 다중 행 VALUES INSERT로 적재하는 Writer
+ * 고정 값(정책 / 상태 / 발급일 등)은 Step 시작 시 한 번만 계산해 모든 행에 같은 값을 바인딩
+ * ID는 setLong으로 바로 바인딩 > 행마다 엔티티 / 값 배열 / 박싱 없음
+ */
+@Slf4j
+public class LongIdInsertItemWriter implements ItemWriter<LongIdBlock> {
+
+    // MySQL PreparedStatement 파라미터 최대 개수
+    private static final int MAX_PLACEHOLDERS = 65535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final Object[] constantValues;
+    private final int rowsPerStatement;
+
+    private final String sqlPrefix;
+    private final String rowPlaceholders;
+    private final String fullStatementSql;   // rowsPerStatement 행짜리 문장은 재사용
+
+    @Builder
+    public LongIdInsertItemWriter(DataSource dataSource, String table, String idColumn,
+                                  Map<String, Object> constants, boolean ignore, int rowsPerStatement) {
+        if (table == null || idColumn == null) {
+            throw new IllegalArgumentException("[LongIdInsertItemWriter] table / idColumn은 필수");
+        }
+
+        Map<String, Object> ordered = (constants != null) ? new LinkedHashMap<>(constants) : Map.of();
+        String[] constantColumns = ordered.keySet().toArray(new String[0]);
+        int columnCount = ordered.size() + 1;
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.constantValues = ordered.values().toArray();
+        this.rowsPerStatement = Math.max(1, Math.min(
+                (rowsPerStatement > 0) ? rowsPerStatement : 500, MAX_PLACEHOLDERS / columnCount));
+
+        this.sqlPrefix = (ignore ? "INSERT IGNORE INTO " : "INSERT INTO ") + table +
+                " (" + idColumn + (constantColumns.length > 0 ? ", " + String.join(", ", constantColumns) : "") +
+                ") VALUES ";
+        this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        this.fullStatementSql = insertSql(this.rowsPerStatement);
+    }
+
+    @Override
+    public void write(Chunk<? extends LongIdBlock> chunk) throws Exception {
+        int total = 0;
+        int written = 0;
+
+        for (LongIdBlock block : chunk) {
+            for (int from = 0; from < block.size(); from += rowsPerStatement) {
+                int rows = Math.min(rowsPerStatement, block.size() - from);
+                written += insertRows(block, from, rows);
+            }
+            total += block.size();
+        }
+
+        log.debug("[LongIdInsertItemWriter] {} {}건 중 {}건 적재", table, total, written);
+    }
+
+    private int insertRows(LongIdBlock block, int from, int rows) {
+        String sql = (rows == rowsPerStatement) ? fullStatementSql : insertSql(rows);
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (int i = from; i < from + rows; i++) {
+                ps.setLong(index++, block.get(i));
+                for (Object value : constantValues) {
+                    ps.setObject(index++, value);
+                }
+            }
+        });
+    }
+
+    private String insertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(sqlPrefix.length() + rowCount * (rowPlaceholders.length() + 2))
+                .append(sqlPrefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholders);
+        }
+
+        return sql.toString();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Chunk를 세션 전용 임시 테이블에 한 번 적재한 뒤, 집합 단위 SQL 몇 개로 실제 테이블에 반영하는 ItemWriter
+ * - 아이템마다 UPDATE / INSERT를 따로 바인딩하지 않고 적재 1회 + 문장 N개로 Chunk를 처리
+ * - 임시 테이블은 커넥션(세션)마다 따로 생기므로 파티션 Worker끼리 충돌하지 않음, Chunk 시작 시 비우고 사용
+ * - 적재 / 반영 모두 Chunk 트랜잭션의 커넥션에서 실행 > 롤백 시 함께 롤백
+ * mergeStatements는 DB 방언 그대로 작성 (MySQL: UPDATE ... JOIN, INSERT ... SELECT), 고정 값은 parameters로 전달
+ */
+@Slf4j
+public class StagingMergeItemWriter<T> implements ItemWriter<T> {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String stagingTable;
+    private final String createStagingSql;
+    private final BulkInsertItemWriter<T> stagingWriter;
+    private final List<String> mergeStatements;
+    private final Map<String, ?> parameters;
+
+    /**
+     * @param columnDefinitions 임시 테이블 컬럼 정의 ("user_created_id BIGINT" 형태, valuesMapper 값 순서와 동일)
+     * @param mergeStatements   적재 후 순서대로 실행할 집합 단위 SQL
+     * @param parameters        mergeStatements의 :이름 파라미터 (Chunk와 무관한 고정 값)
+     */
+    @Builder
+    public StagingMergeItemWriter(DataSource dataSource, String stagingTable, List<String> columnDefinitions,
+                                  Function<T, Object[]> valuesMapper, List<String> mergeStatements,
+                                  Map<String, ?> parameters, BulkInsertMode mode, int rowsPerStatement) {
+        if (columnDefinitions == null || columnDefinitions.isEmpty()) {
+            throw new IllegalArgumentException("[StagingMergeItemWriter] 임시 테이블 컬럼 정의가 비어 있음");
+        }
+        if (mergeStatements == null || mergeStatements.isEmpty()) {
+            throw new IllegalArgumentException("[StagingMergeItemWriter] 반영 SQL이 비어 있음");
+        }
+
+        List<String> columns = new ArrayList<>(columnDefinitions.size());
+        for (String definition : columnDefinitions) {
+            columns.add(definition.trim().split("\\s+", 2)[0]);
+        }
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.stagingTable = stagingTable;
+        this.createStagingSql = "CREATE TEMPORARY TABLE IF NOT EXISTS " + stagingTable +
+                " (" + String.join(", ", columnDefinitions) + ")";
+        this.stagingWriter = BulkInsertItemWriter.<T>builder()
+                .dataSource(dataSource)
+                .table(stagingTable)
+                .columns(columns)
+                .valuesMapper(valuesMapper)
+                .mode(mode)
+                .rowsPerStatement(rowsPerStatement)
+                .build();
+        this.mergeStatements = List.copyOf(mergeStatements);
+        this.parameters = (parameters != null) ? Map.copyOf(parameters) : Map.of();
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 1. 임시 테이블 준비 (MySQL에서 CREATE TEMPORARY TABLE은 암묵적 커밋을 일으키지 않음)
+        jdbcTemplate.getJdbcTemplate().execute(createStagingSql);
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM " + stagingTable);
+
+        // 2. Chunk 1회 적재
+        stagingWriter.write(chunk);
+
+        // 3. 집합 단위 반영
+        int[] counts = new int[mergeStatements.size()];
+        for (int i = 0; i < mergeStatements.size(); i++) {
+            counts[i] = jdbcTemplate.update(mergeStatements.get(i), parameters);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("[StagingMergeItemWriter] {} {}건 적재 후 반영 {}", stagingTable, chunk.size(),
+                    Arrays.toString(counts));
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer.coupon;
+
+import com.nhnacademy.daisobatch.entity.coupon.UserCoupon;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+
+/**
+ * user_coupons INSERT 위치 기반 파라미터 바인딩 (COLUMNS 순서)
+ * BulkInsertItemWriter JDBC_BATCH 모드에서 아이템마다 Object[] / 박싱 없이 바로 바인딩
+ */
+public class UserCouponPreparedStatementSetter implements ItemPreparedStatementSetter<UserCoupon> {
+
+    public static final List<String> COLUMNS =
+            List.of("user_created_id", "coupon_policy_id", "status", "issue_at", "expiry_at", "used_at");
+
+    @Override
+    public void setValues(UserCoupon item, PreparedStatement ps) throws SQLException {
+        ps.setLong(1, item.getUserId());
+        ps.setLong(2, item.getCouponPolicy().getCouponPolicyId());
+        ps.setString(3, item.getStatus().name());
+        ps.setObject(4, item.getIssuedAt());
+        ps.setObject(5, item.getExpiryAt());
+        if (item.getUsedAt() != null) {
+            ps.setObject(6, item.getUsedAt());
+        } else {
+            ps.setNull(6, Types.TIMESTAMP);     // 신규 발급 쿠폰은 항상 미사용
+        }
+    }
+
+    // MULTI_VALUES / LOAD_DATA 모드용 값 배열 (COLUMNS 순서)
+    public static Object[] values(UserCoupon item) {
+        return new Object[]{
+                item.getUserId(),
+                item.getCouponPolicy().getCouponPolicyId(),
+                item.getStatus().name(),
+                item.getIssuedAt(),
+                item.getExpiryAt(),
+                item.getUsedAt()
+        };
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer.user;
+
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+
+/**
+ * 휴면 전환 UPDATE 위치 기반 파라미터 바인딩
+ * 아이템마다 HashMap / MapSqlParameterSource를 만들지 않고 PreparedStatement에 바로 바인딩
+ */
+public class DormantStatusPreparedStatementSetter implements ItemPreparedStatementSetter<DormantAccountDto> {
+
+    // 조회 이후 로그인한 계정은 last_login_at이 달라져 제외
+    public static final String SQL =
+            "UPDATE Accounts SET current_status_id = ? WHERE login_id = ? AND last_login_at = ?";
+
+    private final long dormantStatusId;
+
+    public DormantStatusPreparedStatementSetter(long dormantStatusId) {
+        this.dormantStatusId = dormantStatusId;
+    }
+
+    @Override
+    public void setValues(DormantAccountDto item, PreparedStatement ps) throws SQLException {
+        ps.setLong(1, dormantStatusId);             // 휴면 상태 ID
+        ps.setString(2, item.loginId());            // 계정 로그인 ID
+        ps.setObject(3, item.lastLoginAt());        // 조회 시점의 마지막 로그인 시간 (JDBC 4.2 LocalDateTime)
+    }
+
+}
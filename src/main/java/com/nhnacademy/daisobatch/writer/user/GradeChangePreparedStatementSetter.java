@@ -0,0 +1,34 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer.user;
+
+import com.nhnacademy.daisobatch.dto.user.GradeChangeDto;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+
+/**
+ * 등급 변경 UPDATE 위치 기반 파라미터 바인딩
+ * beanMapped()의 BeanWrapper 리플렉션 / 이름 → 값 배열 변환 없이 record 접근자 값을 바로 바인딩
+ */
+public class GradeChangePreparedStatementSetter implements ItemPreparedStatementSetter<GradeChangeDto> {
+
+    public static final String SQL = "UPDATE Users SET current_grade_id = ? WHERE user_created_id = ?";
+
+    @Override
+    public void setValues(GradeChangeDto item, PreparedStatement ps) throws SQLException {
+        ps.setLong(1, item.gradeId());          // 변경 등급 ID
+        ps.setLong(2, item.userCreatedId());    // 회원 ID
+    }
+
+}
@@ -0,0 +1,10 @@
+-- 회원당 정책 1건 발급 보장용 DDL (생일 쿠폰 DB Job의 INSERT IGNORE / 발급 비트맵 모드가 전제로 함)
+
+-- (user_created_id, coupon_policy_id) 유니크 키
+-- INSERT IGNORE가 이미 발급된 회원의 중복 행을 건너뛰는 근거 + NOT EXISTS 조회도 이 인덱스 1회 조회로 처리
+-- batch.birthday.issued-bitmap.enabled=true여도 이 키가 없으면 Job은 NOT EXISTS 조회로 되돌림
+-- 적용 전 중복 발급 행이 없어야 함:
+--   SELECT user_created_id, coupon_policy_id, COUNT(*) FROM user_coupons
+--   GROUP BY user_created_id, coupon_policy_id HAVING COUNT(*) > 1;
+ALTER TABLE user_coupons
+    ADD UNIQUE KEY uk_user_coupons_user_policy (user_created_id, coupon_policy_id);
@@ -0,0 +1,14 @@
+-- 생일 쿠폰 조회 인덱스 모드(batch.birthday.birth-month-index.enabled=true)용 DDL
+
+-- birth에서 계산되는 생일 월 / 월일 가상 생성 컬럼 + (컬럼, user_created_id) 복합 인덱스
+-- DB가 birth 변경 시 항상 같이 갱신 > User 서비스 코드 변경이나 동기화 배치 불필요
+-- 월 단위 Job은 birth_month = ? AND user_created_id > ? ORDER BY user_created_id 로 해당 월 회원만 범위 조회
+-- 일 단위 모드(batch.birthday.issue-mode=DAILY)는 birth_month_day BETWEEN ? AND ? 로 구간 안의 생일자만 범위 조회
+ALTER TABLE Users
+    ADD COLUMN birth_month     TINYINT  AS (MONTH(birth)) VIRTUAL,
+    ADD COLUMN birth_month_day SMALLINT AS (MONTH(birth) * 100 + DAYOFMONTH(birth)) VIRTUAL,
+    ADD INDEX idx_users_birth_month (birth_month, user_created_id),
+    ADD INDEX idx_users_birth_month_day (birth_month_day, user_created_id);
+
+-- 이미 발급된 생일 쿠폰 확인(NOT EXISTS)은 sql/coupon/user-coupon-unique-key-schema.sql의
+-- (user_created_id, coupon_policy_id) 유니크 키로 후보 회원마다 인덱스 1회 조회
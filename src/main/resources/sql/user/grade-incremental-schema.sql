@@ -0,0 +1,16 @@
+-- 등급 산정 증분 모드(batch.grade.incremental.enabled=true)용 테이블
+
+-- 회원별 일자 단위 COMPLETED 주문 상세 합계 (batch.grade.days 기간만 유지)
+CREATE TABLE IF NOT EXISTS UserDailySpends (
+    user_created_id BIGINT NOT NULL,
+    spend_date      DATE   NOT NULL,
+    amount          BIGINT NOT NULL,
+    PRIMARY KEY (user_created_id, spend_date),
+    INDEX idx_user_daily_spends_spend_date (spend_date)
+);
+
+-- 증분 배치가 마지막으로 반영한 시점
+CREATE TABLE IF NOT EXISTS BatchWatermarks (
+    watermark_name VARCHAR(50) PRIMARY KEY,
+    watermark_at   DATETIME(6) NOT NULL
+);
@@ -0,0 +1,11 @@
+-- 이력 write-behind 모드(batch.history.write-behind.enabled=true)용 테이블
+
+-- Chunk 트랜잭션이 상태 변경과 함께 커밋하는 이력 묶음 (Chunk 1개 = 행 1개, payload는 아이템 JSON 배열)
+-- 이력 적재 Step이 오래된 순서로 이력 테이블에 옮긴 뒤 삭제 > 중간에 죽어도 남은 행은 다음 실행에서 적재
+CREATE TABLE IF NOT EXISTS HistoryOutbox (
+    outbox_id  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sink       VARCHAR(50) NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+    payload    LONGTEXT    NOT NULL,
+    INDEX idx_history_outbox_sink (sink, outbox_id)
+);
@@ -0,0 +1,114 @@
+package com.nhnacademy.daisobatch.batch.coupon;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "batch.birthday.birth-month-index.enabled=true")
+@Sql(scripts = {
+        "/sql/coupon/birthday-schema.sql",
+        "/sql/coupon/birthday-data.sql"
+})
+class BirthdayCouponBatchDBTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    @Qualifier("birthdayCouponIdStepDB")
+    private Step birthdayCouponIdStepDB;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JobParameters mayParameters() {
+        return new JobParametersBuilder()
+                .addLong("currentMonth", 5L)
+                .addLong("time", System.nanoTime())
+                .toJobParameters();
+    }
+
+    private void assertIssuedToMayActiveUsers() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_created_id FROM user_coupons WHERE coupon_policy_id = 4 ORDER BY user_created_id",
+                Long.class)).containsExactly(1L, 4L, 6L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE status = 'ISSUED' AND expiry_at > issue_at", Integer.class))
+                .isEqualTo(3);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // JdbcPagingItemReader는 정렬 키(u.user_created_id)를 ResultSet 라벨로 읽어 H2에서는 실행 불가 > 키셋 ID Step으로 검증
+        jobLauncherTestUtils.setJob(new JobBuilder("birthdayCouponIdJobTest", jobRepository)
+                .start(birthdayCouponIdStepDB)
+                .build());
+    }
+
+    @Test
+    @DisplayName("생일 월 인덱스 모드에서 해당 월의 ACTIVE 미발급 회원에게만 페이지 단위로 생일 쿠폰을 발급해야 함")
+    void test1() throws Exception {
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(mayParameters());
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions().iterator().next().getReadCount()).isEqualTo(1);
+        assertIssuedToMayActiveUsers();
+    }
+
+    @Test
+    @DisplayName("같은 달에 다시 실행하면 이미 발급된 회원은 조회되지 않아야 함")
+    void test2() throws Exception {
+        jobLauncherTestUtils.launchJob(mayParameters());
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(mayParameters());
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions().iterator().next().getReadCount()).isZero();
+        assertIssuedToMayActiveUsers();
+    }
+
+    @Test
+    @DisplayName("일 단위 모드에서 기준일부터 구간 안에 생일이 있는 회원에게만 발급하고 만료일은 구간 마지막 날의 말일이어야 함")
+    void test3() throws Exception {
+        // 5/28 ~ 6/3 (window-days 7): 6(5/31), 3(6/1) 발급 / 1(5/1)은 구간 밖, 4는 이미 발급
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("issueMode", "DAILY")
+                .addString("baseDate", "2025-05-28")
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(parameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_created_id FROM user_coupons WHERE coupon_policy_id = 4 ORDER BY user_created_id",
+                Long.class)).containsExactly(3L, 4L, 6L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE user_created_id IN (3, 6) AND expiry_at = ?",
+                Integer.class, LocalDateTime.of(2025, 6, 30, 23, 59, 59))).isEqualTo(2);
+    }
+}
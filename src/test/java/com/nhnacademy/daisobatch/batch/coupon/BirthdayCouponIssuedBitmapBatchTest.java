@@ -0,0 +1,107 @@
+package com.nhnacademy.daisobatch.batch.coupon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.birthday.birth-month-index.enabled=true",
+        "batch.birthday.issued-bitmap.enabled=true"
+})
+@Sql(scripts = {
+        "/sql/coupon/birthday-schema.sql",
+        "/sql/coupon/birthday-data.sql"
+})
+class BirthdayCouponIssuedBitmapBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    @Qualifier("birthdayCouponIdStepDB")
+    private Step birthdayCouponIdStepDB;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JobParameters mayParameters() {
+        return new JobParametersBuilder()
+                .addLong("currentMonth", 5L)
+                .addLong("time", System.nanoTime())
+                .toJobParameters();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(new JobBuilder("birthdayCouponIssuedBitmapJobTest", jobRepository)
+                .start(birthdayCouponIdStepDB)
+                .build());
+    }
+
+    @Test
+    @DisplayName("NOT EXISTS 없이 조회한 페이지에서 발급 비트맵으로 이미 발급된 회원을 빼고 발급해야 함")
+    void test1() throws Exception {
+        JobExecution first = jobLauncherTestUtils.launchJob(mayParameters());
+
+        assertThat(first.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_created_id FROM user_coupons WHERE coupon_policy_id = 4 ORDER BY user_created_id",
+                Long.class)).containsExactly(1L, 4L, 6L);
+
+        // 다시 실행하면 조회된 페이지(1, 4, 6)가 비트맵에서 모두 걸러져 쓰기 없음
+        JobExecution second = jobLauncherTestUtils.launchJob(mayParameters());
+        StepExecution stepExecution = second.getStepExecutions().iterator().next();
+
+        assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(stepExecution.getReadCount()).isEqualTo(1);
+        assertThat(stepExecution.getFilterCount()).isEqualTo(1);
+        assertThat(stepExecution.getWriteCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_coupons", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("user_coupons에 유니크 키가 없으면 발급 비트맵 대신 NOT EXISTS로 이미 발급된 회원을 제외해야 함")
+    void test2() throws Exception {
+        jdbcTemplate.execute("ALTER TABLE user_coupons DROP CONSTRAINT uk_user_coupons_user_policy");
+
+        JobExecution first = jobLauncherTestUtils.launchJob(mayParameters());
+
+        assertThat(first.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_created_id FROM user_coupons WHERE coupon_policy_id = 4 ORDER BY user_created_id",
+                Long.class)).containsExactly(1L, 4L, 6L);
+
+        // 다시 실행하면 Reader의 NOT EXISTS가 발급된 회원을 모두 제외해 조회 자체가 없음
+        JobExecution second = jobLauncherTestUtils.launchJob(mayParameters());
+        StepExecution stepExecution = second.getStepExecutions().iterator().next();
+
+        assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(stepExecution.getReadCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_coupons", Integer.class)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,72 @@
+package com.nhnacademy.daisobatch.batch.coupon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 파티션별 user_created_id 범위 안에서만 발급하는지 원격 파티셔닝(local transport)으로 검증
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.birthday.id-pipeline.enabled=true",
+        "batch.birthday.partition.enabled=true",
+        "batch.birthday.partition.grid-size=3",
+        "batch.remote-partition.enabled=true",
+        "batch.remote-partition.transport=local",
+        "batch.remote-partition.poll-interval-ms=50"
+})
+@Sql(scripts = {
+        "/sql/coupon/birthday-schema.sql",
+        "/sql/coupon/birthday-data.sql"
+})
+class BirthdayCouponPartitionBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("birthdayCouponJobDB")
+    private Job birthdayCouponJobDB;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(birthdayCouponJobDB);
+    }
+
+    @Test
+    @DisplayName("파티션으로 나눠 실행해도 해당 월의 ACTIVE 미발급 회원에게만 한 번씩 발급해야 함")
+    void test1() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("currentMonth", 5L)
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions()).hasSize(4);    // Manager 1 + 파티션 3
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_created_id FROM user_coupons WHERE coupon_policy_id = 4 ORDER BY user_created_id",
+                Long.class)).containsExactly(1L, 4L, 6L);
+    }
+}
@@ -0,0 +1,81 @@
+package com.nhnacademy.daisobatch.batch.coupon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "batch.coupon-expiry.range-size=2")
+@Sql(scripts = {
+        "/sql/coupon/coupon-expiry-schema.sql",
+        "/sql/coupon/coupon-expiry-data.sql"
+})
+class CouponExpiryBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("couponExpiryJob")
+    private Job couponExpiryJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(couponExpiryJob);
+    }
+
+    @Test
+    @DisplayName("만료 대상 ISSUED 쿠폰만 구간 단위로 EXPIRED 처리되고 정책별 건수가 집계되어야 함")
+    void test1() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().toString())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // 대상 4건을 2건씩 2개 구간으로 나눠 커밋 (마지막 빈 구간 확인까지 3회)
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(4);
+        assertThat(stepExecution.getCommitCount()).isEqualTo(3);
+
+        // 재시작 기준 / 정책별 건수
+        assertThat(stepExecution.getExecutionContext().getLong(CouponExpiryBatch.LAST_USER_COUPON_ID)).isEqualTo(6L);
+        assertThat(stepExecution.getExecutionContext().get(CouponExpiryBatch.EXPIRED_BY_POLICY))
+                .isEqualTo(Map.of(1L, 2L, 2L, 2L));
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_coupon_id FROM user_coupons WHERE status = 'EXPIRED' ORDER BY user_coupon_id", Long.class))
+                .containsExactly(1L, 3L, 5L, 6L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM user_coupons WHERE user_coupon_id = 2", String.class)).isEqualTo("ISSUED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM user_coupons WHERE user_coupon_id = 4", String.class)).isEqualTo("USED");
+    }
+}
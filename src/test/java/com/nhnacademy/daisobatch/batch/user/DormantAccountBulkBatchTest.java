@@ -0,0 +1,101 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.dormant.bulk.enabled=true",
+        "batch.dormant.chunk-size=1"
+})
+@Sql(scripts = {
+        "/sql/user/dormant-schema.sql",
+        "/sql/user/dormant-data.sql"
+})
+public class DormantAccountBulkBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("dormantAccountJob")
+    private Job dormantAccountJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(dormantAccountJob);
+
+        // 이미 휴면 상태인 장기 미접속 계정 + 추가 휴면 대상 계정
+        jdbcTemplate.update("INSERT INTO Users (user_created_id) VALUES (3), (4)");
+        jdbcTemplate.update("INSERT INTO Accounts (login_id, user_created_id, last_login_at, current_status_id) " +
+                "VALUES ('dormantUser', 3, DATEADD('DAY', -200, CURRENT_DATE), 2), " +
+                "('targetUser2', 4, DATEADD('DAY', -120, CURRENT_DATE), 1)");
+    }
+
+    @Test
+    @DisplayName("일괄 모드로 휴면 전환 배치 실행 시, ACTIVE 대상자만 구간 단위로 DORMANT 전환되고 건수가 집계되어야 함")
+    void test1() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // 대상 2건이 읽기/쓰기 건수로 집계되었는지 확인 (이미 휴면인 계정은 조회 대상 아님)
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getStepName()).isEqualTo("dormantAccountBulkStep");
+        assertThat(stepExecution.getReadCount()).isEqualTo(2);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Accounts WHERE current_status_id = 2", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'activeUser'", Long.class)).isEqualTo(1L);
+
+        // 신규 DORMANT 이력은 전환된 2건에만 추가
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM AccountStatusHistories WHERE status_id = 2", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM AccountStatusHistories WHERE login_id = 'dormantUser'", Integer.class)).isZero();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+// 브로커 대신 같은 프로세스 Worker(local transport)로 원격 파티셔닝 흐름 검증
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.dormant.partition.enabled=true",
+        "batch.dormant.partition.grid-size=2",
+        "batch.remote-partition.enabled=true",
+        "batch.remote-partition.transport=local",
+        "batch.remote-partition.poll-interval-ms=50"
+})
+@Sql(scripts = {
+        "/sql/user/dormant-schema.sql",
+        "/sql/user/dormant-data.sql"
+})
+class DormantAccountRemotePartitionBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("dormantAccountJob")
+    private Job dormantAccountJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(dormantAccountJob);
+    }
+
+    @Test
+    @DisplayName("Worker가 처리한 파티션 결과가 Manager Step에 합산되고 대상자만 DORMANT로 변경되어야 함")
+    void test1() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().toString())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // Manager Step 1건 + Worker 파티션 2건
+        Map<String, StepExecution> steps = jobExecution.getStepExecutions().stream()
+                .collect(Collectors.toMap(StepExecution::getStepName, Function.identity()));
+        assertThat(steps).containsOnlyKeys("dormantAccountPartitionStep",
+                "dormantAccountWorkerStep:partition0", "dormantAccountWorkerStep:partition1");
+        assertThat(steps.get("dormantAccountPartitionStep").getWriteCount()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'targetUser'", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'activeUser'", Long.class)).isEqualTo(1L);
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.batch.test.StepScopeTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 운영과 같은 임시 테이블 반영 SQL(UPDATE ... EXISTS / INSERT ... SELECT JOIN)을 H2에서 실행
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "batch.staging-merge.enabled=true")
+@Sql(scripts = {
+        "/sql/user/dormant-schema.sql",
+        "/sql/user/dormant-data.sql"
+})
+class DormantAccountStagingMergeBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("dormantAccountJob")
+    private Job dormantAccountJob;
+
+    @Autowired
+    @Qualifier("dormantAccountWriter")
+    private ItemWriter<DormantAccountDto> dormantAccountWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(dormantAccountJob);
+    }
+
+    private long dormantHistoryCount(String loginId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM AccountStatusHistories WHERE login_id = ? AND status_id = 2", Long.class, loginId);
+    }
+
+    @Test
+    @DisplayName("임시 테이블 반영 모드로 휴면 전환 시 대상자만 DORMANT로 바뀌고 이력이 1건 저장되어야 함")
+    void test1() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'targetUser'", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'activeUser'", Long.class)).isEqualTo(1L);
+        assertThat(dormantHistoryCount("targetUser")).isEqualTo(1);
+        assertThat(dormantHistoryCount("activeUser")).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 이후 로그인해 last_login_at이 바뀐 계정은 휴면 전환도, DORMANT 이력도 남지 않아야 함")
+    void test2() throws Exception {
+        LocalDateTime oldLogin = LocalDateTime.now().minusDays(100).withNano(0);
+        jdbcTemplate.update("INSERT INTO Users (user_created_id) VALUES (3)");
+        jdbcTemplate.update("INSERT INTO Accounts (login_id, user_created_id, last_login_at, current_status_id) " +
+                "VALUES ('lateLoginUser', 3, ?, 1)", oldLogin);
+        LocalDateTime targetLogin = jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM Accounts WHERE login_id = 'targetUser'", LocalDateTime.class);
+
+        // Reader가 읽은 시점의 값
+        Chunk<DormantAccountDto> chunk = Chunk.of(
+                new DormantAccountDto("targetUser", targetLogin, 1L),
+                new DormantAccountDto("lateLoginUser", oldLogin, 1L));
+
+        // Writer 실행 전에 로그인
+        jdbcTemplate.update("UPDATE Accounts SET last_login_at = ? WHERE login_id = 'lateLoginUser'",
+                LocalDateTime.now().withNano(0));
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+        StepScopeTestUtils.doInStepScope(MetaDataInstanceFactory.createStepExecution(jobParameters), () -> {
+            // 임시 테이블은 커넥션 단위이므로 Chunk 트랜잭션처럼 한 트랜잭션에서 실행
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                try {
+                    dormantAccountWriter.write(chunk);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            return null;
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'targetUser'", Long.class)).isEqualTo(2L);
+        assertThat(dormantHistoryCount("targetUser")).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'lateLoginUser'", Long.class)).isEqualTo(1L);
+        assertThat(dormantHistoryCount("lateLoginUser")).isZero();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.batch.test.StepScopeTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 임시 테이블 반영 + write-behind: 실제로 휴면 전환된 계정만 HistoryOutbox에 남는지 확인
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.staging-merge.enabled=true",
+        "batch.history.write-behind.enabled=true"
+})
+@Sql(scripts = {
+        "/sql/user/dormant-schema.sql",
+        "/sql/user/dormant-data.sql"
+})
+class DormantAccountStagingWriteBehindBatchTest {
+
+    @Autowired
+    @Qualifier("dormantAccountWriter")
+    private ItemWriter<DormantAccountDto> dormantAccountWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("조회 이후 로그인해 last_login_at이 바뀐 계정은 HistoryOutbox 묶음에서 빠져야 함")
+    void test1() throws Exception {
+        LocalDateTime oldLogin = LocalDateTime.now().minusDays(100).withNano(0);
+        jdbcTemplate.update("INSERT INTO Users (user_created_id) VALUES (3)");
+        jdbcTemplate.update("INSERT INTO Accounts (login_id, user_created_id, last_login_at, current_status_id) " +
+                "VALUES ('lateLoginUser', 3, ?, 1)", oldLogin);
+        LocalDateTime targetLogin = jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM Accounts WHERE login_id = 'targetUser'", LocalDateTime.class);
+
+        // Reader가 읽은 시점의 값
+        Chunk<DormantAccountDto> chunk = Chunk.of(
+                new DormantAccountDto("targetUser", targetLogin, 1L),
+                new DormantAccountDto("lateLoginUser", oldLogin, 1L));
+
+        // Writer 실행 전에 로그인
+        jdbcTemplate.update("UPDATE Accounts SET last_login_at = ? WHERE login_id = 'lateLoginUser'",
+                LocalDateTime.now().withNano(0));
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+        StepScopeTestUtils.doInStepScope(MetaDataInstanceFactory.createStepExecution(jobParameters), () -> {
+            // 임시 테이블은 커넥션 단위이므로 Chunk 트랜잭션처럼 한 트랜잭션에서 실행
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                try {
+                    dormantAccountWriter.write(chunk);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            return null;
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'lateLoginUser'", Long.class)).isEqualTo(1L);
+
+        // Chunk 1개 = 묶음 1개, 휴면 전환된 targetUser만 포함
+        String payload = jdbcTemplate.queryForObject("SELECT payload FROM HistoryOutbox", String.class);
+        assertThat(payload).contains("\"loginId\":\"targetUser\"").doesNotContain("lateLoginUser");
+    }
+
+}
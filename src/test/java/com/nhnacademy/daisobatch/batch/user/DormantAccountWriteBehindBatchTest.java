@@ -0,0 +1,105 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "batch.history.write-behind.enabled=true")
+@Sql(scripts = {
+        "/sql/user/dormant-schema.sql",
+        "/sql/user/dormant-data.sql"
+})
+public class DormantAccountWriteBehindBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("dormantAccountJob")
+    private Job dormantAccountJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(dormantAccountJob);
+    }
+
+    @Test
+    @DisplayName("write-behind 모드로 휴면 전환 시, 이력은 HistoryOutbox를 거쳐 적재되고 이전 실행에서 남은 묶음도 함께 적재되어야 함")
+    void test1() throws Exception {
+        // 이전 실행이 상태 변경 커밋 후 이력 적재 전에 중단된 상황
+        jdbcTemplate.update("INSERT INTO HistoryOutbox (sink, changed_at, payload) VALUES (?, ?, ?)",
+                "AccountStatusHistories", LocalDateTime.of(2025, 1, 2, 0, 0),
+                "[{\"loginId\":\"activeUser\",\"lastLoginAt\":\"2025-01-01T00:00:00\",\"currentStatusId\":1}]");
+
+        LocalDateTime now = LocalDateTime.now();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions())
+                .extracting(StepExecution::getStepName)
+                .containsExactly("dormantAccountStep", "dormantHistoryFlushStep");
+
+        // 상태 변경은 Chunk 트랜잭션에서 바로 반영
+        Long targetStatus = jdbcTemplate.queryForObject(
+                "SELECT current_status_id FROM Accounts WHERE login_id = 'targetUser'", Long.class);
+        assertThat(targetStatus).isEqualTo(2L);
+
+        // 이력은 적재 Step에서 baseDate 그대로 반영 (초기 ACTIVE + 신규 DORMANT)
+        Map<String, Object> latestHistory = jdbcTemplate.queryForMap(
+                "SELECT status_id, changed_at FROM AccountStatusHistories WHERE login_id = 'targetUser' ORDER BY changed_at DESC LIMIT 1");
+        assertThat(latestHistory.get("status_id")).isEqualTo(2L);
+        assertThat(latestHistory.get("changed_at").toString()).contains(now.toLocalDate().toString());
+
+        // 남아 있던 묶음은 기록된 변경 시간으로 적재
+        Integer leftoverHistoryCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM AccountStatusHistories WHERE login_id = 'activeUser' AND changed_at = ?",
+                Integer.class, LocalDateTime.of(2025, 1, 2, 0, 0));
+        assertThat(leftoverHistoryCount).isEqualTo(1);
+
+        Integer outboxCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM HistoryOutbox", Integer.class);
+        assertThat(outboxCount).isZero();
+    }
+
+}
@@ -94,4 +94,26 @@ public class GradeChangeBatchTest {
         assertThat(history.get("reason").toString()).contains("150000원");
     }
 
+    @Test
+    @DisplayName("커서 Reader로 실행해도 페이징 Reader와 동일하게 등급이 변경되어야 함")
+    void test2() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .addString("readerType", "cursor")
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 10", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 20", Long.class)).isEqualTo(4L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 30", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM UserGradeHistories", Integer.class)).isEqualTo(2);
+    }
+
 }
@@ -0,0 +1,147 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "batch.grade.incremental.enabled=true")
+@Sql(scripts = {
+        "/sql/user/grade-schema.sql",
+        "/sql/user/grade-data.sql"
+})
+public class GradeChangeIncrementalBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("gradeChangeJob")
+    private Job gradeChangeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(gradeChangeJob);
+    }
+
+    @Test
+    @DisplayName("증분 모드로 등급 산정 배치 실행 시, 일자별 롤업 합계로 등급이 변경되고 재실행해도 중복 집계되지 않아야 함")
+    void test1() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        String baseDateStr = now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", baseDateStr)
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // 15만원 구매자가 ROYAL(2)인지 확인
+        Long royalUserGrade = jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 10", Long.class);
+        assertThat(royalUserGrade).isEqualTo(2L);
+
+        // 35만원 구매자가 PLATINUM(4)인지 확인
+        Long platinumUserGrade = jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 20", Long.class);
+        assertThat(platinumUserGrade).isEqualTo(4L);
+
+        // PENDING 상태 주문은 GENERAL(1)을 유지하는지 확인
+        Long pendingUserGrade = jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 30", Long.class);
+        assertThat(pendingUserGrade).isEqualTo(1L);
+
+        // 이력 저장 확인
+        Map<String, Object> history = jdbcTemplate.queryForMap(
+                "SELECT grade_id, reason FROM UserGradeHistories WHERE user_created_id = 10");
+        assertThat(history.get("grade_id")).isEqualTo(2L);
+        assertThat(history.get("reason").toString()).contains("150000원");
+
+        // COMPLETED 주문만 롤업에 적재되었는지 확인 (PENDING 주문 회원 제외)
+        Long rollupAmount = jdbcTemplate.queryForObject(
+                "SELECT SUM(amount) FROM UserDailySpends", Long.class);
+        assertThat(rollupAmount).isEqualTo(500000L);
+
+        // 같은 기준일로 다시 실행해도 롤업 금액이 중복 집계되지 않아야 함
+        JobParameters rerunParameters = new JobParametersBuilder()
+                .addString("baseDate", now.plusSeconds(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+        assertThat(jobLauncherTestUtils.launchJob(rerunParameters).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        Long rerunRollupAmount = jdbcTemplate.queryForObject(
+                "SELECT SUM(amount) FROM UserDailySpends", Long.class);
+        assertThat(rerunRollupAmount).isEqualTo(500000L);
+    }
+
+    @Test
+    @DisplayName("lookback 이전 주문의 늦은 완료는 증분 갱신에서 빠지고 full-rebuild-days가 지난 전체 재집계에서 반영되어야 함")
+    void test2() throws Exception {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);   // 워터마크 저장 시 반올림 방지
+
+        // PENDING 주문을 lookback(3일)보다 이전 주문으로
+        jdbcTemplate.update("UPDATE Orders SET order_date = ? WHERE order_id = 300", now.minusDays(10));
+        assertThat(jobLauncherTestUtils.launchJob(baseDateParameters(now)).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+
+        // 10일 전 주문이 뒤늦게 완료 처리됨 > 증분 갱신은 lookback 일자만 다시 집계하므로 반영 안 됨
+        jdbcTemplate.update("UPDATE OrderDetails SET order_detail_status = 'COMPLETED' WHERE order_id = 300");
+        assertThat(jobLauncherTestUtils.launchJob(baseDateParameters(now.plusSeconds(1))).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(amount) FROM UserDailySpends", Long.class))
+                .isEqualTo(500000L);
+
+        // 마지막 전체 재집계 후 full-rebuild-days(7일)가 지나면 전체 기간을 다시 집계
+        assertThat(jobLauncherTestUtils.launchJob(baseDateParameters(now.plusDays(7))).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(amount) FROM UserDailySpends", Long.class))
+                .isEqualTo(1000000L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 30", Long.class)).isEqualTo(4L);
+    }
+
+    private JobParameters baseDateParameters(LocalDateTime baseDate) {
+        return new JobParametersBuilder()
+                .addString("baseDate", baseDate.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.batch.user;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.grade.partition.enabled=true",
+        "batch.grade.partition.grid-size=3",
+        "batch.grade.partition.thread-count=2",
+        "batch.bulk-insert.mode=MULTI_VALUES"   // 선택 모드도 Job 단위로 확인
+})
+@Sql(scripts = {
+        "/sql/user/grade-schema.sql",
+        "/sql/user/grade-data.sql"
+})
+public class GradeChangePartitionBatchTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("gradeChangeJob")
+    private Job gradeChangeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(gradeChangeJob);
+    }
+
+    @Test
+    @DisplayName("파티션 모드로 등급 산정 배치 실행 시, 단일 스레드 실행과 같은 등급 변경과 이력이 저장되어야 함")
+    void test1() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        String baseDateStr = now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", baseDateStr)
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // Manager Step 1건 + Worker Step 파티션 3건이 실행되었는지 확인
+        assertThat(jobExecution.getStepExecutions().size()).isEqualTo(4);
+
+        // 15만원 구매자가 ROYAL(2)인지 확인
+        Long royalUserGrade = jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 10", Long.class);
+        assertThat(royalUserGrade).isEqualTo(2L);
+
+        // 35만원 구매자가 PLATINUM(4)인지 확인
+        Long platinumUserGrade = jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 20", Long.class);
+        assertThat(platinumUserGrade).isEqualTo(4L);
+
+        // PENDING 상태 주문은 GENERAL(1)을 유지하는지 확인
+        Long pendingUserGrade = jdbcTemplate.queryForObject(
+                "SELECT current_grade_id FROM Users WHERE user_created_id = 30", Long.class);
+        assertThat(pendingUserGrade).isEqualTo(1L);
+
+        // 이력 저장 확인
+        Map<String, Object> history = jdbcTemplate.queryForMap(
+                "SELECT grade_id, reason FROM UserGradeHistories WHERE user_created_id = 10");
+        assertThat(history.get("grade_id")).isEqualTo(2L);
+        assertThat(history.get("reason").toString()).contains("150000원");
+
+        // 등급이 바뀐 회원 2명에 대해서만 이력이 1건씩 저장되었는지 확인
+        Integer historyCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM UserGradeHistories", Integer.class);
+        assertThat(historyCount).isEqualTo(2);
+    }
+
+}
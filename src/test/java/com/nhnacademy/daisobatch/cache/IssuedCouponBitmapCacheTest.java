@@ -0,0 +1,149 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.repository.coupon.IssuedCouponJdbcRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class IssuedCouponBitmapCacheTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:issuedbitmap;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    private final IssuedCouponJdbcRepository repository = new IssuedCouponJdbcRepository(jdbcTemplate);
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_coupons");
+        jdbcTemplate.execute("CREATE TABLE user_coupons (user_coupon_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "coupon_policy_id BIGINT NOT NULL, user_created_id BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO user_coupons (coupon_policy_id, user_created_id) " +
+                "VALUES (4, 1), (4, 2), (5, 3)");
+    }
+
+    @Test
+    @DisplayName("갱신 시 새 발급분만 복사본에 추가하고 이전에 받은 비트맵은 그대로여야 함")
+    void test1() {
+        IssuedCouponBitmapCache cache = new IssuedCouponBitmapCache(repository, "");
+
+        UserIdBitmap first = cache.refresh(4L);
+        assertThat(first.cardinality()).isEqualTo(2L);
+        assertThat(first.contains(3L)).isFalse();   // 다른 정책
+
+        assertThat(cache.refresh(4L)).isSameAs(first);  // 새 발급분이 없으면 그대로
+
+        jdbcTemplate.update("INSERT INTO user_coupons (coupon_policy_id, user_created_id) VALUES (4, 70000)");
+        UserIdBitmap second = cache.refresh(4L);
+
+        assertThat(second.contains(70_000L)).isTrue();
+        assertThat(second.cardinality()).isEqualTo(3L);
+        assertThat(first.contains(70_000L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일로 저장한 비트맵을 새 캐시가 읽고 마지막 user_coupon_id 이후 발급분만 조회해야 함")
+    void test2() {
+        new IssuedCouponBitmapCache(repository, directory.toString()).refresh(4L);
+        assertThat(Files.exists(directory.resolve("issued-users-4.bin"))).isTrue();
+
+        // 저장 이후 새 발급분 추가
+        jdbcTemplate.update("INSERT INTO user_coupons (coupon_policy_id, user_created_id) VALUES (4, 9)");
+
+        List<Long> readAfter = new ArrayList<>();
+        UserIdBitmap restored = new IssuedCouponBitmapCache(recording(readAfter), directory.toString()).refresh(4L);
+
+        assertThat(readAfter).containsExactly(2L);  // 파일의 lastUserCouponId 이후만 조회
+        assertThat(restored.contains(1L)).isTrue();
+        assertThat(restored.contains(2L)).isTrue();
+        assertThat(restored.contains(9L)).isTrue();
+        assertThat(restored.cardinality()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("파일 저장 이후 발급 행이 삭제돼 회원 수가 다르면 파일을 버리고 전체 다시 조회해야 함")
+    void test3() {
+        new IssuedCouponBitmapCache(repository, directory.toString()).refresh(4L);
+
+        jdbcTemplate.update("DELETE FROM user_coupons WHERE user_created_id = 1");
+        jdbcTemplate.update("INSERT INTO user_coupons (coupon_policy_id, user_created_id) VALUES (4, 9)");
+
+        List<Long> readAfter = new ArrayList<>();
+        UserIdBitmap restored = new IssuedCouponBitmapCache(recording(readAfter), directory.toString()).refresh(4L);
+
+        assertThat(readAfter).containsExactly(0L);
+        assertThat(restored.contains(1L)).isFalse();
+        assertThat(restored.contains(2L)).isTrue();
+        assertThat(restored.contains(9L)).isTrue();
+        assertThat(restored.cardinality()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("파일의 lastUserCouponId가 DB보다 앞서면(DB 복구 등) 파일을 버리고 전체 다시 조회해야 함")
+    void test4() {
+        new IssuedCouponBitmapCache(repository, directory.toString()).refresh(4L);
+
+        // 이전 시점으로 복구된 DB: 정책 4의 발급분이 첫 행만 남음
+        jdbcTemplate.update("DELETE FROM user_coupons WHERE user_coupon_id > 1");
+
+        List<Long> readAfter = new ArrayList<>();
+        UserIdBitmap restored = new IssuedCouponBitmapCache(recording(readAfter), directory.toString()).refresh(4L);
+
+        assertThat(readAfter).containsExactly(0L);
+        assertThat(restored.contains(1L)).isTrue();
+        assertThat(restored.contains(2L)).isFalse();
+        assertThat(restored.cardinality()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("(user_created_id, coupon_policy_id) 두 컬럼 유니크 키가 있을 때만 발급 비트맵 전제를 만족해야 함")
+    void test5() {
+        assertThat(repository.hasUserPolicyUniqueKey()).isFalse();
+
+        // 일반 인덱스나 컬럼이 더 많은 유니크 키로는 회원당 정책 1건이 보장되지 않음
+        jdbcTemplate.execute("CREATE INDEX idx_user_coupons_user_policy ON user_coupons (user_created_id, coupon_policy_id)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_user_coupons_wide ON user_coupons " +
+                "(user_created_id, coupon_policy_id, user_coupon_id)");
+        assertThat(repository.hasUserPolicyUniqueKey()).isFalse();
+
+        jdbcTemplate.execute("ALTER TABLE user_coupons ADD CONSTRAINT uk_user_coupons_user_policy " +
+                "UNIQUE (user_created_id, coupon_policy_id)");
+        assertThat(repository.hasUserPolicyUniqueKey()).isTrue();
+    }
+
+    // 증분 조회 시작 위치(afterUserCouponId)를 기록하는 저장소
+    private IssuedCouponJdbcRepository recording(List<Long> readAfter) {
+        return new IssuedCouponJdbcRepository(jdbcTemplate) {
+            @Override
+            public long forEachIssuedUserIdSince(Long policyId, long afterUserCouponId, LongConsumer consumer) {
+                readAfter.add(afterUserCouponId);
+                return super.forEachIssuedUserIdSince(policyId, afterUserCouponId, consumer);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.repository.coupon.CouponPolicyJdbcRepository;
+import com.nhnacademy.daisobatch.type.user.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ReferenceDataCacheTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:referencedata;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    private final ReferenceDataCache cache = new ReferenceDataCache(
+            jdbcTemplate, new CouponPolicyJdbcRepository(jdbcTemplate), 10, 100_000, 200_000, 300_000);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS Statuses");
+        jdbcTemplate.execute("CREATE TABLE Statuses (status_id BIGINT PRIMARY KEY, status_name VARCHAR(10))");
+        jdbcTemplate.update("INSERT INTO Statuses VALUES (1, 'ACTIVE')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    // jobExecutionId Job의 Step 안에서 조회
+    private Long statusIdInJob(long jobExecutionId) {
+        StepSynchronizationManager.register(MetaDataInstanceFactory.createStepExecution(
+                MetaDataInstanceFactory.createJobExecution(jobExecutionId), "step", jobExecutionId));
+        try {
+            return cache.getStatusId(Status.ACTIVE);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("새 Job이 시작해도 실행 중인 Job의 스냅샷은 바뀌지 않고, 새 Job은 변경된 값을 읽어야 함")
+    void test1() {
+        cache.openJobSnapshot(1L);
+        assertThat(statusIdInJob(1L)).isEqualTo(1L);
+
+        jdbcTemplate.update("UPDATE Statuses SET status_id = 10 WHERE status_name = 'ACTIVE'");
+        cache.openJobSnapshot(2L);
+
+        assertThat(statusIdInJob(2L)).isEqualTo(10L);
+        assertThat(statusIdInJob(1L)).isEqualTo(1L);
+
+        // 종료된 Job은 TTL 공유 캐시로 돌아감
+        cache.closeJobSnapshot(1L);
+        assertThat(statusIdInJob(1L)).isEqualTo(10L);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserIdBitmapTest {
+
+    @Test
+    @DisplayName("배열 컨테이너가 4096개를 넘어 비트맵으로 바뀌어도 추가 / 포함 여부가 유지되어야 함")
+    void test1() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+
+        // 상위 비트 0: 짝수 5000개 (비트맵 전환) / 상위 비트 3: 3개 (배열 유지)
+        for (long id = 0; id < 10_000; id += 2) {
+            assertThat(bitmap.add(id)).isTrue();
+        }
+        bitmap.add((3L << 16) + 7);
+        bitmap.add((3L << 16) + 1);
+        bitmap.add(Integer.MAX_VALUE + 10L);
+
+        assertThat(bitmap.add(4_000L)).isFalse();   // 중복 추가
+        assertThat(bitmap.cardinality()).isEqualTo(5_003L);
+        assertThat(bitmap.contains(9_998L)).isTrue();
+        assertThat(bitmap.contains(9_999L)).isFalse();
+        assertThat(bitmap.contains((3L << 16) + 1)).isTrue();
+        assertThat(bitmap.contains((3L << 16) + 2)).isFalse();
+        assertThat(bitmap.contains(Integer.MAX_VALUE + 10L)).isTrue();
+        assertThat(bitmap.contains(1L << 40)).isFalse();
+        assertThat(bitmap.sizeInBytes()).isLessThan(5_000L * Long.BYTES);
+    }
+
+    @Test
+    @DisplayName("복사본에 추가해도 원본은 바뀌지 않아야 함")
+    void test2() {
+        UserIdBitmap original = new UserIdBitmap();
+        original.add(1L);
+
+        UserIdBitmap copy = original.copy();
+        copy.add(2L);
+        copy.add(1L << 20);
+
+        assertThat(original.contains(2L)).isFalse();
+        assertThat(original.contains(1L << 20)).isFalse();
+        assertThat(original.cardinality()).isEqualTo(1L);
+        assertThat(copy.cardinality()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 다시 읽으면 같은 집합이어야 함")
+    void test3() throws IOException {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        for (long id = 100_000; id < 110_000; id++) {
+            bitmap.add(id);
+        }
+        bitmap.add(5L);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bitmap.writeTo(new DataOutputStream(bytes));
+        UserIdBitmap restored = UserIdBitmap.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.cardinality()).isEqualTo(10_001L);
+        assertThat(restored.contains(5L)).isTrue();
+        assertThat(restored.contains(105_000L)).isTrue();
+        assertThat(restored.contains(110_000L)).isFalse();
+        assertThat(restored.add(110_000L)).isTrue();
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.nhnacademy.daisobatch.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.daisobatch.exception.JobLaunchLimitExceededException;
+import com.nhnacademy.daisobatch.launcher.AsyncJobLauncher;
+import net.javacrumbs.shedlock.core.LockProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.launch.max-concurrent-per-job=1",
+        "batch.coupon-expiry.range-size=2"
+})
+@Sql(scripts = {
+        "/sql/coupon/coupon-expiry-schema.sql",
+        "/sql/coupon/coupon-expiry-data.sql",
+        "/sql/shedlock-schema.sql"
+})
+class JobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private LockProvider lockProvider;
+
+    @Autowired
+    @Qualifier("couponExpiryJob")
+    private Job couponExpiryJob;
+
+    private JsonNode getExecution(long jobExecutionId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/batch/jobs/executions/{id}", jobExecutionId))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("비동기 실행은 jobExecutionId를 바로 반환하고, 상태 조회로 완료와 Step 진행 건수를 확인할 수 있어야 함")
+    void test1() throws Exception {
+        MvcResult result = mockMvc.perform(post("/batch/jobs/couponExpiryJob"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobName").value("couponExpiryJob"))
+                .andReturn();
+
+        long jobExecutionId = objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("jobExecutionId").asLong();
+        assertThat(result.getResponse().getHeader("Location")).isEqualTo("/batch/jobs/executions/" + jobExecutionId);
+
+        JsonNode execution = getExecution(jobExecutionId);
+        for (int i = 0; i < 100 && !"COMPLETED".equals(execution.get("status").asText()); i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+            execution = getExecution(jobExecutionId);
+        }
+
+        assertThat(execution.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(execution.get("steps").get(0).get("stepName").asText()).isEqualTo("couponExpiryStep");
+        assertThat(execution.get("steps").get(0).get("writeCount").asLong()).isEqualTo(4);
+
+        // Job이 끝나면 ShedLock 락 해제
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM shedlock WHERE name = 'couponExpiryJob' AND lock_until > CURRENT_TIMESTAMP",
+                Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 Job 실행과 없는 실행 조회는 404를 반환해야 함")
+    void test2() throws Exception {
+        mockMvc.perform(post("/batch/jobs/unknownJob"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/batch/jobs/executions/{id}", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("같은 Job이 동시 실행 제한만큼 실행 중이면 429를 반환해야 함")
+    void test3() throws Exception {
+        // 스케줄러 등 다른 곳에서 실행 중인 JobExecution
+        JobExecution running = jobRepository.createJobExecution("couponExpiryJob",
+                new JobParametersBuilder().addLong("runDate", System.currentTimeMillis()).toJobParameters());
+
+        try {
+            mockMvc.perform(post("/batch/jobs/couponExpiryJob"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().doesNotExist("Location"));
+
+        } finally {
+            running.setStatus(BatchStatus.COMPLETED);
+            running.setEndTime(LocalDateTime.now());
+            jobRepository.update(running);
+        }
+    }
+
+    @Test
+    @DisplayName("스케줄러가 같은 이름의 ShedLock 락을 잡고 있으면 429를 반환해야 함")
+    void test4() throws Exception {
+        jdbcTemplate.update("INSERT INTO shedlock (name, lock_until, locked_at, locked_by) " +
+                "VALUES ('couponExpiryJob', DATEADD('MINUTE', 10, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, 'scheduler')");
+
+        mockMvc.perform(post("/batch/jobs/couponExpiryJob"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().doesNotExist("Location"));
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한이 2면 0번 슬롯 락이 잡혀 있어도 1번 슬롯 락으로 실행하고, 두 슬롯이 모두 잡혀 있으면 거부해야 함")
+    void test5() throws Exception {
+        AsyncJobLauncher launcher = new AsyncJobLauncher(List.of(couponExpiryJob), jobRepository, jobExplorer,
+                lockProvider, 2, 30);
+        jdbcTemplate.update("INSERT INTO shedlock (name, lock_until, locked_at, locked_by) " +
+                "VALUES ('couponExpiryJob', DATEADD('MINUTE', 10, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, 'scheduler')");
+
+        JobExecution execution = launcher.launch("couponExpiryJob", Map.of());
+        for (int i = 0; i < 100 && jobExplorer.getJobExecution(execution.getId()).isRunning(); i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+
+        assertThat(jobExplorer.getJobExecution(execution.getId()).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        // 1번 슬롯 락으로 실행하고 Job이 끝나면 해제
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM shedlock WHERE name = 'couponExpiryJob#1' AND lock_until <= CURRENT_TIMESTAMP",
+                Integer.class)).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE shedlock SET lock_until = DATEADD('MINUTE', 10, CURRENT_TIMESTAMP) " +
+                "WHERE name = 'couponExpiryJob#1'");
+
+        assertThatThrownBy(() -> launcher.launch("couponExpiryJob", Map.of()))
+                .isInstanceOf(JobLaunchLimitExceededException.class);
+    }
+
+}
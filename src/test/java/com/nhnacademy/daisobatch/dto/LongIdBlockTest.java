@@ -0,0 +1,37 @@
+package com.nhnacademy.daisobatch.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongIdBlockTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("회원 객체 배열에서 userCreatedId만 읽고 나머지 필드는 건너뛰어야 함")
+    void test1() throws Exception {
+        String json = "[{\"userCreatedId\": 3, \"name\": \"a\", \"tags\": [1, {\"x\": 2}]}," +
+                " {\"birth\": null, \"userCreatedId\": 7}]";
+
+        LongIdBlock block = objectMapper.readValue(json, LongIdBlock.class);
+
+        assertThat(block.toArray()).containsExactly(3, 7);
+        assertThat(block.last()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("숫자 배열 / 빈 배열도 읽고, ID가 없는 객체는 실패해야 함")
+    void test2() throws Exception {
+        assertThat(objectMapper.readValue("[1, 2, 3]", LongIdBlock.class).toArray()).containsExactly(1, 2, 3);
+        assertThat(objectMapper.readValue("[]", LongIdBlock.class).isEmpty()).isTrue();
+
+        assertThatThrownBy(() -> objectMapper.readValue("[{\"name\": \"a\"}]", LongIdBlock.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+class BatchMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchMetricsListener listener;
+
+    private StepExecution stepExecution;
+    private StepContext stepContext;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new BatchMetricsListener(meterRegistry);
+
+        stepExecution = MetaDataInstanceFactory.createStepExecution(
+                MetaDataInstanceFactory.createJobExecution("testJob", 1L, 1L), "testStep", 1L);
+        stepContext = new StepContext(stepExecution);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag(BatchMetrics.TAG_JOB, "testJob").tag(BatchMetrics.TAG_STEP, "testStep")
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("Chunk마다 늘어난 읽기/쓰기/스킵 건수만 Counter에 더해야 함")
+    void test1() {
+        ChunkContext first = new ChunkContext(stepContext);
+        listener.beforeChunk(first);
+        stepExecution.setReadCount(3);
+        stepExecution.setWriteCount(2);
+        stepExecution.setProcessSkipCount(1);
+        listener.afterChunk(first);
+
+        ChunkContext second = new ChunkContext(stepContext);
+        listener.beforeChunk(second);
+        stepExecution.setReadCount(5);
+        stepExecution.setWriteCount(4);
+        listener.afterChunk(second);
+
+        assertThat(count(BatchMetrics.ITEMS_READ)).isEqualTo(5);
+        assertThat(count(BatchMetrics.ITEMS_WRITTEN)).isEqualTo(4);
+        assertThat(count(BatchMetrics.ITEMS_SKIPPED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋 / 롤백된 Chunk 시간이 result 태그별로 기록되어야 함")
+    void test2() {
+        ChunkContext committed = new ChunkContext(stepContext);
+        listener.beforeChunk(committed);
+        listener.afterChunk(committed);
+
+        ChunkContext rolledBack = new ChunkContext(stepContext);
+        listener.beforeChunk(rolledBack);
+        listener.afterChunkError(rolledBack);
+
+        assertThat(meterRegistry.get(BatchMetrics.CHUNK_DURATION).tag("result", "committed").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(BatchMetrics.CHUNK_DURATION).tag("result", "rolled_back").timer().count())
+                .isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.dto.user.DormantAccountDto;
+import com.nhnacademy.daisobatch.mapper.user.DormantAccountRowMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ColumnIndexRowMapperTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:columnindex;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS Accounts");
+        jdbcTemplate.execute("CREATE TABLE Accounts (login_id VARCHAR(50), last_login_at TIMESTAMP, " +
+                "current_status_id BIGINT)");
+        jdbcTemplate.update("INSERT INTO Accounts VALUES ('user1', TIMESTAMP '2025-01-01 00:00:00', 1), " +
+                "('user2', TIMESTAMP '2025-02-01 12:30:00', 2)");
+    }
+
+    @Test
+    @DisplayName("컬럼 인덱스로 읽은 값이 이름 조회 결과와 동일 (LocalDateTime 직접 조회)")
+    void test1() {
+        List<DormantAccountDto> result = jdbcTemplate.query(
+                "SELECT login_id, last_login_at, current_status_id FROM Accounts ORDER BY login_id",
+                new DormantAccountRowMapper());
+
+        assertThat(result).containsExactly(
+                new DormantAccountDto("user1", LocalDateTime.of(2025, 1, 1, 0, 0), 1L),
+                new DormantAccountDto("user2", LocalDateTime.of(2025, 2, 1, 12, 30), 2L));
+    }
+
+    @Test
+    @DisplayName("같은 매퍼로 컬럼 순서가 다른 ResultSet을 읽으면 인덱스를 다시 결정")
+    void test2() {
+        DormantAccountRowMapper rowMapper = new DormantAccountRowMapper();
+
+        List<DormantAccountDto> first = jdbcTemplate.query(
+                "SELECT login_id, last_login_at, current_status_id FROM Accounts WHERE login_id = 'user1'",
+                rowMapper);
+        List<DormantAccountDto> second = jdbcTemplate.query(
+                "SELECT current_status_id, login_id, last_login_at FROM Accounts WHERE login_id = 'user2'",
+                rowMapper);
+
+        assertThat(first).containsExactly(
+                new DormantAccountDto("user1", LocalDateTime.of(2025, 1, 1, 0, 0), 1L));
+        assertThat(second).containsExactly(
+                new DormantAccountDto("user2", LocalDateTime.of(2025, 2, 1, 12, 30), 2L));
+    }
+
+}
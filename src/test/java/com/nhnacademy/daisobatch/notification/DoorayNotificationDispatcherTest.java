@@ -0,0 +1,181 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.listener.JobFailureNotificationListener;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class DoorayNotificationDispatcherTest {
+
+    private DoorayHookStub hook;
+    private DoorayNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        hook = new DoorayHookStub();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+        hook.close();
+    }
+
+    private void startDispatcher(int queueCapacity, Duration coalesceWindow, int circuitFailureThreshold,
+                                 Duration circuitOpen) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(1));
+        requestFactory.setReadTimeout(Duration.ofSeconds(5));
+
+        dispatcher = new DoorayNotificationDispatcher(new RestTemplate(requestFactory), hook.url(), queueCapacity,
+                coalesceWindow, Duration.ofMillis(50), circuitFailureThreshold, circuitOpen);
+        dispatcher.afterPropertiesSet();
+    }
+
+    private static JobFailureNotification failure(String jobName, long id) {
+        return new JobFailureNotification(jobName, id, "boom", LocalDateTime.now());
+    }
+
+    private static JobExecution failedExecution(String jobName) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, jobName), 10L, new JobParameters());
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.setExitStatus(ExitStatus.FAILED.addExitDescription("java.lang.IllegalStateException: boom"));
+        return jobExecution;
+    }
+
+    @Test
+    @DisplayName("Webhook 응답이 느려도 afterJob은 기다리지 않고 반환, 알림은 백그라운드에서 전송")
+    void test1() throws Exception {
+        hook.setDelay(Duration.ofSeconds(2));
+        startDispatcher(10, Duration.ZERO, 5, Duration.ofSeconds(60));
+        JobFailureNotificationListener listener = new JobFailureNotificationListener(dispatcher);
+
+        long start = System.nanoTime();
+        listener.afterJob(failedExecution("gradeJob"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(500);
+
+        String body = hook.awaitRequest(Duration.ofSeconds(5));
+        assertThat(body).contains("Job Name: gradeJob").contains("IllegalStateException: boom");
+    }
+
+    @Test
+    @DisplayName("묶음 창 안에 들어온 실패는 요청 1번으로 전송")
+    void test2() throws Exception {
+        startDispatcher(10, Duration.ofMillis(500), 5, Duration.ofSeconds(60));
+
+        dispatcher.submit(failure("gradeJob", 1L));
+        dispatcher.submit(failure("dormantJob", 2L));
+        dispatcher.submit(failure("birthdayCouponJob", 3L));
+
+        String body = hook.awaitRequest(Duration.ofSeconds(5));
+        assertThat(body).contains("(3건)").contains("gradeJob").contains("dormantJob").contains("birthdayCouponJob");
+
+        assertThat(hook.awaitRequest(Duration.ofMillis(500))).isNull();
+        assertThat(hook.bodies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("5xx 응답이면 backoff 후 재시도, 재시도 중 들어온 실패는 같은 메시지에 합침")
+    void test3() throws Exception {
+        hook.respondWith(500, 503);
+        startDispatcher(10, Duration.ZERO, 5, Duration.ofSeconds(60));
+
+        dispatcher.submit(failure("gradeJob", 1L));
+        assertThat(hook.awaitRequest(Duration.ofSeconds(5))).contains("gradeJob");
+
+        dispatcher.submit(failure("dormantJob", 2L));
+        assertThat(hook.awaitRequest(Duration.ofSeconds(5))).isNotNull();
+
+        String delivered = hook.awaitRequest(Duration.ofSeconds(5));
+        assertThat(delivered).contains("(2건)").contains("gradeJob").contains("dormantJob");
+        assertThat(hook.bodies()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 circuit open 동안 요청하지 않고, 이후 1회 시도로 복구")
+    void test4() throws Exception {
+        hook.setDefaultStatus(500);
+        startDispatcher(10, Duration.ZERO, 2, Duration.ofSeconds(1));
+
+        dispatcher.submit(failure("gradeJob", 1L));
+        assertThat(hook.awaitRequest(Duration.ofSeconds(5))).isNotNull();
+        assertThat(hook.awaitRequest(Duration.ofSeconds(5))).isNotNull();
+
+        // circuit open (1초) 동안은 요청 없음
+        assertThat(hook.awaitRequest(Duration.ofMillis(700))).isNull();
+
+        hook.setDefaultStatus(200);
+        assertThat(hook.awaitRequest(Duration.ofSeconds(5))).contains("gradeJob");
+        assertThat(hook.bodies()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 블로킹 없이 버리고 false 반환")
+    void test5() throws Exception {
+        hook.setDelay(Duration.ofSeconds(2));
+        startDispatcher(1, Duration.ZERO, 5, Duration.ofSeconds(60));
+
+        dispatcher.submit(failure("job0", 0L));
+        hook.awaitRequest(Duration.ofSeconds(5));     // 발송 스레드가 느린 응답을 기다리는 중
+
+        assertThat(dispatcher.submit(failure("job1", 1L))).isTrue();
+        assertThat(dispatcher.submit(failure("job2", 2L))).isFalse();
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("RestClientException이 아닌 예외가 나도 해당 알림만 버리고 전송 스레드는 다음 알림을 계속 처리")
+    void test6() throws Exception {
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        RestTemplate restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("unexpected");
+            }
+            return execution.execute(request, body);
+        });
+
+        dispatcher = new DoorayNotificationDispatcher(restTemplate, hook.url(), 10,
+                Duration.ZERO, Duration.ofMillis(50), 5, Duration.ofSeconds(60));
+        dispatcher.afterPropertiesSet();
+
+        dispatcher.submit(failure("job0", 0L));
+        for (int i = 0; i < 100 && dispatcher.getDroppedCount() == 0; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+
+        dispatcher.submit(failure("job1", 1L));
+        assertThat(hook.awaitRequest(Duration.ofSeconds(5))).contains("job1").doesNotContain("job0");
+    }
+
+}
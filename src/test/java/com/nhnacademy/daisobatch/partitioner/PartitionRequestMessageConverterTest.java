@@ -0,0 +1,55 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.publisher.BirthdayCouponEventMessageConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+class PartitionRequestMessageConverterTest {
+
+    // RabbitConfig와 같은 구성 (파티션 요청은 JSON Converter로 위임)
+    private final MessageConverter converter =
+            new BirthdayCouponEventMessageConverter(new Jackson2JsonMessageConverter(), true, true);
+
+    @Test
+    @DisplayName("파티션 요청은 JSON으로 직렬화되고 같은 요청으로 복원되어야 함")
+    void test1() {
+        PartitionRequest request = new PartitionRequest(12L, 345L, "dormantAccountWorkerStep");
+
+        Message message = converter.toMessage(request, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(new String(message.getBody()))
+                .contains("\"jobExecutionId\":12", "\"stepExecutionId\":345", "\"stepName\":\"dormantAccountWorkerStep\"");
+        assertThat(converter.fromMessage(message)).isEqualTo(request);
+    }
+
+    @Test
+    @DisplayName("리스너처럼 파라미터 타입으로 추론해 역직렬화해도 같은 요청으로 복원되어야 함")
+    void test2() {
+        PartitionRequest request = new PartitionRequest(1L, Long.MAX_VALUE, "gradeChangeWorkerStep");
+
+        Message message = converter.toMessage(request, new MessageProperties());
+        message.getMessageProperties().setInferredArgumentType(PartitionRequest.class);
+
+        assertThat(converter.fromMessage(message)).isEqualTo(request);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PartitionWorkerTest {
+
+    private static final String WORKER_STEP = "partitionWorkerTestStep";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private PartitionWorker partitionWorker;
+    private StepExecution partition;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean(WORKER_STEP, new StepBuilder(WORKER_STEP, jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    executions.incrementAndGet();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build());
+        partitionWorker = new PartitionWorker(jobExplorer, jobRepository, beanFactory);
+
+        // Manager가 분할해 저장한 것과 같은 STARTING 파티션
+        JobExecution jobExecution = jobRepository.createJobExecution("partitionWorkerTestJob",
+                new JobParametersBuilder().addLong("run", System.nanoTime()).toJobParameters());
+        partition = jobExecution.createStepExecution(WORKER_STEP + ":partition0");
+        jobRepository.add(partition);
+    }
+
+    @Test
+    @DisplayName("같은 파티션 요청을 여러 Worker가 동시에 받아도 한 번만 실행되어야 함")
+    void test1() throws Exception {
+        PartitionRequest request = new PartitionRequest(partition.getJobExecutionId(), partition.getId(), WORKER_STEP);
+        int workers = 4;
+        CyclicBarrier barrier = new CyclicBarrier(workers);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        try {
+            List<Future<StepExecution>> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return partitionWorker.handle(request);
+                }));
+            }
+            for (Future<StepExecution> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId()).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+
+        // 재전달된 요청도 건너뜀
+        partitionWorker.handle(request);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선점 후 갱신이 없는 파티션은 Manager가 FAILED 처리하고, 늦게 커밋한 Worker는 version 불일치로 실패해야 함")
+    void test2() throws Exception {
+        // Worker가 선점만 하고 죽은 상태
+        partition.setStatus(BatchStatus.STARTED);
+        jobRepository.update(partition);
+        Thread.sleep(20);
+
+        RemotePartitionHandler handler = new RemotePartitionHandler(jobExplorer, jobRepository,
+                request -> { }, WORKER_STEP, 1, Duration.ofMillis(10), Duration.ofMinutes(1), Duration.ofMillis(10));
+
+        Collection<StepExecution> finished = handler.handle(new StepExecutionSplitter() {
+            @Override
+            public String getStepName() {
+                return WORKER_STEP;
+            }
+
+            @Override
+            public Set<StepExecution> split(StepExecution stepExecution, int gridSize) {
+                return Set.of(partition);
+            }
+        }, partition);
+
+        assertThat(finished).singleElement()
+                .satisfies(stepExecution -> assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.FAILED));
+        assertThat(jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId()).getStatus())
+                .isEqualTo(BatchStatus.FAILED);
+
+        // 살아난 Worker가 예전 version으로 갱신하면 거부됨
+        assertThatThrownBy(() -> jobRepository.update(partition))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+class AdaptiveChunkSizePolicyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+    }
+
+    // items건을 읽는 Chunk 하나를 elapsedMillis 동안 실행
+    private void runChunk(AdaptiveChunkSizePolicy policy, int items, long elapsedMillis) throws Exception {
+        ChunkContext context = new ChunkContext(new StepContext(stepExecution));
+        policy.beforeChunk(context);
+        TimeUnit.MILLISECONDS.sleep(elapsedMillis);
+        stepExecution.setReadCount(stepExecution.getReadCount() + items);
+        policy.afterChunk(context);
+    }
+
+    private double adjustments(String reason) {
+        return meterRegistry.find(BatchMetrics.CHUNK_SIZE_ADJUSTMENTS).tag("reason", reason).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    @Test
+    @DisplayName("목표 시간보다 빨리 커밋되면 한 번에 최대 1.5배, max까지만 커져야 함")
+    void test1() throws Exception {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(meterRegistry, 100, 10, 300, Duration.ofSeconds(2));
+
+        runChunk(policy, 100, 0);
+        assertThat(policy.getChunkSize()).isEqualTo(150);
+
+        runChunk(policy, 150, 0);
+        runChunk(policy, 225, 0);
+        assertThat(policy.getChunkSize()).isEqualTo(300);
+        assertThat(adjustments("under_target")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("목표 시간보다 오래 걸리면 한 번에 최대 절반, min까지만 작아져야 함")
+    void test2() throws Exception {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(meterRegistry, 100, 40, 300, Duration.ofMillis(10));
+
+        runChunk(policy, 100, 200);
+        assertThat(policy.getChunkSize()).isEqualTo(50);
+
+        runChunk(policy, 50, 200);
+        assertThat(policy.getChunkSize()).isEqualTo(40);
+        assertThat(adjustments("over_target")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("롤백되면 원인과 관계없이 절반으로 줄이고 사유를 구분해 기록해야 함")
+    void test3() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(meterRegistry, 400, 10, 1000, Duration.ofSeconds(1));
+
+        ChunkContext context = new ChunkContext(new StepContext(stepExecution));
+        policy.beforeChunk(context);
+        context.setAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY, new CannotAcquireLockException("lock wait"));
+        policy.afterChunkError(context);
+
+        assertThat(policy.getChunkSize()).isEqualTo(200);
+        assertThat(adjustments("lock_wait")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외 원인을 락 대기 / 일시적 오류 / 그 외로 분류해야 함")
+    void test4() {
+        SQLException lockTimeout = new SQLException("Lock wait timeout exceeded", "HY000", 1205);
+
+        assertThat(AdaptiveChunkSizePolicy.failureReason(new CannotAcquireLockException("deadlock")))
+                .isEqualTo("lock_wait");
+        assertThat(AdaptiveChunkSizePolicy.failureReason(new UncategorizedSQLException("update", "sql", lockTimeout)))
+                .isEqualTo("lock_wait");
+        assertThat(AdaptiveChunkSizePolicy.failureReason(new TransientDataAccessResourceException("connection")))
+                .isEqualTo("transient");
+        assertThat(AdaptiveChunkSizePolicy.failureReason(new IllegalStateException("bug")))
+                .isEqualTo("failure");
+    }
+
+    @Test
+    @DisplayName("min = max면 크기가 바뀌지 않고 그 크기에서 Chunk가 끝나야 함")
+    void test5() throws Exception {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(meterRegistry, 3, 3, 3, Duration.ofMillis(1));
+        runChunk(policy, 3, 20);
+
+        RepeatContext context = policy.start(null);
+        policy.update(context);
+        policy.update(context);
+        assertThat(policy.isComplete(context)).isFalse();
+
+        policy.update(context);
+        assertThat(policy.isComplete(context)).isTrue();
+        assertThat(policy.getChunkSize()).isEqualTo(3);
+        assertThat(meterRegistry.find(BatchMetrics.CHUNK_SIZE).summary().count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BirthdayIssueWindowTest {
+
+    @Test
+    @DisplayName("연말을 넘는 구간은 두 범위의 OR 조건으로 만들어야 함")
+    void test1() {
+        BirthdayIssueWindow window = BirthdayIssueWindow.of(LocalDate.of(2025, 12, 29), 7);
+
+        assertThat(window.fromMonthDay()).isEqualTo(1229);
+        assertThat(window.toMonthDay()).isEqualTo(104);
+        assertThat(window.lastDate()).isEqualTo(LocalDate.of(2026, 1, 4));
+        assertThat(window.condition("d", "?", "?")).isEqualTo("(d >= ? OR d <= ?)");
+        assertThat(window.contains(MonthDay.of(12, 31))).isTrue();
+        assertThat(window.contains(MonthDay.of(1, 5))).isFalse();
+
+        assertThat(BirthdayIssueWindow.of(LocalDate.of(2025, 5, 28), 7).condition("d", ":from", ":to"))
+                .isEqualTo("d BETWEEN :from AND :to");
+    }
+
+    @Test
+    @DisplayName("평년에 하루 단위로 매일 실행해도 2월 29일을 포함한 모든 생일이 한 번 이상 구간에 들어가야 함")
+    void test2() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+
+        for (int month = 1; month <= 12; month++) {
+            for (int day = 1; day <= MonthDay.of(month, 1).getMonth().maxLength(); day++) {
+                MonthDay birthday = MonthDay.of(month, day);
+
+                boolean covered = false;
+                for (LocalDate date = start; date.getYear() == 2025; date = date.plusDays(1)) {
+                    covered |= BirthdayIssueWindow.of(date, 1).contains(birthday);
+                }
+                assertThat(covered).as(birthday.toString()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("구간 일수가 1보다 작으면 예외")
+    void test3() {
+        assertThatThrownBy(() -> BirthdayIssueWindow.of(LocalDate.of(2025, 1, 1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.client.BirthdayCouponBulkEvent;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+class BirthdayCouponEventMessageConverterTest {
+
+    private static BirthdayCouponEventMessageConverter converter(boolean compact, boolean compress) {
+        return new BirthdayCouponEventMessageConverter(new Jackson2JsonMessageConverter(), compact, compress);
+    }
+
+    private static long[] ids(int count) {
+        long[] ids = new long[count];
+        long id = 1_000_000L;
+        for (int i = 0; i < count; i++) {
+            id += 1 + (i % 7);
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("compact 형식은 ID를 정렬해 차분 인코딩하고 같은 이벤트로 복원되어야 함")
+    void test1() {
+        BirthdayCouponBulkEvent event = new BirthdayCouponBulkEvent(
+                new long[]{30L, 10L, Long.MAX_VALUE, 20L, -5L}, "birthday-2025-05-01-10");
+
+        Message message = converter(true, false).toMessage(event, new MessageProperties());
+        BirthdayCouponBulkEvent decoded = (BirthdayCouponBulkEvent) converter(false, false).fromMessage(message);
+
+        assertThat(message.getMessageProperties().getContentType())
+                .isEqualTo(BirthdayCouponEventMessageConverter.CONTENT_TYPE);
+        assertThat(decoded.userIds()).containsExactly(-5L, 10L, 20L, 30L, Long.MAX_VALUE);
+        assertThat(decoded.batchId()).isEqualTo("birthday-2025-05-01-10");
+    }
+
+    @Test
+    @DisplayName("압축 시 content-encoding이 deflate이고 JSON보다 작아야 하며 그대로 복원되어야 함")
+    void test2() {
+        BirthdayCouponBulkEvent event = new BirthdayCouponBulkEvent(ids(1000), "birthday-2025-05-01-1000001");
+
+        Message json = converter(false, false).toMessage(event, new MessageProperties());
+        Message compact = converter(true, false).toMessage(event, new MessageProperties());
+        Message compressed = converter(true, true).toMessage(event, new MessageProperties());
+
+        assertThat(compressed.getMessageProperties().getContentEncoding())
+                .isEqualTo(BirthdayCouponEventMessageConverter.CONTENT_ENCODING_DEFLATE);
+        assertThat(compact.getBody().length).isLessThan(json.getBody().length / 4);
+        assertThat(compressed.getBody().length).isLessThan(compact.getBody().length);
+
+        BirthdayCouponBulkEvent decoded = (BirthdayCouponBulkEvent) converter(false, false).fromMessage(compressed);
+        assertThat(decoded.userIds()).containsExactly(event.userIds());
+        assertThat(decoded).isEqualTo(event).hasSameHashCodeAs(event);  // 배열 내용 기준 비교
+    }
+
+    @Test
+    @DisplayName("다른 메시지와 JSON content-type 메시지는 JSON Converter로 처리해야 함")
+    void test3() {
+        Message other = converter(true, true).toMessage(Map.of("key", "value"), new MessageProperties());
+        Message json = converter(false, false).toMessage(
+                new BirthdayCouponBulkEvent(new long[]{1L, 2L}, "batch"), new MessageProperties());
+
+        assertThat(other.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(new String(json.getBody())).contains("\"userIds\":[1,2]");
+        assertThat(((BirthdayCouponBulkEvent) converter(true, false).fromMessage(json)).userIds())
+                .containsExactly(1L, 2L);
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.daisobatch.exception.RabbitPublishFailedException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+class PipelinedRabbitPublisherTest {
+
+    private RabbitTemplate rabbitTemplate;
+
+    private final List<CorrelationData> sent = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+    }
+
+    private void confirmWith(Function<CorrelationData, Boolean> ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            sent.add(correlationData);
+            Boolean result = ack.apply(correlationData);
+            if (result != null) {
+                correlationData.getFuture().complete(new CorrelationData.Confirm(result, result ? null : "nack"));
+            }
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private PipelinedRabbitPublisher publisher(int maxInFlight, Duration timeout, int maxAttempts) {
+        return new PipelinedRabbitPublisher(rabbitTemplate, "exchange", "routing", maxInFlight, timeout, maxAttempts);
+    }
+
+    @Test
+    @DisplayName("모든 메시지가 ACK되면 awaitAll()이 정상 반환되어야 함")
+    void test1() {
+        confirmWith(correlationData -> true);
+        PipelinedRabbitPublisher publisher = publisher(2, Duration.ofSeconds(5), 3);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish("batch-" + i, List.of(i));
+        }
+        publisher.awaitAll();
+
+        verify(rabbitTemplate, times(5)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    @DisplayName("NACK된 batchId만 재발행하고 재발행이 ACK되면 성공해야 함")
+    void test2() {
+        AtomicInteger attempts = new AtomicInteger();
+        confirmWith(correlationData ->
+                !(correlationData.getId().startsWith("batch-1#") && attempts.incrementAndGet() == 1));
+        PipelinedRabbitPublisher publisher = publisher(4, Duration.ofSeconds(5), 3);
+
+        publisher.publish("batch-0", List.of(0));
+        publisher.publish("batch-1", List.of(1));
+        publisher.awaitAll();
+
+        assertThat(sent).extracting(CorrelationData::getId).containsExactly("batch-0#1", "batch-1#1", "batch-1#2");
+    }
+
+    @Test
+    @DisplayName("재발행 횟수를 넘겨 NACK되면 예외가 발생해야 함")
+    void test3() {
+        confirmWith(correlationData -> false);
+        PipelinedRabbitPublisher publisher = publisher(4, Duration.ofSeconds(5), 3);
+
+        publisher.publish("batch-0", List.of(0));
+
+        assertThatThrownBy(publisher::awaitAll)
+                .isInstanceOf(RabbitPublishFailedException.class)
+                .hasMessageContaining("batch-0");
+        assertThat(sent).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Confirm이 오지 않으면 타임아웃 후 재발행하고 최종 실패해야 함")
+    void test4() {
+        confirmWith(correlationData -> null);
+        PipelinedRabbitPublisher publisher = publisher(4, Duration.ofMillis(200), 2);
+
+        publisher.publish("batch-0", List.of(0));
+
+        assertThatThrownBy(publisher::awaitAll).isInstanceOf(RabbitPublishFailedException.class);
+        assertThat(sent).extracting(CorrelationData::getId).containsExactly("batch-0#1", "batch-0#2");
+    }
+
+    @Test
+    @DisplayName("대기 중인 Confirm이 maxInFlight에 도달하면 자리가 날 때까지 발행이 블로킹되어야 함")
+    void test5() throws Exception {
+        confirmWith(correlationData -> null);
+        PipelinedRabbitPublisher publisher = publisher(2, Duration.ofSeconds(30), 3);
+
+        publisher.publish("batch-0", List.of(0));
+        publisher.publish("batch-1", List.of(1));
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> publisher.publish("batch-2", List.of(2)));
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(third).isNotDone();
+
+        sent.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+        third.get(2, TimeUnit.SECONDS);
+
+        sent.get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+        sent.get(2).getFuture().complete(new CorrelationData.Confirm(true, null));
+        publisher.awaitAll();
+    }
+
+    @Test
+    @DisplayName("Confirm을 받으면 발행부터 수신까지 시간이 confirmTimer에 기록되어야 함")
+    void test6() {
+        confirmWith(correlationData -> correlationData.getId().startsWith("batch-0#"));
+        Timer confirmTimer = Timer.builder("confirm").register(new SimpleMeterRegistry());
+        PipelinedRabbitPublisher publisher = new PipelinedRabbitPublisher(rabbitTemplate, "exchange", "routing",
+                4, Duration.ofSeconds(5), 1, confirmTimer);
+
+        publisher.publish("batch-0", List.of(0));
+        publisher.publish("batch-1", List.of(1));
+
+        assertThatThrownBy(publisher::awaitAll).isInstanceOf(RabbitPublishFailedException.class);
+        assertThat(confirmTimer.count()).isEqualTo(2);     // ACK / NACK 모두 기록
+    }
+
+    @Test
+    @DisplayName("ACK 확정 순번은 가장 앞선 미확정 발행 순번에서 멈춰 있어야 함")
+    void test7() {
+        confirmWith(correlationData -> null);
+        PipelinedRabbitPublisher publisher = publisher(4, Duration.ofSeconds(30), 3);
+
+        publisher.publish("batch-0", List.of(0));
+        publisher.publish("batch-1", List.of(1));
+        publisher.publish("batch-2", List.of(2));
+
+        sent.get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertThat(publisher.publishedSequence()).isEqualTo(3);
+        assertThat(publisher.confirmedSequence()).isZero();
+
+        sent.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertThat(publisher.confirmedSequence()).isEqualTo(2);
+
+        sent.get(2).getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertThat(publisher.confirmedSequence()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class JdbcLongIdBlockReaderTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:longidreader;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS IdRows");
+        jdbcTemplate.execute("CREATE TABLE IdRows (id BIGINT PRIMARY KEY, grp INT)");
+        for (long id = 1; id <= 7; id++) {
+            jdbcTemplate.update("INSERT INTO IdRows (id, grp) VALUES (?, ?)", id * 10, (int) (id % 2));
+        }
+    }
+
+    private JdbcLongIdBlockReader reader(int pageSize) {
+        return JdbcLongIdBlockReader.builder()
+                .dataSource(dataSource)
+                .name("idReader")
+                .sql("SELECT id FROM IdRows WHERE grp = ? AND id > ? ORDER BY id LIMIT ?")
+                .parameters(List.of(1))
+                .pageSize(pageSize)
+                .build();
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 ID를 pageSize 단위 블록으로 순서대로 반환하고 마지막에 null을 반환해야 함")
+    void test1() {
+        JdbcLongIdBlockReader reader = reader(3);
+        reader.open(new ExecutionContext());
+
+        LongIdBlock first = reader.read();
+        LongIdBlock second = reader.read();
+
+        assertThat(first.toArray()).containsExactly(10, 30, 50);
+        assertThat(second.toArray()).containsExactly(70);
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    @DisplayName("update()로 저장한 마지막 ID 다음부터 재시작해야 함")
+    void test2() {
+        ExecutionContext executionContext = new ExecutionContext();
+
+        JdbcLongIdBlockReader reader = reader(2);
+        reader.open(executionContext);
+        reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        JdbcLongIdBlockReader restarted = reader(2);
+        restarted.open(executionContext);
+
+        assertThat(restarted.read().toArray()).containsExactly(50, 70);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.support.ListItemReader;
+
+class KeysetCheckpointItemReaderTest {
+
+    private static final List<Long> IDS = List.of(3L, 5L, 8L, 13L, 21L);
+
+    // 키셋 쿼리처럼 lastId 초과인 ID만 반환, 생성 시 받은 lastId 기록
+    private static KeysetCheckpointItemReader<Long, Long> reader(List<Long> startedAfter) {
+        return new KeysetCheckpointItemReader<>("test", id -> id, lastId -> {
+            startedAfter.add(lastId);
+            return new ListItemReader<>(IDS.stream().filter(id -> lastId == null || id > lastId).toList());
+        });
+    }
+
+    private static List<Long> readAll(ItemReader<Long> reader) throws Exception {
+        List<Long> items = new ArrayList<>();
+        Long item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Test
+    @DisplayName("커밋 시 마지막으로 읽은 키를 저장하고, 재시작 시 그 키 다음부터 읽어야 함")
+    void test1() throws Exception {
+        List<Long> startedAfter = new ArrayList<>();
+        ExecutionContext executionContext = new ExecutionContext();
+
+        KeysetCheckpointItemReader<Long, Long> first = reader(startedAfter);
+        first.open(executionContext);
+        first.read();
+        first.read();
+        first.update(executionContext);     // Chunk 커밋
+        first.read();                       // 커밋 전에 실패
+        first.close();
+
+        KeysetCheckpointItemReader<Long, Long> restarted = reader(startedAfter);
+        restarted.open(executionContext);
+
+        assertThat(readAll(restarted)).containsExactly(8L, 13L, 21L);
+        assertThat(startedAfter).containsExactly(null, 5L);
+        assertThat(executionContext.get("test.lastKey")).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("checkpoint barrier가 있으면 확정된 순번까지의 키만 저장해야 함")
+    void test2() throws Exception {
+        AtomicLong issued = new AtomicLong();
+        AtomicLong confirmed = new AtomicLong();
+        ExecutionContext executionContext = new ExecutionContext();
+
+        KeysetCheckpointItemReader<Long, Long> reader = reader(new ArrayList<>());
+        reader.setCheckpointBarrier(issued::get, confirmed::get);
+        reader.open(executionContext);
+
+        reader.read();
+        issued.set(1);                      // Chunk 1 발행
+        reader.update(executionContext);
+        assertThat(executionContext.containsKey("test.lastKey")).isFalse();
+
+        reader.read();
+        reader.read();
+        issued.set(2);                      // Chunk 2 발행
+        reader.update(executionContext);
+        assertThat(executionContext.containsKey("test.lastKey")).isFalse();
+
+        confirmed.set(1);                   // Chunk 1만 ACK
+        reader.update(executionContext);
+        assertThat(executionContext.get("test.lastKey")).isEqualTo(3L);
+
+        confirmed.set(2);
+        reader.update(executionContext);
+        assertThat(executionContext.get("test.lastKey")).isEqualTo(8L);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+
+class PrefetchingItemReaderTest {
+
+    // 1부터 last까지 반환, failAt 번째 호출에서 한 번 예외
+    private static ItemReader<Integer> counting(AtomicInteger calls, int last, int failAt) {
+        AtomicInteger next = new AtomicInteger(1);
+        return () -> {
+            if (calls.incrementAndGet() == failAt) {
+                throw new IllegalStateException("page fetch failed");
+            }
+            int value = next.getAndIncrement();
+            return (value <= last) ? value : null;
+        };
+    }
+
+    @Test
+    @DisplayName("위임 Reader의 순서 그대로 반환하고 마지막에 null을 반환해야 함")
+    void test1() throws Exception {
+        PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>(counting(new AtomicInteger(), 5, -1), "test", 2);
+        reader.open(new ExecutionContext());
+
+        List<Integer> items = new ArrayList<>();
+        Integer item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        reader.close();
+
+        assertThat(items).containsExactly(1, 2, 3, 4, 5);
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    @DisplayName("예외는 읽은 순서대로 전달되고, 다시 read() 호출 시 이어서 읽어야 함")
+    void test2() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>(counting(calls, 3, 3), "test", 10);
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read()).isEqualTo(1);
+        assertThat(reader.read()).isEqualTo(2);
+        assertThatThrownBy(reader::read).isInstanceOf(IllegalStateException.class).hasMessage("page fetch failed");
+
+        // 예외 이후에는 Step이 다시 읽기 전까지 위임 Reader를 호출하지 않음
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(calls.get()).isEqualTo(3);
+
+        assertThat(reader.read()).isEqualTo(3);
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    @Test
+    @DisplayName("버퍼 크기만큼만 미리 읽어야 함")
+    void test3() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>(counting(calls, 100, -1), "test", 2);
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read()).isEqualTo(1);
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // 소비 1건 + 버퍼 2건 + 버퍼 대기 중 1건
+        assertThat(calls.get()).isLessThanOrEqualTo(4);
+        reader.close();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+class HistoryOutboxJdbcRepositoryTest {
+
+    private static final String URL = "jdbc:h2:mem:historyoutbox;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private Connection first;
+    private Connection second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        first = DriverManager.getConnection(URL);
+        second = DriverManager.getConnection(URL);
+
+        JdbcTemplate setup = new JdbcTemplate(new SingleConnectionDataSource(first, true));
+        setup.execute("DROP TABLE IF EXISTS HistoryOutbox");
+        setup.execute("CREATE TABLE HistoryOutbox (outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "sink VARCHAR(50) NOT NULL, changed_at TIMESTAMP NOT NULL, payload CLOB NOT NULL)");
+
+        HistoryOutboxJdbcRepository repository = repository(first);
+        for (int i = 0; i < 3; i++) {
+            repository.append("sink", LocalDateTime.of(2025, 1, 1, 0, 0), "[" + i + "]");
+        }
+
+        first.setAutoCommit(false);
+        second.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        first.close();
+        second.close();
+    }
+
+    private static HistoryOutboxJdbcRepository repository(Connection connection) {
+        return new HistoryOutboxJdbcRepository(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+    }
+
+    private static List<Long> ids(List<HistoryOutboxJdbcRepository.Entry> entries) {
+        return entries.stream().map(HistoryOutboxJdbcRepository.Entry::outboxId).toList();
+    }
+
+    @Test
+    @DisplayName("다른 적재기가 잠근 묶음은 건너뛰고 다음 묶음을 가져와야 함")
+    void test1() throws Exception {
+        List<HistoryOutboxJdbcRepository.Entry> claimedByFirst = repository(first).claimOldest("sink", 1);
+        List<HistoryOutboxJdbcRepository.Entry> claimedBySecond = repository(second).claimOldest("sink", 10);
+
+        assertThat(ids(claimedByFirst)).hasSize(1);
+        assertThat(ids(claimedBySecond)).hasSize(2).doesNotContainAnyElementsOf(ids(claimedByFirst));
+
+        // 첫 적재기가 삭제 후 커밋하면 남은 건 두 번째 적재기가 잠근 묶음뿐
+        repository(first).delete(ids(claimedByFirst));
+        first.commit();
+        second.rollback();
+
+        assertThat(ids(repository(first).claimOldest("sink", 10))).containsExactlyElementsOf(ids(claimedBySecond));
+        first.rollback();
+    }
+
+}
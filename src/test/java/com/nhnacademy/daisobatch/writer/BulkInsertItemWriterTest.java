@@ -0,0 +1,118 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class BulkInsertItemWriterTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:bulkinsert;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    private record Row(long id, String name, LocalDateTime createdAt) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS BulkRows");
+        jdbcTemplate.execute("CREATE TABLE BulkRows (id BIGINT PRIMARY KEY, name VARCHAR(20), created_at TIMESTAMP)");
+    }
+
+    private BulkInsertItemWriter<Row> writer(BulkInsertMode mode, boolean ignore) {
+        return BulkInsertItemWriter.<Row>builder()
+                .dataSource(dataSource)
+                .table("BulkRows")
+                .columns(List.of("id", "name", "created_at"))
+                .valuesMapper(row -> new Object[]{row.id(), row.name(), row.createdAt()})
+                .ignore(ignore)
+                .mode(mode)
+                .rowsPerStatement(2)
+                .build();
+    }
+
+    private Chunk<Row> rows(long... ids) {
+        Chunk<Row> chunk = new Chunk<>();
+        for (long id : ids) {
+            chunk.add(new Row(id, "name-" + id, LocalDateTime.now()));
+        }
+        return chunk;
+    }
+
+    @Test
+    @DisplayName("MULTI_VALUES 모드는 rowsPerStatement 단위로 나눠 마지막 자투리 행까지 모두 적재해야 함")
+    void test1() throws Exception {
+        writer(BulkInsertMode.MULTI_VALUES, false).write(rows(1, 2, 3, 4, 5));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BulkRows", Integer.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM BulkRows WHERE id = 5", String.class))
+                .isEqualTo("name-5");
+    }
+
+    @Test
+    @DisplayName("ignore 설정 시 이미 존재하는 키는 건너뛰고 나머지만 적재해야 함")
+    void test2() throws Exception {
+        jdbcTemplate.update("INSERT INTO BulkRows (id, name) VALUES (2, 'existing')");
+
+        writer(BulkInsertMode.MULTI_VALUES, true).write(rows(1, 2, 3));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BulkRows", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM BulkRows WHERE id = 2", String.class))
+                .isEqualTo("existing");
+    }
+
+    @Test
+    @DisplayName("JDBC_BATCH 모드도 동일하게 적재해야 함")
+    void test3() throws Exception {
+        writer(BulkInsertMode.JDBC_BATCH, false).write(rows(1, 2, 3));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BulkRows", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("JDBC_BATCH 모드에 statementSetter가 있으면 값 배열 대신 위치 기반 바인딩으로 적재해야 함")
+    void test4() throws Exception {
+        BulkInsertItemWriter<Row> writer = BulkInsertItemWriter.<Row>builder()
+                .dataSource(dataSource)
+                .table("BulkRows")
+                .columns(List.of("id", "name", "created_at"))
+                .valuesMapper(row -> {
+                    throw new AssertionError("JDBC_BATCH + statementSetter에서는 값 배열을 만들지 않아야 함");
+                })
+                .statementSetter((row, ps) -> {
+                    ps.setLong(1, row.id());
+                    ps.setString(2, row.name());
+                    ps.setObject(3, row.createdAt());
+                })
+                .mode(BulkInsertMode.JDBC_BATCH)
+                .build();
+
+        writer.write(rows(1, 2, 3));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BulkRows", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM BulkRows WHERE id = 3", String.class))
+                .isEqualTo("name-3");
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.dto.LongIdBlock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class LongIdInsertItemWriterTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:longidinsert;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS Coupons");
+        jdbcTemplate.execute("CREATE TABLE Coupons (user_id BIGINT, policy_id BIGINT, status VARCHAR(20), " +
+                "PRIMARY KEY (user_id, policy_id))");
+    }
+
+    private LongIdInsertItemWriter writer() {
+        Map<String, Object> constants = new LinkedHashMap<>();
+        constants.put("policy_id", 4L);
+        constants.put("status", "ISSUED");
+
+        return LongIdInsertItemWriter.builder()
+                .dataSource(dataSource)
+                .table("Coupons")
+                .idColumn("user_id")
+                .constants(constants)
+                .ignore(true)
+                .rowsPerStatement(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("블록의 ID마다 고정 값과 함께 한 행씩 적재하고, 배열 뒤쪽 여유 공간은 무시해야 함")
+    void test1() throws Exception {
+        writer().write(Chunk.of(new LongIdBlock(new long[]{1, 2, 3, 0, 0}, 3)));
+
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM Coupons ORDER BY user_id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Coupons WHERE policy_id = 4 AND status = 'ISSUED'", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ignore 설정 시 이미 발급된 ID는 건너뛰고 나머지만 적재해야 함")
+    void test2() throws Exception {
+        jdbcTemplate.update("INSERT INTO Coupons (user_id, policy_id, status) VALUES (2, 4, 'USED')");
+
+        writer().write(Chunk.of(new LongIdBlock(new long[]{1, 2, 3}, 3)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Coupons", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM Coupons WHERE user_id = 2", String.class))
+                .isEqualTo("USED");
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+package com.nhnacademy.daisobatch.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.daisobatch.type.BulkInsertMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+class StagingMergeItemWriterTest {
+
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    // 임시 테이블은 세션 단위 > Chunk 트랜잭션처럼 같은 커넥션을 계속 사용
+    private final SingleConnectionDataSource dataSource =
+            new SingleConnectionDataSource("jdbc:h2:mem:stagingmerge;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    private record Change(long id, long gradeId) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS Members");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS MemberHistories");
+        jdbcTemplate.execute("CREATE TABLE Members (id BIGINT PRIMARY KEY, grade_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE MemberHistories (id BIGINT, grade_id BIGINT, changed_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO Members VALUES (1, 1), (2, 1), (3, 1)");
+    }
+
+    // H2는 UPDATE ... JOIN을 지원하지 않아 MERGE ... USING으로 같은 집합 단위 반영을 확인
+    private StagingMergeItemWriter<Change> writer() {
+        return StagingMergeItemWriter.<Change>builder()
+                .dataSource(dataSource)
+                .stagingTable("tmp_member_change")
+                .columnDefinitions(List.of("id BIGINT PRIMARY KEY", "grade_id BIGINT"))
+                .valuesMapper(change -> new Object[]{change.id(), change.gradeId()})
+                .mergeStatements(List.of(
+                        "MERGE INTO Members m USING tmp_member_change t ON (m.id = t.id) " +
+                                "WHEN MATCHED THEN UPDATE SET m.grade_id = t.grade_id",
+                        "INSERT INTO MemberHistories (id, grade_id, changed_at) " +
+                                "SELECT t.id, t.grade_id, :changedAt FROM tmp_member_change t"))
+                .parameters(Map.of("changedAt", CHANGED_AT))
+                .mode(BulkInsertMode.MULTI_VALUES)
+                .rowsPerStatement(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Chunk를 임시 테이블에 적재 후 상태 변경 / 이력 저장을 집합 단위로 반영")
+    void test1() throws Exception {
+        writer().write(new Chunk<>(List.of(new Change(1, 2), new Change(3, 4))));
+
+        assertThat(jdbcTemplate.queryForList("SELECT grade_id FROM Members ORDER BY id", Long.class))
+                .containsExactly(2L, 1L, 4L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM MemberHistories ORDER BY id", Long.class))
+                .containsExactly(1L, 3L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM MemberHistories WHERE changed_at = ?", Long.class, CHANGED_AT))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다음 Chunk는 임시 테이블을 비우고 사용 > 이전 Chunk 행이 다시 반영되지 않음")
+    void test2() throws Exception {
+        StagingMergeItemWriter<Change> writer = writer();
+
+        writer.write(new Chunk<>(List.of(new Change(1, 2))));
+        writer.write(new Chunk<>(List.of(new Change(2, 3))));
+
+        assertThat(jdbcTemplate.queryForList("SELECT grade_id FROM Members ORDER BY id", Long.class))
+                .containsExactly(2L, 3L, 1L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM MemberHistories ORDER BY id", Long.class))
+                .containsExactly(1L, 2L);
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+INSERT INTO Statuses (status_id, status_name)
+VALUES (1, 'ACTIVE'),
+       (2, 'DORMANT');
+
+INSERT INTO coupon_policies (coupon_policy_id, coupon_policy_name, coupon_type, discount_way, policy_status)
+VALUES (4, '생일 쿠폰', 'BIRTHDAY', 'FIXED', 'ACTIVE');
+
+-- 발급 대상(5월 생일 + ACTIVE + 미발급): 1, 6
+-- 2: 휴면 계정 / 3: 6월 생일 / 4: 이미 발급 / 5: 생일 없음
+INSERT INTO Users (user_created_id, birth)
+VALUES (1, DATE '1990-05-01'),
+       (2, DATE '1991-05-15'),
+       (3, DATE '1992-06-01'),
+       (4, DATE '1993-05-20'),
+       (5, NULL),
+       (6, DATE '1994-05-31');
+
+INSERT INTO Accounts (login_id, user_created_id, current_status_id)
+VALUES ('user1', 1, 1),
+       ('user2', 2, 2),
+       ('user3', 3, 1),
+       ('user4', 4, 1),
+       ('user5', 5, 1),
+       ('user6', 6, 1);
+
+INSERT INTO user_coupons (coupon_policy_id, user_created_id, status, issue_at, expiry_at)
+VALUES (4, 4, 'ISSUED', DATEADD('DAY', -1, CURRENT_TIMESTAMP), DATEADD('DAY', 30, CURRENT_TIMESTAMP));
@@ -0,0 +1,74 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+SET REFERENTIAL_INTEGRITY FALSE;
+
+DROP TABLE IF EXISTS user_coupons CASCADE;
+DROP TABLE IF EXISTS coupon_policies CASCADE;
+DROP TABLE IF EXISTS AccountStatusHistories CASCADE;
+DROP TABLE IF EXISTS Accounts CASCADE;
+DROP TABLE IF EXISTS Users CASCADE;
+DROP TABLE IF EXISTS Statuses CASCADE;
+
+CREATE TABLE Statuses (
+    status_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status_name VARCHAR(10) NOT NULL
+);
+
+-- birth_month / birth_month_day: sql/user/birth-month-index-schema.sql의 생성 컬럼
+CREATE TABLE Users (
+    user_created_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    birth           DATE,
+    birth_month     INT GENERATED ALWAYS AS (MONTH(birth)),
+    birth_month_day INT GENERATED ALWAYS AS (MONTH(birth) * 100 + DAY_OF_MONTH(birth))
+);
+
+CREATE INDEX idx_users_birth_month ON Users (birth_month, user_created_id);
+CREATE INDEX idx_users_birth_month_day ON Users (birth_month_day, user_created_id);
+
+CREATE TABLE Accounts (
+    login_id           VARCHAR(50) PRIMARY KEY,
+    user_created_id    BIGINT NOT NULL,
+    last_login_at      TIMESTAMP NULL,
+    current_status_id  BIGINT NOT NULL DEFAULT 1,
+    FOREIGN KEY (user_created_id) REFERENCES Users(user_created_id),
+    FOREIGN KEY (current_status_id) REFERENCES Statuses(status_id)
+);
+
+CREATE TABLE coupon_policies (
+    coupon_policy_id    BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_policy_name  VARCHAR(100),
+    coupon_type         VARCHAR(20) NOT NULL,
+    discount_way        VARCHAR(20) NOT NULL,
+    discount_amount     DECIMAL(10, 2),
+    min_order_amount    BIGINT,
+    max_discount_amount BIGINT,
+    valid_days          INT,
+    valid_start_date    TIMESTAMP,
+    valid_end_date      TIMESTAMP,
+    quantity            INT,
+    policy_status       VARCHAR(20)
+);
+
+CREATE TABLE user_coupons (
+    user_coupon_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_policy_id BIGINT      NOT NULL,
+    user_created_id  BIGINT      NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    used_at          TIMESTAMP,
+    issue_at         TIMESTAMP   NOT NULL,
+    expiry_at        TIMESTAMP   NOT NULL,
+    CONSTRAINT uk_user_coupons_user_policy UNIQUE (user_created_id, coupon_policy_id),
+    FOREIGN KEY (coupon_policy_id) REFERENCES coupon_policies (coupon_policy_id)
+);
+
+SET REFERENTIAL_INTEGRITY TRUE;
@@ -0,0 +1,26 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+INSERT INTO coupon_policies (coupon_policy_id, coupon_policy_name, coupon_type, discount_way, policy_status)
+VALUES (1, '웰컴 쿠폰', 'WELCOME', 'FIXED', 'ACTIVE'),
+       (2, '생일 쿠폰', 'BIRTHDAY', 'FIXED', 'ACTIVE');
+
+-- 만료 대상: 1, 3, 5, 6 (ISSUED + 만료일 지남)
+-- 2: 만료일 안 지남 / 4: 이미 사용한 쿠폰
+INSERT INTO user_coupons (user_coupon_id, coupon_policy_id, user_created_id, status, used_at, issue_at, expiry_at)
+VALUES (1, 1, 1, 'ISSUED', NULL, DATEADD('DAY', -30, CURRENT_TIMESTAMP), DATEADD('DAY', -1, CURRENT_TIMESTAMP)),
+       (2, 1, 2, 'ISSUED', NULL, DATEADD('DAY', -30, CURRENT_TIMESTAMP), DATEADD('DAY', 1, CURRENT_TIMESTAMP)),
+       (3, 2, 1, 'ISSUED', NULL, DATEADD('DAY', -30, CURRENT_TIMESTAMP), DATEADD('DAY', -1, CURRENT_TIMESTAMP)),
+       (4, 1, 3, 'USED', DATEADD('DAY', -10, CURRENT_TIMESTAMP), DATEADD('DAY', -30, CURRENT_TIMESTAMP),
+        DATEADD('DAY', -1, CURRENT_TIMESTAMP)),
+       (5, 2, 2, 'ISSUED', NULL, DATEADD('DAY', -30, CURRENT_TIMESTAMP), DATEADD('DAY', -2, CURRENT_TIMESTAMP)),
+       (6, 1, 4, 'ISSUED', NULL, DATEADD('DAY', -30, CURRENT_TIMESTAMP), DATEADD('DAY', -3, CURRENT_TIMESTAMP));
@@ -0,0 +1,44 @@
+/*
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ * + Copyright 2025. NHN Academy Corp. All rights reserved.
+ * + * While every precaution has been taken in the preparation of this resource,  assumes no
+ * + responsibility for errors or omissions, or for damages resulting from the use of the information
+ * + contained herein
+ * + No part of this resource may be reproduced, stored in a retrieval system, or transmitted, in any
+ * + form or by any means, electronic, mechanical, photocopying, recording, or otherwise, without the
+ * + prior written permission.
+ * +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+ */
+
+SET REFERENTIAL_INTEGRITY FALSE;
+
+DROP TABLE IF EXISTS user_coupons CASCADE;
+DROP TABLE IF EXISTS coupon_policies CASCADE;
+
+CREATE TABLE coupon_policies (
+    coupon_policy_id    BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_policy_name  VARCHAR(100),
+    coupon_type         VARCHAR(20) NOT NULL,
+    discount_way        VARCHAR(20) NOT NULL,
+    discount_amount     DECIMAL(10, 2),
+    min_order_amount    BIGINT,
+    max_discount_amount BIGINT,
+    valid_days          INT,
+    valid_start_date    TIMESTAMP,
+    valid_end_date      TIMESTAMP,
+    quantity            INT,
+    policy_status       VARCHAR(20)
+);
+
+CREATE TABLE user_coupons (
+    user_coupon_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_policy_id BIGINT      NOT NULL,
+    user_created_id  BIGINT      NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    used_at          TIMESTAMP,
+    issue_at         TIMESTAMP   NOT NULL,
+    expiry_at        TIMESTAMP   NOT NULL,
+    FOREIGN KEY (coupon_policy_id) REFERENCES coupon_policies (coupon_policy_id)
+);
+
+SET REFERENTIAL_INTEGRITY TRUE;
@@ -12,6 +12,7 @@
 
 SET REFERENTIAL_INTEGRITY FALSE;
 
+DROP TABLE IF EXISTS HistoryOutbox CASCADE;
 DROP TABLE IF EXISTS AccountStatusHistories CASCADE;
 DROP TABLE IF EXISTS Accounts CASCADE;
 DROP TABLE IF EXISTS Users CASCADE;
@@ -44,4 +45,12 @@ CREATE TABLE AccountStatusHistories (
     FOREIGN KEY (status_id) REFERENCES Statuses(status_id)
 );
 
+-- 이력 write-behind 테이블
+CREATE TABLE HistoryOutbox (
+    outbox_id  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sink       VARCHAR(50) NOT NULL,
+    changed_at TIMESTAMP   NOT NULL,
+    payload    CLOB        NOT NULL
+);
+
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file
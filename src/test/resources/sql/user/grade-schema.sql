@@ -1,5 +1,8 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 
+DROP TABLE IF EXISTS HistoryOutbox CASCADE;
+DROP TABLE IF EXISTS BatchWatermarks CASCADE;
+DROP TABLE IF EXISTS UserDailySpends CASCADE;
 DROP TABLE IF EXISTS UserGradeHistories CASCADE;
 DROP TABLE IF EXISTS OrderDetails CASCADE;
 DROP TABLE IF EXISTS Orders CASCADE;
@@ -75,4 +78,25 @@ CREATE TABLE UserGradeHistories (
     FOREIGN KEY (grade_id) REFERENCES Grades(grade_id)
 );
 
+-- 5. 증분 집계 테이블
+CREATE TABLE UserDailySpends (
+    user_created_id BIGINT NOT NULL,
+    spend_date      DATE   NOT NULL,
+    amount          BIGINT NOT NULL,
+    PRIMARY KEY (user_created_id, spend_date)
+);
+
+CREATE TABLE BatchWatermarks (
+    watermark_name VARCHAR(50) PRIMARY KEY,
+    watermark_at   TIMESTAMP NOT NULL
+);
+
+-- 이력 write-behind 테이블
+CREATE TABLE HistoryOutbox (
+    outbox_id  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sink       VARCHAR(50) NOT NULL,
+    changed_at TIMESTAMP   NOT NULL,
+    payload    CLOB        NOT NULL
+);
+
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file